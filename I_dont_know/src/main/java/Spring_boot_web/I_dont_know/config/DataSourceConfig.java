@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import Spring_boot_web.I_dont_know.persistence.routing.DataSourceRoutingStatistics;
+import Spring_boot_web.I_dont_know.persistence.routing.ReadOnlyRoutingDataSource;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+
+/**
+ * Data source configuration, routing the read-only transactions to a replica. Only applied when the replica URL is
+ * set, otherwise the Spring Boot data source is used.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class DataSourceConfig {
+
+    /**
+     * Default constructor.
+     */
+    public DataSourceConfig() {
+        super();
+    }
+
+    @Bean("dataSource")
+    @Primary
+    public DataSource getDataSource(@Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica,
+            final DataSourceRoutingStatistics dataSourceRoutingStatistics) {
+        // The connection is taken on the first statement, after the transaction is flagged as read-only
+        return new LazyConnectionDataSourceProxy(
+            new ReadOnlyRoutingDataSource(primary, replica, dataSourceRoutingStatistics));
+    }
+
+    @Bean("dataSourceRoutingStatistics")
+    public DataSourceRoutingStatistics getDataSourceRoutingStatistics(
+            @Qualifier("replicaDataSource") final DataSource replica,
+            @Value("${datasource.replica.lag-query:}") final String lagQuery) {
+        return new DataSourceRoutingStatistics(new JdbcTemplate(replica), lagQuery);
+    }
+
+    @Bean("primaryDataSource")
+    @LiquibaseDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource getPrimaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean("replicaDataSource")
+    public HikariDataSource getReplicaDataSource(final ResourceLoader resourceLoader,
+            @Value("${datasource.replica.url}") final String url,
+            @Value("${datasource.replica.username:sa}") final String username,
+            @Value("${datasource.replica.password:}") final String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") final Integer maxPoolSize,
+            @Value("${datasource.replica.initialize:false}") final Boolean initialize,
+            @Value("${spring.liquibase.change-log:classpath:/db/changelog/db.changelog-master.yaml}")
+            final String changeLog) throws LiquibaseException {
+        final HikariDataSource dataSource;
+        final SpringLiquibase  liquibase;
+
+        dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maxPoolSize);
+
+        if (initialize) {
+            // There is no replication between local databases, so the replica gets its own schema and data
+            liquibase = new SpringLiquibase();
+            liquibase.setDataSource(dataSource);
+            liquibase.setChangeLog(changeLog);
+            liquibase.setResourceLoader(resourceLoader);
+            liquibase.afterPropertiesSet();
+        }
+
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReaderFactory;
+import Spring_boot_web.I_dont_know.importing.service.ChunkedEntityImportService;
+import Spring_boot_web.I_dont_know.importing.service.EntityNameValidator;
+import Spring_boot_web.I_dont_know.importing.service.EntityImportService;
+
+/**
+ * Import configuration.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Configuration
+public class ImportConfig {
+
+    /**
+     * Default constructor.
+     */
+    public ImportConfig() {
+        super();
+    }
+
+    @Bean("entityImportService")
+    public EntityImportService getEntityImportService(final ExampleEntityService service,
+            final EntityNameValidator entityNameValidator, @Value("${import.chunk-size:1000}") final Integer chunkSize,
+            @Value("${import.max-errors:1000}") final Integer maxErrors) {
+        return new ChunkedEntityImportService(service, entityNameValidator, chunkSize, maxErrors);
+    }
+
+    @Bean("entityNameValidator")
+    public EntityNameValidator getEntityNameValidator(final ExampleEntityRepository repository) {
+        return new EntityNameValidator(repository);
+    }
+
+    @Bean("entityRowReaderFactory")
+    public EntityRowReaderFactory getEntityRowReaderFactory(final ObjectMapper objectMapper) {
+        return new EntityRowReaderFactory(objectMapper);
+    }
+
+}
@@ -24,10 +24,47 @@
 
 package Spring_boot_web.I_dont_know.config;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.service.DefaultExampleEntityService;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.domain.service.PrefetchingExampleEntityService;
+import Spring_boot_web.I_dont_know.pagination.argument.JpaSortPropertyRegistry;
+import Spring_boot_web.I_dont_know.pagination.argument.SortPropertyRegistry;
+import Spring_boot_web.I_dont_know.pagination.count.CountCache;
+import Spring_boot_web.I_dont_know.pagination.count.InMemoryCountCache;
+import Spring_boot_web.I_dont_know.pagination.count.JdbcRowEstimator;
+import Spring_boot_web.I_dont_know.pagination.count.RowEstimator;
+import Spring_boot_web.I_dont_know.pagination.prefetch.PagePrefetcher;
+import Spring_boot_web.I_dont_know.pagination.prefetch.PrefetchStatistics;
+import Spring_boot_web.I_dont_know.persistence.cache.CaffeineCacheStatistics;
+import Spring_boot_web.I_dont_know.persistence.cache.DelegatingCacheLoader;
+import Spring_boot_web.I_dont_know.persistence.cache.SecondLevelCacheStatistics;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersionTracker;
+import Spring_boot_web.I_dont_know.persistence.version.InMemoryEntityVersionTracker;
+
 /**
  * Persistence configuration.
  *
@@ -42,4 +79,90 @@ public class PersistenceConfig {
         super();
     }
 
+    @Bean("cacheManager")
+    public CacheManager getCacheManager(final DelegatingCacheLoader pageCacheLoader,
+            @Value("${cache.default.spec:maximumSize=1000,expireAfterWrite=10m}") final String defaultSpec,
+            @Value("${cache.entity-pages.spec:maximumSize=500,expireAfterWrite=60s,refreshAfterWrite=20s}")
+            final String pageSpec) {
+        final CaffeineCacheManager cacheManager;
+
+        cacheManager = new CaffeineCacheManager();
+        // Caches not registered below are created on demand from the default spec
+        cacheManager.setCaffeine(Caffeine.from(defaultSpec)
+            .recordStats());
+        // Built with a loader, so it can be refreshed ahead of expiring
+        cacheManager.registerCustomCache(DefaultExampleEntityService.PAGE_CACHE, Caffeine.from(pageSpec)
+            .recordStats()
+            .build(pageCacheLoader));
+
+        return cacheManager;
+    }
+
+    @Bean("cacheStatistics")
+    public CaffeineCacheStatistics getCacheStatistics(final CacheManager cacheManager) {
+        return new CaffeineCacheStatistics(cacheManager);
+    }
+
+    @Bean("countCache")
+    public CountCache getCountCache(@Value("${pagination.count.ttl:60s}") final Duration ttl) {
+        return new InMemoryCountCache(ttl);
+    }
+
+    @Bean("entityVersionTracker")
+    public EntityVersionTracker getEntityVersionTracker() {
+        return new InMemoryEntityVersionTracker();
+    }
+
+    @Bean("pageCacheLoader")
+    public DelegatingCacheLoader getPageCacheLoader() {
+        return new DelegatingCacheLoader();
+    }
+
+    @Bean(name = "pagePrefetcher", destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "pagination.prefetch.enabled", havingValue = "true")
+    public PagePrefetcher<PersistentExampleEntity> getPagePrefetcher(final PrefetchStatistics prefetchStatistics,
+            @Value("${pagination.prefetch.threads:2}") final Integer threads,
+            @Value("${pagination.prefetch.queue:32}") final Integer queue,
+            @Value("${pagination.prefetch.max-pages:256}") final Integer maxPages,
+            @Value("${pagination.prefetch.ttl:10s}") final Duration ttl) {
+        final ThreadPoolExecutor executor;
+
+        // Not a bean, otherwise it would replace the default task executor
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queue), new CustomizableThreadFactory("prefetch-"));
+
+        return new PagePrefetcher<>(PersistentExampleEntity.class, executor, maxPages, ttl, prefetchStatistics);
+    }
+
+    @Bean("prefetchingExampleEntityService")
+    @Primary
+    @ConditionalOnProperty(name = "pagination.prefetch.enabled", havingValue = "true")
+    public ExampleEntityService getPrefetchingExampleEntityService(final DefaultExampleEntityService service,
+            final PagePrefetcher<PersistentExampleEntity> pagePrefetcher) {
+        return new PrefetchingExampleEntityService(service, pagePrefetcher);
+    }
+
+    @Bean("prefetchStatistics")
+    @ConditionalOnProperty(name = "pagination.prefetch.enabled", havingValue = "true")
+    public PrefetchStatistics getPrefetchStatistics() {
+        return new PrefetchStatistics();
+    }
+
+    @Bean("rowEstimator")
+    public RowEstimator getRowEstimator(final DataSource dataSource,
+            @Value("${pagination.count.estimate-threshold:1000000}") final Long threshold) {
+        return new JdbcRowEstimator(new JdbcTemplate(dataSource), threshold);
+    }
+
+    @Bean("secondLevelCacheStatistics")
+    public SecondLevelCacheStatistics getSecondLevelCacheStatistics(final EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheStatistics(entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics());
+    }
+
+    @Bean("sortPropertyRegistry")
+    public SortPropertyRegistry getSortPropertyRegistry(final EntityManagerFactory entityManagerFactory) {
+        return new JpaSortPropertyRegistry(entityManagerFactory.getMetamodel());
+    }
+
 }
@@ -24,12 +24,45 @@
 
 package Spring_boot_web.I_dont_know.config;
 
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import javax.servlet.Filter;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
 
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.zaxxer.hikari.HikariDataSource;
+
+import Spring_boot_web.I_dont_know.pagination.argument.PageQueryArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.argument.PaginationArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.argument.SortArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.query.PageQueryCache;
+import Spring_boot_web.I_dont_know.pagination.size.ConnectionPoolSaturation;
+import Spring_boot_web.I_dont_know.pagination.size.LoadAwarePageSizeLimiter;
+import Spring_boot_web.I_dont_know.pagination.size.PageLoadFilter;
+import Spring_boot_web.I_dont_know.pagination.size.PageLoadTracker;
+import Spring_boot_web.I_dont_know.pagination.size.PageSizeLimiter;
+import Spring_boot_web.I_dont_know.pagination.size.PageSizeLimits;
+import Spring_boot_web.I_dont_know.response.cache.ResponseCacheFilter;
+import Spring_boot_web.I_dont_know.response.cache.SerializedResponseCache;
+import Spring_boot_web.I_dont_know.response.compression.CompressionFilter;
+import Spring_boot_web.I_dont_know.response.compression.CompressionStatistics;
+import Spring_boot_web.I_dont_know.response.compression.PrecompressedCache;
 
 /**
  * Request configuration.
@@ -47,13 +80,116 @@ public class RequestConfig {
         super();
     }
 
+    @Bean("blackbirdModule")
+    public Module getBlackbirdModule() {
+        // Spring Boot registers it into all the mappers, replacing reflection with generated accessors
+        return new BlackbirdModule();
+    }
+
+    @Bean("cborHttpMessageConverter")
+    public HttpMessageConverter<Object> getCborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        // Replaces the default converter, keeping the Spring Boot Jackson configuration
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory())
+            .build());
+    }
+
+    @Bean("compressionFilter")
+    @ConditionalOnProperty(name = "response.compression.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<Filter> getCompressionFilter(final CompressionStatistics compressionStatistics,
+            @Value("${response.compression.min-size:2KB}") final DataSize minSize,
+            @Value("${response.compression.cache.max-entries:256}") final Integer maxEntries,
+            @Value("${response.compression.cache.max-bytes:16MB}") final DataSize maxBytes) {
+        final FilterRegistrationBean<Filter> registration;
+
+        registration = new FilterRegistrationBean<>(new CompressionFilter((int) minSize.toBytes(),
+            new PrecompressedCache(maxEntries, maxBytes.toBytes()), compressionStatistics));
+        // Wraps the page load filter, so the page sizes are recorded before compressing
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+
+        return registration;
+    }
+
+    @Bean("compressionStatistics")
+    @ConditionalOnProperty(name = "response.compression.enabled", havingValue = "true", matchIfMissing = true)
+    public CompressionStatistics getCompressionStatistics() {
+        return new CompressionStatistics();
+    }
+
+    @Bean("pageLoadFilter")
+    public Filter getPageLoadFilter(final PageLoadTracker pageLoadTracker) {
+        return new PageLoadFilter(pageLoadTracker);
+    }
+
+    @Bean("pageLoadTracker")
+    public PageLoadTracker getPageLoadTracker() {
+        return new PageLoadTracker();
+    }
+
+    @Bean("pageQueryArgumentResolver")
+    public PageQueryArgumentResolver getPageQueryArgumentResolver(
+            final PaginationArgumentResolver paginationArgumentResolver,
+            final SortArgumentResolver sortArgumentResolver, final PageQueryCache pageQueryCache) {
+        // Shares the resolvers registered on their own, so the page query uses the same limits and caches
+        return new PageQueryArgumentResolver(paginationArgumentResolver, sortArgumentResolver, pageQueryCache);
+    }
+
+    @Bean("pageQueryCache")
+    public PageQueryCache getPageQueryCache(
+            @Value("${pagination.query.cache.max-queries:1024}") final Integer maxQueries,
+            @Value("${pagination.query.cache.max-page:16}") final Integer maxPage) {
+        return new PageQueryCache(maxQueries, maxPage);
+    }
+
+    @Bean("pageSizeLimiter")
+    public PageSizeLimiter getPageSizeLimiter(final PageLoadTracker pageLoadTracker,
+            final ObjectProvider<HikariDataSource> pools,
+            @Value("${pagination.size.max:100}") final Integer maxSize,
+            @Value("${pagination.size.max-bytes:1MB}") final DataSize maxBytes,
+            @Value("${pagination.size.adaptive:false}") final Boolean adaptive,
+            @Value("${pagination.size.min:10}") final Integer minSize,
+            @Value("${pagination.size.latency-threshold:500ms}") final Duration latencyThreshold,
+            @Value("${pagination.size.saturation-threshold:0.8}") final Double saturationThreshold) {
+        final PageSizeLimits limits;
+
+        limits = new PageSizeLimits();
+        limits.setMaxSize(maxSize);
+        limits.setMaxBytes(maxBytes.toBytes());
+        limits.setAdaptive(adaptive);
+        limits.setMinSize(minSize);
+        limits.setLatencyThreshold(latencyThreshold);
+        limits.setSaturationThreshold(saturationThreshold);
+
+        // Reads the pools themselves, which with a read replica are both the primary and the replica
+        return new LoadAwarePageSizeLimiter(limits, pageLoadTracker, new ConnectionPoolSaturation(pools.stream()
+            .collect(Collectors.toList())));
+    }
+
     @Bean("paginationArgumentResolver")
-    public HandlerMethodArgumentResolver getPaginationArgumentResolver() {
-        return new PaginationArgumentResolver();
+    public PaginationArgumentResolver getPaginationArgumentResolver(final PageSizeLimiter pageSizeLimiter) {
+        return new PaginationArgumentResolver(pageSizeLimiter);
+    }
+
+    @Bean("responseCacheFilter")
+    public Filter getResponseCacheFilter(final SerializedResponseCache serializedResponseCache) {
+        return new ResponseCacheFilter(serializedResponseCache);
+    }
+
+    @Bean("serializedResponseCache")
+    public SerializedResponseCache getSerializedResponseCache(
+            @Value("${response.cache.max-bytes:32MB}") final DataSize maxBytes,
+            @Value("${response.cache.ttl:60s}") final Duration ttl) {
+        return new SerializedResponseCache(maxBytes.toBytes(), ttl);
+    }
+
+    @Bean("smileHttpMessageConverter")
+    public HttpMessageConverter<Object> getSmileHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        // Replaces the default converter, keeping the Spring Boot Jackson configuration
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory())
+            .build());
     }
 
     @Bean("sortArgumentResolver")
-    public HandlerMethodArgumentResolver getSortArgumentResolver() {
+    public SortArgumentResolver getSortArgumentResolver() {
         return new SortArgumentResolver();
     }
 
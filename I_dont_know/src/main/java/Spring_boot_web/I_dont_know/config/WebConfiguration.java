@@ -29,10 +29,19 @@ import java.util.List;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import Spring_boot_web.I_dont_know.pagination.argument.PageQueryArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.argument.PaginationArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.argument.SortArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.argument.SortPropertyRegistry;
+import Spring_boot_web.I_dont_know.pagination.argument.SortValidationInterceptor;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersionTracker;
+import Spring_boot_web.I_dont_know.projection.argument.FieldsetArgumentResolver;
+import Spring_boot_web.I_dont_know.response.cache.ResponseCacheInterceptor;
+import Spring_boot_web.I_dont_know.response.cache.SerializedResponseCache;
+import Spring_boot_web.I_dont_know.response.conditional.ConditionalGetInterceptor;
 
 /**
  * Web configuration.
@@ -43,16 +52,77 @@ import Spring_boot_web.I_dont_know.pagination.argument.SortArgumentResolver;
 public class WebConfiguration implements WebMvcConfigurer {
 
     /**
-     * Default constructor.
+     * Tracker for the entity versions.
      */
-    public WebConfiguration() {
+    private final EntityVersionTracker       entityVersionTracker;
+
+    /**
+     * Fieldset argument resolver.
+     */
+    private final FieldsetArgumentResolver   fieldsetResolver;
+
+    /**
+     * Pagination argument resolver.
+     */
+    private final PaginationArgumentResolver paginationResolver;
+
+    /**
+     * Page query argument resolver, shared with the response cache.
+     */
+    private final PageQueryArgumentResolver  pageQueryResolver;
+
+    /**
+     * Cache for the serialized responses.
+     */
+    private final SerializedResponseCache    serializedResponseCache;
+
+    /**
+     * Registry with the valid sort properties.
+     */
+    private final SortPropertyRegistry       sortPropertyRegistry;
+
+    /**
+     * Sort argument resolver.
+     */
+    private final SortArgumentResolver       sortResolver;
+
+    /**
+     * Builds the web configuration.
+     *
+     * @param registry
+     *            registry with the valid sort properties
+     * @param pgResolver
+     *            pagination argument resolver
+     * @param srtResolver
+     *            sort argument resolver
+     * @param queryResolver
+     *            page query argument resolver
+     * @param versionTracker
+     *            tracker for the entity versions
+     * @param responseCache
+     *            cache for the serialized responses
+     */
+    public WebConfiguration(final SortPropertyRegistry registry, final PaginationArgumentResolver pgResolver,
+            final SortArgumentResolver srtResolver, final PageQueryArgumentResolver queryResolver,
+            final EntityVersionTracker versionTracker, final SerializedResponseCache responseCache) {
         super();
+
+        sortPropertyRegistry = registry;
+        entityVersionTracker = versionTracker;
+        serializedResponseCache = responseCache;
+
+        paginationResolver = pgResolver;
+        sortResolver = srtResolver;
+        pageQueryResolver = queryResolver;
+        fieldsetResolver = new FieldsetArgumentResolver();
     }
 
     @Override
     public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> argumentResolvers) {
-        argumentResolvers.add(new PaginationArgumentResolver());
-        argumentResolvers.add(new SortArgumentResolver());
+        argumentResolvers.add(paginationResolver);
+        argumentResolvers.add(sortResolver);
+        argumentResolvers.add(pageQueryResolver);
+        argumentResolvers.add(fieldsetResolver);
     }
 
     @Override
@@ -60,4 +130,12 @@ public class WebConfiguration implements WebMvcConfigurer {
         registry.addMapping("/**");
     }
 
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new SortValidationInterceptor(sortPropertyRegistry));
+        registry.addInterceptor(new ConditionalGetInterceptor(entityVersionTracker));
+        registry.addInterceptor(
+            new ResponseCacheInterceptor(serializedResponseCache, pageQueryResolver, entityVersionTracker));
+    }
+
 }
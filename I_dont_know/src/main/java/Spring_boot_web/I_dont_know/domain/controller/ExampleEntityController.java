@@ -24,16 +24,36 @@
 
 package Spring_boot_web.I_dont_know.domain.controller;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
 import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
 import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
-import Spring_boot_web.I_dont_know.pagination.model.Pagination;
-import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.importing.model.RowError;
+import Spring_boot_web.I_dont_know.importing.service.EntityNameValidator;
+import Spring_boot_web.I_dont_know.importing.service.InvalidEntitiesException;
+import Spring_boot_web.I_dont_know.pagination.argument.Sortable;
+import Spring_boot_web.I_dont_know.pagination.count.EstimatedCount;
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.projection.argument.Projectable;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+import Spring_boot_web.I_dont_know.response.cache.CachedResponse;
+import Spring_boot_web.I_dont_know.response.conditional.Versioned;
+import Spring_boot_web.I_dont_know.response.controller.ResponseCacheControl;
 
-import lombok.AllArgsConstructor;
+import lombok.NonNull;
 
 /**
  * Rest controller for the example entities.
@@ -42,7 +62,6 @@ import lombok.AllArgsConstructor;
  */
 @RestController
 @RequestMapping("/entity")
-@AllArgsConstructor
 public class ExampleEntityController {
 
     /**
@@ -50,18 +69,119 @@ public class ExampleEntityController {
      */
     private final ExampleEntityService exampleEntityService;
 
+    /**
+     * Maximum number of entities created at once.
+     */
+    private final Integer              maxBatchSize;
+
+    /**
+     * Validator for the names of the created entities.
+     */
+    private final EntityNameValidator  nameValidator;
+
+    /**
+     * Builds a controller for the entities.
+     *
+     * @param service
+     *            example entity service
+     * @param validator
+     *            validator for the names of the created entities
+     * @param batchSize
+     *            maximum number of entities created at once
+     */
+    public ExampleEntityController(@NonNull final ExampleEntityService service,
+            @NonNull final EntityNameValidator validator,
+            @Value("${entity.batch.max-size:1000}") @NonNull final Integer batchSize) {
+        super();
+
+        exampleEntityService = service;
+        nameValidator = validator;
+        maxBatchSize = batchSize;
+    }
+
+    /**
+     * Creates all the received entities, in a single transaction. Their ids are ignored, and new ones assigned.
+     * <p>
+     * The entities are inserted in JDBC batches, which makes this the endpoint for bulk loads. They are validated
+     * first, with the same rules as the imports. If any of them is not valid, or there are more than the maximum, none
+     * is created and the request is rejected with the errors. These are numbered by the position of the entity in the
+     * list, starting at 1.
+     *
+     * @param entities
+     *            entities to create
+     * @return the created entities, with their ids
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<? extends ExampleEntity> createAll(@RequestBody final List<DefaultExampleEntity> entities) {
+        final List<String>   validation;
+        final List<RowError> errors;
+
+        if (entities.size() > maxBatchSize) {
+            // Rejected before querying the stored names
+            throw new InvalidEntitiesException(List.of(RowError.of(maxBatchSize + 1L,
+                String.format("No more than %d entities can be created at once", maxBatchSize))));
+        }
+
+        validation = nameValidator.validate(entities);
+        errors = new ArrayList<>();
+        for (int i = 0; i < validation.size(); i++) {
+            if (!validation.get(i)
+                .isEmpty()) {
+                errors.add(RowError.of(i + 1L, validation.get(i)));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidEntitiesException(errors);
+        }
+
+        return exampleEntityService.createAll(entities);
+    }
+
     /**
      * Returns a collection of entities.
+     * <p>
+     * The total number of entities may be estimated, if the table is large enough. It can only be sorted by indexed
+     * properties.
+     * <p>
+     * Clients should revalidate the response each time, which is answered with {@code 304 Not Modified} as long as
+     * no entity has been written. Otherwise the serialized response is cached until an entity is written.
      *
-     * @param pagination
-     *            pagination request
-     * @param sort
-     *            sorting request
+     * @param query
+     *            pagination and sorting request
      * @return a collection of entities
      */
     @GetMapping
-    public Iterable<? extends ExampleEntity> read(final Pagination pagination, final Sort sort) {
-        return exampleEntityService.getAll(pagination, sort);
+    @EstimatedCount
+    @Sortable({ "id", "name" })
+    @Versioned(PersistentExampleEntity.class)
+    @ResponseCacheControl(noCache = true, cachePrivate = true)
+    @CachedResponse(PersistentExampleEntity.class)
+    public PageIterable<? extends ExampleEntity> read(final PageQuery query) {
+        return exampleEntityService.getAll(query);
+    }
+
+    /**
+     * Returns a collection of entities, containing only the fields requested with the {@code fields} parameter.
+     * <p>
+     * Only the requested columns are read from the database. Otherwise this behaves the same as
+     * {@link #read(PageQuery)}.
+     *
+     * @param query
+     *            pagination and sorting request
+     * @param fieldset
+     *            requested fields
+     * @return a collection of entities
+     */
+    @GetMapping(params = { "fields", "paged!=false" })
+    @EstimatedCount
+    @Sortable({ "id", "name" })
+    @Projectable({ "id", "name" })
+    @Versioned(PersistentExampleEntity.class)
+    @ResponseCacheControl(noCache = true, cachePrivate = true)
+    @CachedResponse(PersistentExampleEntity.class)
+    public PageIterable<? extends ExampleEntity> readProjected(final PageQuery query, final Fieldset fieldset) {
+        return exampleEntityService.getAllProjected(query, fieldset);
     }
 
 }
@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.domain.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import Spring_boot_web.I_dont_know.importing.model.ImportReport;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReader;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReaderFactory;
+import Spring_boot_web.I_dont_know.importing.service.EntityImportService;
+import Spring_boot_web.I_dont_know.response.compression.ContentEncoding;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Rest controller for importing example entities from files.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@RestController
+@RequestMapping("/entity")
+@AllArgsConstructor
+public class ExampleEntityImportController {
+
+    /**
+     * Import service.
+     */
+    private final EntityImportService    importService;
+
+    /**
+     * Factory for the file readers.
+     */
+    private final EntityRowReaderFactory readerFactory;
+
+    /**
+     * Imports the entities in the request body, which is either a CSV or a newline delimited JSON file, and may be
+     * compressed with gzip.
+     * <p>
+     * The body is read as it arrives, and the entities are created in chunks, each in its own transaction. Invalid
+     * rows are rejected, and listed in the report.
+     *
+     * @param body
+     *            file to import
+     * @param type
+     *            file media type
+     * @param encoding
+     *            file encoding
+     * @return the import report
+     * @throws IOException
+     *             if the file can't be opened
+     */
+    @PostMapping(path = "/import", consumes = { EntityRowReaderFactory.TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE })
+    public ImportReport importAll(final InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) final MediaType type,
+            @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, defaultValue = "identity") final String encoding)
+            throws IOException {
+        final Boolean      gzipped;
+        final ImportReport report;
+
+        gzipped = ContentEncoding.GZIP.getName()
+            .equalsIgnoreCase(encoding);
+        try (EntityRowReader reader = readerFactory.open(body, type, gzipped)) {
+            report = importService.importAll(reader);
+        }
+
+        return report;
+    }
+
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.domain.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.pagination.argument.Sortable;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.response.stream.JsonStreamingResponseBody;
+import Spring_boot_web.I_dont_know.response.stream.NdJsonStreamingResponseBody;
+
+import lombok.NonNull;
+
+/**
+ * Rest controller for unpaged reads of the example entities.
+ * <p>
+ * These take the requests with the {@code paged=false} parameter, and stream the entities to the client as they are
+ * read, instead of loading the full table first.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@RestController
+@RequestMapping("/entity")
+public class ExampleEntityStreamController {
+
+    /**
+     * Writer for the entities, built once for their type and shared by all the streams.
+     */
+    private final ObjectWriter         entityWriter;
+
+    /**
+     * Example entity service.
+     */
+    private final ExampleEntityService exampleEntityService;
+
+    /**
+     * Builds a controller streaming the entities from the service.
+     *
+     * @param service
+     *            example entity service
+     * @param objectMapper
+     *            mapper to write the entities
+     */
+    public ExampleEntityStreamController(@NonNull final ExampleEntityService service,
+            @NonNull final ObjectMapper objectMapper) {
+        super();
+
+        exampleEntityService = service;
+        entityWriter = objectMapper.writerFor(ExampleEntity.class);
+    }
+
+    /**
+     * Streams all the entities, inside a single page response.
+     *
+     * @param sort
+     *            sorting request
+     * @return all the entities
+     */
+    @GetMapping(params = "paged=false")
+    @Sortable({ "id", "name" })
+    public ResponseEntity<StreamingResponseBody> readAll(final Sort sort) {
+        final StreamingResponseBody body;
+
+        body = new JsonStreamingResponseBody<ExampleEntity>(entityWriter,
+            c -> exampleEntityService.streamAll(sort, c));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Streams all the entities as newline delimited JSON.
+     *
+     * @param sort
+     *            sorting request
+     * @return all the entities
+     */
+    @GetMapping(params = { "paged=false", "format=ndjson" })
+    @Sortable({ "id", "name" })
+    public ResponseEntity<StreamingResponseBody> readAllAsNdJson(final Sort sort) {
+        final StreamingResponseBody body;
+
+        body = new NdJsonStreamingResponseBody<ExampleEntity>(entityWriter,
+            c -> exampleEntityService.streamAll(sort, c));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+}
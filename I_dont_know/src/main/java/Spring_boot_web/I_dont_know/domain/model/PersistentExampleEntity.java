@@ -24,41 +24,77 @@
 
 package Spring_boot_web.I_dont_know.domain.model;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteListener;
+
 import lombok.Data;
 
 /**
  * Persistent entity for the example application.
  * <p>
  * This makes use of JPA annotations for the persistence configuration.
+ * <p>
+ * The entities are kept in the second level cache, in the {@value #CACHE_REGION} region.
+ * <p>
+ * The ids are taken from the {@value #ID_SEQUENCE} sequence, a block of {@value #ID_BLOCK_SIZE} at a time, so inserts
+ * can be batched. Each sequence value is the first id of its block.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  */
 @Entity(name = "ExampleEntity")
 @Table(name = "example_entities")
+@EntityListeners(EntityWriteListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PersistentExampleEntity.CACHE_REGION)
 @Data
 public class PersistentExampleEntity implements ExampleEntity {
 
+    /**
+     * Second level cache region for the entities.
+     */
+    public static final String CACHE_REGION     = "example_entities";
+
+    /**
+     * Number of ids taken from the sequence at once. Should be the sequence increment.
+     */
+    public static final String ID_BLOCK_SIZE    = "50";
+
+    /**
+     * Sequence for the ids.
+     */
+    public static final String ID_SEQUENCE      = "example_entities_seq";
+
     /**
      * Serialization ID.
      */
     @Transient
-    private static final long serialVersionUID = 1328776989450853491L;
+    private static final long  serialVersionUID = 1328776989450853491L;
 
     /**
      * Entity's ID.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ID_SEQUENCE)
+    @GenericGenerator(name = ID_SEQUENCE, strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = { @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = ID_SEQUENCE),
+                    @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = ID_BLOCK_SIZE),
+                    @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo") })
     @Column(name = "id", nullable = false, unique = true)
-    private Integer           id               = -1;
+    private Integer            id               = -1;
 
     /**
      * Name of the entity.
@@ -66,6 +102,6 @@ public class PersistentExampleEntity implements ExampleEntity {
      * This is to have additional data apart from the id, to be used on the tests.
      */
     @Column(name = "name", nullable = false, unique = true)
-    private String            name             = "";
+    private String             name             = "";
 
 }
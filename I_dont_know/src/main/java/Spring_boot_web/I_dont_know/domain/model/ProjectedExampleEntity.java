@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Entity read through a projection, which only contains some of the columns.
+ * <p>
+ * It may contain more columns than were requested, as the id and sort keys are always read to build the cursors.
+ * Only the requested fields are serialized, in the order they were requested.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@EqualsAndHashCode
+@ToString
+public final class ProjectedExampleEntity implements ExampleEntity {
+
+    /**
+     * Serialization id.
+     */
+    private static final long         serialVersionUID = -6384152047236617380L;
+
+    /**
+     * Fields to serialize, in order.
+     */
+    private final List<String>        fields;
+
+    /**
+     * Values read, by field.
+     */
+    private final Map<String, Object> values;
+
+    /**
+     * Builds an entity with the values read.
+     *
+     * @param flds
+     *            fields to serialize, in order
+     * @param vals
+     *            values read, by field
+     */
+    public ProjectedExampleEntity(@NonNull final List<String> flds, @NonNull final Map<String, Object> vals) {
+        super();
+
+        fields = Collections.unmodifiableList(new ArrayList<>(flds));
+        values = new HashMap<>(vals);
+    }
+
+    @Override
+    public final Integer getId() {
+        return (Integer) values.get("id");
+    }
+
+    @Override
+    public final String getName() {
+        return (String) values.get("name");
+    }
+
+    /**
+     * Returns the requested fields with their values, in the order they were requested. This is what gets
+     * serialized.
+     *
+     * @return the requested fields with their values
+     */
+    @JsonValue
+    public final Map<String, Object> getProjection() {
+        final Map<String, Object> projection;
+
+        projection = new LinkedHashMap<>();
+        for (final String field : fields) {
+            projection.put(field, values.get(field));
+        }
+
+        return projection;
+    }
+
+    @Override
+    public final void setId(final Integer identifier) {
+        values.put("id", identifier);
+    }
+
+    @Override
+    public final void setName(final String name) {
+        values.put("name", name);
+    }
+
+}
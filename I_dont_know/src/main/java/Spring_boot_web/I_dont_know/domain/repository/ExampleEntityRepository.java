@@ -24,7 +24,18 @@
 
 package Spring_boot_web.I_dont_know.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
 
@@ -32,9 +43,49 @@ import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
  * Spring-JPA repository for {@link PersistentExampleEntity}.
  * <p>
  * This is a simple repository just to allow the endpoints querying the entities they are asked for.
+ * <p>
+ * Keyset pagination queries are included through {@link KeysetExampleEntityRepository}, and offset pagination queries
+ * for deep pages through {@link OffsetExampleEntityRepository}.
+ * <p>
+ * The offset pages are kept in the query cache, in the {@value #QUERY_CACHE_REGION} region. This only keeps the ids,
+ * the entities are read from their own region. Hibernate invalidates the region on each write to the table.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  */
-public interface ExampleEntityRepository extends JpaRepository<PersistentExampleEntity, Integer> {
+public interface ExampleEntityRepository
+        extends JpaRepository<PersistentExampleEntity, Integer>, KeysetExampleEntityRepository,
+        OffsetExampleEntityRepository {
+
+    /**
+     * Query cache region for the paged queries.
+     */
+    public static final String QUERY_CACHE_REGION = "example_entity_queries";
+
+    /**
+     * Returns which of the received names are already used by an entity.
+     * <p>
+     * This is not a read-only transaction, so it is checked against the primary, which has the latest writes.
+     *
+     * @param names
+     *            names to check
+     * @return the names already in use
+     */
+    @Query("SELECT e.name FROM ExampleEntity e WHERE e.name IN :names")
+    @Transactional
+    public List<String> findNamesIn(@Param("names") final Collection<String> names);
+
+    /**
+     * Returns a stream over all the entities, backed by a database cursor. Rows are fetched in small batches as the
+     * stream is consumed, instead of reading the full table at once.
+     * <p>
+     * The stream should be closed after use, and it can only be consumed inside a transaction.
+     *
+     * @param sort
+     *            sorting to apply
+     * @return a stream over all the entities
+     */
+    @QueryHints({ @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true") })
+    public Stream<PersistentExampleEntity> streamAllBy(final Sort sort);
 
 }
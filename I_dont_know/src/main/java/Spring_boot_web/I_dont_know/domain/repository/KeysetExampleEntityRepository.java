@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.domain.repository;
+
+import java.util.List;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.model.Cursor;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+/**
+ * Keyset pagination queries for {@link PersistentExampleEntity}.
+ * <p>
+ * Instead of skipping rows with an offset, these seek directly to the position after the cursor, so reading a deep
+ * page costs the same as reading the first one, as long as the sort key is indexed.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface KeysetExampleEntityRepository {
+
+    /**
+     * Returns the entities after the cursor position, following the sort. The id is used as tie-breaker, so the query
+     * is the equivalent of {@code WHERE (sortKey, id) > (?, ?)}.
+     * <p>
+     * When the cursor reads backward the entities are returned in reverse order.
+     *
+     * @param sort
+     *            sort to apply
+     * @param cursor
+     *            position to seek from
+     * @param limit
+     *            maximum number of entities to read
+     * @return the entities after the cursor
+     */
+    public List<PersistentExampleEntity> findAllByKeyset(final Sort sort, final Cursor cursor, final Integer limit);
+
+    /**
+     * Returns the entities after the cursor position, following the sort, reading only the columns for the fieldset.
+     * The id and the sort key are always read, as the cursors are built from them.
+     *
+     * @param sort
+     *            sort to apply
+     * @param cursor
+     *            position to seek from
+     * @param limit
+     *            maximum number of entities to read
+     * @param fieldset
+     *            fields to read
+     * @return the projected entities after the cursor
+     */
+    public List<ProjectedExampleEntity> findAllByKeyset(final Sort sort, final Cursor cursor, final Integer limit,
+            final Fieldset fieldset);
+
+}
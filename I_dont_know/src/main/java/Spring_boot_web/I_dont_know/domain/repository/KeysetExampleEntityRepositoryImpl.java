@@ -0,0 +1,232 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.domain.repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.model.Cursor;
+import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Criteria based implementation of the keyset pagination queries.
+ * <p>
+ * The row value comparison {@code (sortKey, id) > (?, ?)} is not supported by JPQL, so it is expanded into
+ * {@code sortKey > ? OR (sortKey = ? AND id > ?)}, which the database can still resolve with an index on
+ * {@code (sortKey, id)}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@Slf4j
+public final class KeysetExampleEntityRepositoryImpl implements KeysetExampleEntityRepository {
+
+    /**
+     * Property used as tie-breaker.
+     */
+    private static final String     ID_PROPERTY       = "id";
+
+    /**
+     * Conversion service to parse the sort keys stored in the cursors.
+     */
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    /**
+     * Entity manager for the queries.
+     */
+    @PersistenceContext
+    private EntityManager           entityManager;
+
+    /**
+     * Default constructor.
+     */
+    public KeysetExampleEntityRepositoryImpl() {
+        super();
+    }
+
+    @Override
+    public final List<PersistentExampleEntity> findAllByKeyset(final Sort sort, final Cursor cursor,
+            final Integer limit) {
+        final CriteriaQuery<PersistentExampleEntity> query;
+
+        query = entityManager.getCriteriaBuilder()
+            .createQuery(PersistentExampleEntity.class);
+        seek(query, Collections.emptyList(), sort, cursor);
+
+        log.trace("Seeking {} rows sorted by {} {} from {}", limit, sort.getProperty(), sort.getDirection(), cursor);
+
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.HINT_CACHEABLE, true)
+            .setHint(QueryHints.HINT_CACHE_REGION, ExampleEntityRepository.QUERY_CACHE_REGION)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public final List<ProjectedExampleEntity> findAllByKeyset(final Sort sort, final Cursor cursor,
+            final Integer limit, final Fieldset fieldset) {
+        final CriteriaQuery<Tuple> query;
+        final Collection<String>   columns;
+
+        // The cursors are built from the sort key and the id
+        columns = Projections.getColumns(fieldset, Arrays.asList(ID_PROPERTY, sort.getProperty()));
+
+        query = entityManager.getCriteriaBuilder()
+            .createTupleQuery();
+        seek(query, columns, sort, cursor);
+
+        log.trace("Seeking {} rows with {} sorted by {} {} from {}", limit, columns, sort.getProperty(),
+            sort.getDirection(), cursor);
+
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.HINT_CACHEABLE, true)
+            .setHint(QueryHints.HINT_CACHE_REGION, ExampleEntityRepository.QUERY_CACHE_REGION)
+            .setMaxResults(limit)
+            .getResultList()
+            .stream()
+            .map(t -> Projections.toEntity(t, fieldset))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the predicate which seeks the rows after the cursor.
+     *
+     * @param builder
+     *            criteria builder
+     * @param key
+     *            path to the sort key
+     * @param id
+     *            path to the id
+     * @param cursor
+     *            position to seek from
+     * @param ascending
+     *            reading order
+     * @return the predicate which seeks the rows after the cursor
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final Predicate getSeekPredicate(final CriteriaBuilder builder, final Path<?> key, final Path<Integer> id,
+            final Cursor cursor, final Boolean ascending) {
+        final Path<Comparable> comparableKey;
+        final Comparable       value;
+        final Predicate        afterId;
+        final Predicate        afterKey;
+        final Predicate        predicate;
+
+        if (ascending) {
+            afterId = builder.greaterThan(id, cursor.getId());
+        } else {
+            afterId = builder.lessThan(id, cursor.getId());
+        }
+
+        if (ID_PROPERTY.equals(cursor.getProperty())) {
+            // The id is already unique
+            predicate = afterId;
+        } else {
+            comparableKey = (Path<Comparable>) key;
+            value = (Comparable) conversionService.convert(cursor.getValue(), key.getJavaType());
+            if (ascending) {
+                afterKey = builder.greaterThan(comparableKey, value);
+            } else {
+                afterKey = builder.lessThan(comparableKey, value);
+            }
+            predicate = builder.or(afterKey, builder.and(builder.equal(comparableKey, value), afterId));
+        }
+
+        return predicate;
+    }
+
+    /**
+     * Reads the query from the entities, seeking the rows after the cursor, following the sort.
+     *
+     * @param query
+     *            query to prepare
+     * @param columns
+     *            columns to select, or none to read the full entities
+     * @param sort
+     *            sort to apply
+     * @param cursor
+     *            position to seek from
+     */
+    private final void seek(final CriteriaQuery<?> query, final Collection<String> columns, final Sort sort,
+            final Cursor cursor) {
+        final CriteriaBuilder               builder;
+        final Root<PersistentExampleEntity> root;
+        final Path<Integer>                 id;
+        final Path<?>                       key;
+        final Boolean                       ascending;
+        final Order                         keyOrder;
+        final Order                         idOrder;
+
+        builder = entityManager.getCriteriaBuilder();
+        root = Projections.from(query, columns);
+
+        id = root.get(ID_PROPERTY);
+        key = root.get(sort.getProperty());
+
+        // Reading backward flips the order
+        ascending = (Direction.ASC.equals(sort.getDirection())) == cursor.getForward();
+
+        if (!cursor.getFirst()) {
+            query.where(getSeekPredicate(builder, key, id, cursor, ascending));
+        }
+
+        if (ascending) {
+            keyOrder = builder.asc(key);
+            idOrder = builder.asc(id);
+        } else {
+            keyOrder = builder.desc(key);
+            idOrder = builder.desc(id);
+        }
+
+        if (ID_PROPERTY.equals(sort.getProperty())) {
+            query.orderBy(idOrder);
+        } else {
+            query.orderBy(keyOrder, idOrder);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+/**
+ * Offset pagination queries for {@link PersistentExampleEntity}, which keep deep pages cheap.
+ * <p>
+ * With a plain {@code LIMIT/OFFSET} the database reads and discards every full row before the offset. For deep pages
+ * a deferred join is used instead: the offset is applied to a narrow query which only reads the sort keys and the ids,
+ * and can be resolved from the index, then the full rows are read only for the ids in the page.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface OffsetExampleEntityRepository {
+
+    /**
+     * Returns a slice of the entities. Unlike {@link ExampleEntityRepository#findAll(Pageable)} this doesn't count the
+     * entities, instead it reads one additional row to know if there is a next slice.
+     * <p>
+     * Offsets over the configured threshold are read through a deferred join.
+     *
+     * @param pageable
+     *            pagination to apply
+     * @return a slice of the entities
+     */
+    public Slice<PersistentExampleEntity> findAllByOffset(final Pageable pageable);
+
+    /**
+     * Returns a slice of the entities, reading only the columns for the fieldset. Like
+     * {@link #findAllByOffset(Pageable)} this doesn't count the entities, and offsets over the configured threshold are
+     * read through a deferred join.
+     *
+     * @param pageable
+     *            pagination to apply
+     * @param fieldset
+     *            fields to read
+     * @return a slice of the projected entities
+     */
+    public Slice<ProjectedExampleEntity> findAllByOffset(final Pageable pageable, final Fieldset fieldset);
+
+}
@@ -0,0 +1,330 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.domain.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Criteria based implementation of the offset pagination queries.
+ * <p>
+ * JPQL doesn't allow limiting a subquery, so the deferred join takes two queries. The first one applies the offset
+ * while reading only the ids, the second one reads the rows for those ids, sorted again, as {@code IN} keeps no order.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@Slf4j
+public final class OffsetExampleEntityRepositoryImpl implements OffsetExampleEntityRepository {
+
+    /**
+     * Property used as tie-breaker.
+     */
+    private static final String ID_PROPERTY = "id";
+
+    /**
+     * Offset from which the deferred join is used.
+     */
+    private final Long          deferredJoinThreshold;
+
+    /**
+     * Entity manager for the queries.
+     */
+    @PersistenceContext
+    private EntityManager       entityManager;
+
+    /**
+     * Builds the repository with the received deferred join threshold.
+     *
+     * @param threshold
+     *            offset from which the deferred join is used
+     */
+    public OffsetExampleEntityRepositoryImpl(
+            @Value("${pagination.offset.deferred-join-threshold:1000}") @NonNull final Long threshold) {
+        super();
+
+        deferredJoinThreshold = threshold;
+    }
+
+    @Override
+    public final Slice<PersistentExampleEntity> findAllByOffset(final Pageable pageable) {
+        return findSlice(pageable, PersistentExampleEntity.class, Collections.emptyList());
+    }
+
+    @Override
+    public final Slice<ProjectedExampleEntity> findAllByOffset(final Pageable pageable, final Fieldset fieldset) {
+        final Collection<String> columns;
+
+        // Sorting doesn't require selecting the sort keys
+        columns = Projections.getColumns(fieldset, Collections.emptyList());
+
+        return findSlice(pageable, Tuple.class, columns).map(t -> Projections.toEntity(t, fieldset));
+    }
+
+    /**
+     * Returns the ids of the rows at the received offset. This only reads the sort keys and the ids, so the database
+     * can resolve it with an index.
+     *
+     * @param sort
+     *            sort to apply
+     * @param offset
+     *            number of rows to skip
+     * @param limit
+     *            maximum number of ids to read
+     * @return the ids for the rows
+     */
+    private final List<Integer> findIds(final Sort sort, final Long offset, final Integer limit) {
+        final CriteriaBuilder               builder;
+        final CriteriaQuery<Integer>        query;
+        final Root<PersistentExampleEntity> root;
+        final Path<Integer>                 id;
+
+        builder = entityManager.getCriteriaBuilder();
+        query = builder.createQuery(Integer.class);
+        root = query.from(PersistentExampleEntity.class);
+
+        id = root.get(ID_PROPERTY);
+        query.select(id);
+        query.orderBy(getOrders(sort, root, builder));
+
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.HINT_CACHEABLE, true)
+            .setHint(QueryHints.HINT_CACHE_REGION, ExampleEntityRepository.QUERY_CACHE_REGION)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * Returns the rows for the received ids, following the sort.
+     *
+     * @param <T>
+     *            type of the rows
+     * @param type
+     *            type of the rows
+     * @param columns
+     *            columns to select, or none to read the full entities
+     * @param sort
+     *            sort to apply
+     * @param ids
+     *            ids of the rows to read
+     * @return the rows for the ids
+     */
+    private final <T> List<T> findRows(final Class<T> type, final Collection<String> columns, final Sort sort,
+            final List<Integer> ids) {
+        final CriteriaBuilder               builder;
+        final CriteriaQuery<T>              query;
+        final Root<PersistentExampleEntity> root;
+        final List<T>                       rows;
+
+        if (ids.isEmpty()) {
+            // Empty IN clauses are not valid SQL
+            rows = Collections.emptyList();
+        } else {
+            builder = entityManager.getCriteriaBuilder();
+            query = builder.createQuery(type);
+            root = Projections.from(query, columns);
+
+            query.where(root.get(ID_PROPERTY)
+                .in(ids));
+            query.orderBy(getOrders(sort, root, builder));
+
+            rows = entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_CACHEABLE, true)
+                .setHint(QueryHints.HINT_CACHE_REGION, ExampleEntityRepository.QUERY_CACHE_REGION)
+                .getResultList();
+        }
+
+        return rows;
+    }
+
+    /**
+     * Returns the rows at the received offset, with a plain {@code LIMIT/OFFSET}.
+     *
+     * @param <T>
+     *            type of the rows
+     * @param type
+     *            type of the rows
+     * @param columns
+     *            columns to select, or none to read the full entities
+     * @param sort
+     *            sort to apply
+     * @param offset
+     *            number of rows to skip
+     * @param limit
+     *            maximum number of rows to read
+     * @return the rows at the offset
+     */
+    private final <T> List<T> findRows(final Class<T> type, final Collection<String> columns, final Sort sort,
+            final Long offset, final Integer limit) {
+        final CriteriaBuilder               builder;
+        final CriteriaQuery<T>              query;
+        final Root<PersistentExampleEntity> root;
+
+        builder = entityManager.getCriteriaBuilder();
+        query = builder.createQuery(type);
+        root = Projections.from(query, columns);
+
+        query.orderBy(getOrders(sort, root, builder));
+
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.HINT_CACHEABLE, true)
+            .setHint(QueryHints.HINT_CACHE_REGION, ExampleEntityRepository.QUERY_CACHE_REGION)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * Returns a slice of the rows. Offsets over the configured threshold are read through a deferred join. Unpaged
+     * requests read only the first page.
+     *
+     * @param <T>
+     *            type of the rows
+     * @param pageable
+     *            pagination to apply
+     * @param type
+     *            type of the rows
+     * @param columns
+     *            columns to select, or none to read the full entities
+     * @return a slice of the rows
+     */
+    private final <T> Slice<T> findSlice(final Pageable pageable, final Class<T> type,
+            final Collection<String> columns) {
+        final Pageable      paged;
+        final Sort          sort;
+        final List<Integer> ids;
+        final List<Integer> pageIds;
+        final List<T>       rows;
+        final Slice<T>      slice;
+
+        if (pageable.isUnpaged()) {
+            // Unpaged reads are streamed by their own endpoint, the list never reads the whole table
+            log.trace("Unpaged request, reading the first page");
+            paged = PageRequest.of(0, Pagination.DEFAULT_SIZE, pageable.getSort());
+        } else {
+            paged = pageable;
+        }
+
+        // The id is needed as tie-breaker, otherwise the offset is not stable
+        if (paged.getSort()
+            .getOrderFor(ID_PROPERTY) == null) {
+            sort = paged.getSort()
+                .and(Sort.by(ID_PROPERTY));
+        } else {
+            sort = paged.getSort();
+        }
+
+        if (paged.getOffset() < deferredJoinThreshold) {
+            log.trace("Reading {} rows from offset {}", paged.getPageSize(), paged.getOffset());
+            // An additional row is read to know if there are more pages
+            rows = findRows(type, columns, sort, paged.getOffset(), paged.getPageSize() + 1);
+            slice = toSlice(rows, paged);
+        } else {
+            log.trace("Reading {} rows from offset {} through a deferred join", paged.getPageSize(),
+                paged.getOffset());
+            // An additional id is read to know if there are more pages
+            ids = findIds(sort, paged.getOffset(), paged.getPageSize() + 1);
+            if (ids.size() > paged.getPageSize()) {
+                pageIds = ids.subList(0, paged.getPageSize());
+            } else {
+                pageIds = ids;
+            }
+            rows = findRows(type, columns, sort, pageIds);
+            slice = new SliceImpl<>(rows, paged, ids.size() > paged.getPageSize());
+        }
+
+        return slice;
+    }
+
+    /**
+     * Builds a slice from the received rows, which may include an additional row to mark there is a next slice.
+     *
+     * @param <T>
+     *            type of the rows
+     * @param rows
+     *            rows read
+     * @param pageable
+     *            pagination applied
+     * @return a slice with the rows
+     */
+    private final <T> Slice<T> toSlice(final List<T> rows, final Pageable pageable) {
+        final Boolean hasNext;
+        final List<T> content;
+
+        hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = rows.subList(0, pageable.getPageSize());
+        } else {
+            content = rows;
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Transforms the sort into criteria orders.
+     *
+     * @param sort
+     *            sort to transform
+     * @param root
+     *            query root
+     * @param builder
+     *            criteria builder
+     * @return the criteria orders
+     */
+    private final List<Order> getOrders(final Sort sort, final Root<PersistentExampleEntity> root,
+            final CriteriaBuilder builder) {
+        return QueryUtils.toOrders(sort, root, builder);
+    }
+
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+/**
+ * Projection utilities shared by the repository fragments.
+ * <p>
+ * Projected queries select only the required columns into tuples, each column aliased by its property. The tuples are
+ * not managed by the persistence context, so they also skip hydrating and tracking the entities.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class Projections {
+
+    /**
+     * Returns the columns to read for the fieldset. These are the requested fields, followed by the required ones.
+     *
+     * @param fieldset
+     *            requested fields
+     * @param required
+     *            fields which are always read
+     * @return the columns to read
+     */
+    public static final Collection<String> getColumns(final Fieldset fieldset, final Collection<String> required) {
+        final Set<String> columns;
+
+        columns = new LinkedHashSet<>(fieldset.getFields());
+        columns.addAll(required);
+
+        return columns;
+    }
+
+    /**
+     * Adds the entity root to the query. If any column is received, only those are selected, otherwise the query
+     * reads the full entity.
+     *
+     * @param <T>
+     *            type of the query results
+     * @param query
+     *            query to read from the entities
+     * @param columns
+     *            columns to select
+     * @return the query root
+     */
+    public static final <T> Root<PersistentExampleEntity> from(final CriteriaQuery<T> query,
+            final Collection<String> columns) {
+        final Root<PersistentExampleEntity> root;
+        final List<Selection<?>>            selections;
+
+        root = query.from(PersistentExampleEntity.class);
+        if (!columns.isEmpty()) {
+            selections = new ArrayList<>();
+            for (final String column : columns) {
+                selections.add(root.get(column)
+                    .alias(column));
+            }
+            query.multiselect(selections);
+        }
+
+        return root;
+    }
+
+    /**
+     * Transforms the tuple into a projected entity, which only serializes the requested fields.
+     *
+     * @param tuple
+     *            tuple read
+     * @param fieldset
+     *            requested fields
+     * @return the projected entity
+     */
+    public static final ProjectedExampleEntity toEntity(final Tuple tuple, final Fieldset fieldset) {
+        final Map<String, Object> values;
+
+        values = new HashMap<>();
+        for (final TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+
+        return new ProjectedExampleEntity(fieldset.getFields(), values);
+    }
+
+    private Projections() {
+        super();
+    }
+
+}
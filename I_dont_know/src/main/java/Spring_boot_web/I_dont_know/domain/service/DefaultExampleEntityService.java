@@ -24,44 +24,436 @@
 
 package Spring_boot_web.I_dont_know.domain.service;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
 import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
 import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.pagination.count.CountCache;
+import Spring_boot_web.I_dont_know.pagination.count.RowEstimator;
+import Spring_boot_web.I_dont_know.pagination.model.Cursor;
 import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.pagination.utils.Cursors;
 import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
-
-import lombok.AllArgsConstructor;
+import Spring_boot_web.I_dont_know.persistence.cache.DelegatingCacheLoader;
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteInvalidation;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
 
 /**
  * Default implementation of the example entity service.
+ * <p>
+ * The pages are cached until an entity is written. The cache refreshes them through this service.
+ * <p>
+ * Reads are done in read-only transactions, which may be routed to a replica.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
 @Service
-@AllArgsConstructor
 public class DefaultExampleEntityService implements ExampleEntityService {
 
+    /**
+     * Name of the cache for the entity pages.
+     */
+    public static final String               PAGE_CACHE = "example_entity_pages";
+
+    /**
+     * Number of entities sent in each insert batch. The persistence context is flushed and cleared after each of them.
+     */
+    private final Integer                    batchSize;
+
+    /**
+     * Cache for the total number of entities.
+     */
+    private final CountCache                 countCache;
+
+    /**
+     * Entity manager, to detach the streamed entities and send the insert batches.
+     */
+    private final EntityManager              entityManager;
+
+    /**
+     * Cache for the pages read.
+     */
+    private final Cache                      pageCache;
+
     /**
      * Repository for the domain entities handled by the service.
      */
-    private final ExampleEntityRepository repository;
+    private final ExampleEntityRepository    repository;
+
+    /**
+     * Estimator for the number of entities.
+     */
+    private final RowEstimator               rowEstimator;
+
+    /**
+     * Transaction manager, for the read-only transactions and the streamed entities, which are read through a cursor
+     * requiring a transaction.
+     */
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Builds the service, and sets it as the loader for refreshing its cached pages.
+     *
+     * @param cntCache
+     *            cache for the total number of entities
+     * @param entManager
+     *            entity manager
+     * @param repo
+     *            repository for the entities
+     * @param estimator
+     *            estimator for the number of entities
+     * @param txManager
+     *            transaction manager
+     * @param cacheManager
+     *            cache manager, which should contain the page cache
+     * @param pageCacheLoader
+     *            loader used when refreshing the page cache
+     * @param batch
+     *            number of entities sent in each insert batch
+     */
+    public DefaultExampleEntityService(final CountCache cntCache, final EntityManager entManager,
+            final ExampleEntityRepository repo, final RowEstimator estimator,
+            final PlatformTransactionManager txManager, final CacheManager cacheManager,
+            final DelegatingCacheLoader pageCacheLoader,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") final Integer batch) {
+        super();
+
+        countCache = cntCache;
+        entityManager = entManager;
+        repository = repo;
+        rowEstimator = estimator;
+        transactionManager = txManager;
+        pageCache = cacheManager.getCache(PAGE_CACHE);
+        batchSize = batch;
+
+        pageCacheLoader.setDelegate(query -> readPage((PageQuery) query));
+    }
+
+    @Override
+    public final List<PersistentExampleEntity> createAll(final Iterable<? extends ExampleEntity> entities) {
+        final TransactionTemplate transaction;
+
+        transaction = new TransactionTemplate(transactionManager);
+
+        return transaction.execute(status -> persistAll(entities));
+    }
 
     @Override
     public final PageIterable<PersistentExampleEntity> getAll(final Pagination pagination, final Sort sort) {
-        final Pageable                      pageable;
-        final Page<PersistentExampleEntity> page;
+        return getAll(PageQuery.of(pagination, sort));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final PageIterable<PersistentExampleEntity> getAll(final PageQuery query) {
+        final ValueWrapper                          cached;
+        final PageIterable<PersistentExampleEntity> result;
+
+        // A loading cache reads missing pages on its own, through the loader
+        cached = pageCache.get(query);
+        if (cached == null) {
+            result = readPage(query);
+            pageCache.put(query, result);
+        } else {
+            result = (PageIterable<PersistentExampleEntity>) cached.get();
+        }
+
+        return result;
+    }
+
+    @Override
+    public final PageIterable<? extends ExampleEntity> getAllProjected(final PageQuery query,
+            final Fieldset fieldset) {
+        final PageIterable<? extends ExampleEntity> result;
+
+        if (!fieldset.getProjected()) {
+            result = getAll(query);
+        } else if (query.getPagination()
+            .getKeyset()) {
+            result = readOnly(() -> getProjectedByKeyset(query.getPagination(), query.getSort(), fieldset));
+        } else {
+            result = readOnly(() -> getProjectedByOffset(query, fieldset));
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards the cached pages when an example entity is written.
+     * <p>
+     * Inside a transaction the pages are discarded on the first write, and again once it completes, as a page read
+     * before the commit could have been cached. This also covers rolled back transactions.
+     *
+     * @param event
+     *            write event
+     */
+    @EventListener
+    public final void onEntityWrite(final EntityWriteEvent event) {
+        if (PersistentExampleEntity.class.equals(event.getEntityType())) {
+            WriteInvalidation.invalidate(this, PersistentExampleEntity.class, pageCache::clear);
+        }
+    }
+
+    @Override
+    public final void streamAll(final Sort sort, final Consumer<? super ExampleEntity> consumer) {
+        final TransactionTemplate transaction;
+
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<PersistentExampleEntity> entities = repository.streamAllBy(Paginations.toSpring(sort))) {
+                entities.forEach(entity -> {
+                    consumer.accept(entity);
+                    // Otherwise the persistence context keeps all the entities
+                    entityManager.detach(entity);
+                });
+            }
+        });
+    }
 
-        pageable = Paginations.toSpring(pagination, sort);
+    /**
+     * Returns the page located by the pagination cursor.
+     *
+     * @param pagination
+     *            keyset pagination
+     * @param sort
+     *            requested sort
+     * @return the page after the cursor
+     */
+    private final PageIterable<PersistentExampleEntity> getAllByKeyset(final Pagination pagination, final Sort sort) {
+        final Sort                          keysetSort;
+        final Cursor                        cursor;
+        final Integer                       size;
+        final List<PersistentExampleEntity> rows;
+
+        keysetSort = Cursors.toKeysetSort(sort);
+        cursor = Cursors.decode(pagination.getCursor(), keysetSort);
+        size = Paginations.toSize(pagination);
+
+        // An additional row is read to know if there are more pages
+        rows = repository.findAllByKeyset(keysetSort, cursor, size + 1);
+
+        return Paginations.fromKeyset(rows, size, keysetSort, cursor);
+    }
+
+    /**
+     * Returns the page located by the pagination index.
+     *
+     * @param query
+     *            offset pagination and requested sort
+     * @return the page at the index
+     */
+    private final PageIterable<PersistentExampleEntity> getAllByOffset(final PageQuery query) {
+        final Optional<Long>                 estimate;
+        final Slice<PersistentExampleEntity> slice;
+
+        estimate = getEstimate(query.getPagination());
+
+        // The pageable is already built when resolving the query, and deep offsets are read through a deferred join
+        slice = repository.findAllByOffset(query.getPageable());
+
+        return toPage(query.getPagination(), slice, estimate);
+    }
+
+    /**
+     * Returns the estimated number of entities, if the pagination accepts an estimate.
+     *
+     * @param pagination
+     *            requested pagination
+     * @return the estimated number of entities, or nothing if it should be counted
+     */
+    private final Optional<Long> getEstimate(final Pagination pagination) {
+        final Optional<Long> estimate;
+
+        if (pagination.getEstimated()) {
+            estimate = rowEstimator.estimate(PersistentExampleEntity.class);
+        } else {
+            estimate = Optional.empty();
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Returns the page located by the pagination cursor, reading only the requested fields.
+     *
+     * @param pagination
+     *            keyset pagination
+     * @param sort
+     *            requested sort
+     * @param fieldset
+     *            requested fields
+     * @return the page after the cursor
+     */
+    private final PageIterable<ProjectedExampleEntity> getProjectedByKeyset(final Pagination pagination,
+            final Sort sort, final Fieldset fieldset) {
+        final Sort                         keysetSort;
+        final Cursor                       cursor;
+        final Integer                      size;
+        final List<ProjectedExampleEntity> rows;
+
+        keysetSort = Cursors.toKeysetSort(sort);
+        cursor = Cursors.decode(pagination.getCursor(), keysetSort);
+        size = Paginations.toSize(pagination);
+
+        // An additional row is read to know if there are more pages
+        rows = repository.findAllByKeyset(keysetSort, cursor, size + 1, fieldset);
+
+        return Paginations.fromKeyset(rows, size, keysetSort, cursor);
+    }
+
+    /**
+     * Returns the page located by the pagination index, reading only the requested fields.
+     *
+     * @param query
+     *            offset pagination and requested sort
+     * @param fieldset
+     *            requested fields
+     * @return the page at the index
+     */
+    private final PageIterable<ProjectedExampleEntity> getProjectedByOffset(final PageQuery query,
+            final Fieldset fieldset) {
+        final Optional<Long>                estimate;
+        final Slice<ProjectedExampleEntity> slice;
+
+        estimate = getEstimate(query.getPagination());
+
+        slice = repository.findAllByOffset(query.getPageable(), fieldset);
+
+        return toPage(query.getPagination(), slice, estimate);
+    }
+
+    /**
+     * Persists the entities as new ones. The persistence context is flushed after each batch, which sends the batch,
+     * and then cleared, so it doesn't keep all the entities.
+     *
+     * @param entities
+     *            entities to persist
+     * @return the persisted entities
+     */
+    private final List<PersistentExampleEntity> persistAll(final Iterable<? extends ExampleEntity> entities) {
+        final List<PersistentExampleEntity> created;
+        PersistentExampleEntity             entity;
+
+        created = new ArrayList<>();
+        for (final ExampleEntity source : entities) {
+            entity = new PersistentExampleEntity();
+            entity.setId(null);
+            entity.setName(source.getName());
+
+            entityManager.persist(entity);
+            created.add(entity);
+
+            if ((created.size() % batchSize) == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        return created;
+    }
+
+    /**
+     * Runs the read in a read-only transaction.
+     *
+     * @param <T>
+     *            type of the value read
+     * @param read
+     *            read to run
+     * @return the value read
+     */
+    private final <T> T readOnly(final Supplier<T> read) {
+        final TransactionTemplate transaction;
+
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        return transaction.execute(status -> read.get());
+    }
+
+    /**
+     * Reads the page for the query from the repository.
+     *
+     * @param query
+     *            pagination and sort for the page
+     * @return the page for the query
+     */
+    private final PageIterable<PersistentExampleEntity> readPage(final PageQuery query) {
+        final PageIterable<PersistentExampleEntity> result;
+
+        if (query.getPagination()
+            .getKeyset()) {
+            result = readOnly(() -> getAllByKeyset(query.getPagination(), query.getSort()));
+        } else {
+            result = readOnly(() -> getAllByOffset(query));
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds the page from the slice, adding the totals. These come from the estimate, if there is one, or are
+     * counted if the pagination requires it.
+     *
+     * @param <T>
+     *            type of the entities
+     * @param pagination
+     *            requested pagination
+     * @param slice
+     *            slice read
+     * @param estimate
+     *            estimated number of entities
+     * @return the page for the slice
+     */
+    private final <T> PageIterable<T> toPage(final Pagination pagination, final Slice<T> slice,
+            final Optional<Long> estimate) {
+        final Optional<Long>  count;
+        final Long            total;
+        final PageIterable<T> result;
 
-        page = repository.findAll(pageable);
+        if (estimate.isPresent()) {
+            // Skips the count query, the statistics are good enough
+            result = Paginations.fromSpring(slice, estimate.get(), true);
+        } else if (pagination.getCounted()) {
+            count = countCache.get(PersistentExampleEntity.class, CountCache.UNFILTERED);
+            if (count.isPresent()) {
+                // Skips the count query, as the count is already known
+                total = count.get();
+            } else {
+                total = repository.count();
+                countCache.put(PersistentExampleEntity.class, CountCache.UNFILTERED, total);
+            }
+            result = Paginations.fromSpring(slice, total);
+        } else {
+            // Skips the count query
+            result = Paginations.fromSpring(slice);
+        }
 
-        return Paginations.fromSpring(page);
+        return result;
     }
 
 }
@@ -24,10 +24,15 @@
 
 package Spring_boot_web.I_dont_know.domain.service;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
 import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
 
 /**
  * Service for the example entity domain.
@@ -38,6 +43,18 @@ import Spring_boot_web.I_dont_know.pagination.model.Sort;
  */
 public interface ExampleEntityService {
 
+    /**
+     * Persists the received entities as new ones, all in a single transaction. Their ids are ignored, and new ones
+     * assigned.
+     * <p>
+     * The entities are inserted in JDBC batches.
+     *
+     * @param entities
+     *            entities to persist
+     * @return the persisted entities, with their ids
+     */
+    public List<? extends ExampleEntity> createAll(final Iterable<? extends ExampleEntity> entities);
+
     /**
      * Returns all the entities from the DB.
      *
@@ -49,4 +66,38 @@ public interface ExampleEntityService {
      */
     public PageIterable<? extends ExampleEntity> getAll(final Pagination pagination, final Sort sort);
 
+    /**
+     * Returns all the entities from the DB, applying the received query.
+     *
+     * @param query
+     *            requested page and sort
+     * @return the persisted entities
+     */
+    public PageIterable<? extends ExampleEntity> getAll(final PageQuery query);
+
+    /**
+     * Returns all the entities from the DB, applying the received query, and reading only the requested fields. The
+     * projection is applied by the query, so the remaining columns are never read.
+     * <p>
+     * When the fieldset is not projected, this is the same as {@link #getAll(PageQuery)}.
+     *
+     * @param query
+     *            requested page and sort
+     * @param fieldset
+     *            requested fields
+     * @return the persisted entities, containing only the requested fields
+     */
+    public PageIterable<? extends ExampleEntity> getAllProjected(final PageQuery query, final Fieldset fieldset);
+
+    /**
+     * Sends all the entities from the DB, one by one, to the consumer. They are read through a cursor, so the full
+     * table is never held in memory.
+     *
+     * @param sort
+     *            requested sort info
+     * @param consumer
+     *            consumer for the entities
+     */
+    public void streamAll(final Sort sort, final Consumer<? super ExampleEntity> consumer);
+
 }
@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.domain.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.prefetch.PagePrefetcher;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Example entity service which prefetches the page after each one it reads.
+ * <p>
+ * This wraps the default service, and is only registered when prefetching is enabled.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@AllArgsConstructor
+public final class PrefetchingExampleEntityService implements ExampleEntityService {
+
+    /**
+     * Service which actually reads the entities.
+     */
+    private final DefaultExampleEntityService             delegate;
+
+    /**
+     * Prefetcher for the next pages.
+     */
+    private final PagePrefetcher<PersistentExampleEntity> prefetcher;
+
+    @Override
+    public final List<? extends ExampleEntity> createAll(final Iterable<? extends ExampleEntity> entities) {
+        return delegate.createAll(entities);
+    }
+
+    @Override
+    public final PageIterable<PersistentExampleEntity> getAll(final Pagination pagination, final Sort sort) {
+        return prefetcher.getPage(pagination, sort, delegate::getAll);
+    }
+
+    @Override
+    public final PageIterable<PersistentExampleEntity> getAll(final PageQuery query) {
+        return getAll(query.getPagination(), query.getSort());
+    }
+
+    @Override
+    public final PageIterable<? extends ExampleEntity> getAllProjected(final PageQuery query,
+            final Fieldset fieldset) {
+        final PageIterable<? extends ExampleEntity> result;
+
+        if (fieldset.getProjected()) {
+            // Only full pages are prefetched
+            result = delegate.getAllProjected(query, fieldset);
+        } else {
+            result = getAll(query);
+        }
+
+        return result;
+    }
+
+    @Override
+    public final void streamAll(final Sort sort, final Consumer<? super ExampleEntity> consumer) {
+        delegate.streamAll(sort, consumer);
+    }
+
+}
@@ -26,6 +26,7 @@ package Spring_boot_web.I_dont_know.error.handler;
 
 import java.util.stream.Collectors;
 
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +37,8 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import Spring_boot_web.I_dont_know.error.model.FieldError;
+import Spring_boot_web.I_dont_know.importing.service.InvalidEntitiesException;
+import Spring_boot_web.I_dont_know.pagination.utils.InvalidCursorException;
 import Spring_boot_web.I_dont_know.response.model.DefaultResponse;
 import Spring_boot_web.I_dont_know.response.model.Response;
 
@@ -65,6 +68,33 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler({ InvalidCursorException.class })
+    public final ResponseEntity<Object> handleInvalidCursor(final InvalidCursorException ex,
+            final WebRequest request) throws Exception {
+        // The cursor comes from the client, so the stack trace is not needed
+        log.warn(ex.getMessage());
+
+        return new ResponseEntity<>(new DefaultResponse<>(ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ InvalidEntitiesException.class })
+    public final ResponseEntity<Object> handleInvalidEntities(final InvalidEntitiesException ex,
+            final WebRequest request) throws Exception {
+        // The entities come from the client, so the stack trace is not needed
+        log.warn(ex.getMessage());
+
+        return new ResponseEntity<>(new DefaultResponse<>(ex.getErrors()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ PropertyReferenceException.class })
+    public final ResponseEntity<Object> handlePropertyReference(final PropertyReferenceException ex,
+            final WebRequest request) throws Exception {
+        // Invalid sort properties should be rejected before this, so the stack trace is not needed
+        log.warn(ex.getMessage());
+
+        return new ResponseEntity<>(new DefaultResponse<>(ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Transforms Spring's field error into our custom field error.
      *
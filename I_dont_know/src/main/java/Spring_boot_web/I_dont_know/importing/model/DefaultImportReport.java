@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Default implementation of the import report. It is filled while the file is imported.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Data
+public final class DefaultImportReport implements ImportReport {
+
+    /**
+     * Flags if the whole file was read.
+     */
+    @NonNull
+    private Boolean        complete = true;
+
+    /**
+     * Number of entities created.
+     */
+    @NonNull
+    private Long           created  = 0L;
+
+    /**
+     * Errors for the rows not imported.
+     */
+    @NonNull
+    private List<RowError> errors   = new ArrayList<>();
+
+    /**
+     * Number of rows read.
+     */
+    @NonNull
+    private Long           read     = 0L;
+
+    /**
+     * Number of rows not imported.
+     */
+    @NonNull
+    private Long           rejected = 0L;
+
+    public DefaultImportReport() {
+        super();
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.model;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Immutable implementation of the import row.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Data
+public final class ImmutableImportRow implements ImportRow {
+
+    /**
+     * Entity parsed from the row.
+     */
+    private final ExampleEntity entity;
+
+    /**
+     * Reason why the row couldn't be parsed.
+     */
+    @NonNull
+    private final String        error;
+
+    /**
+     * Line where the row starts.
+     */
+    @NonNull
+    private final Long          line;
+
+    /**
+     * Builds a row.
+     *
+     * @param ln
+     *            line where the row starts
+     * @param ent
+     *            entity parsed from the row, {@code null} if it couldn't be parsed
+     * @param err
+     *            reason why the row couldn't be parsed, empty if it was parsed
+     */
+    public ImmutableImportRow(@NonNull final Long ln, final ExampleEntity ent, @NonNull final String err) {
+        super();
+
+        line = ln;
+        entity = ent;
+        error = err;
+    }
+
+    @Override
+    public final Boolean getParsed() {
+        return entity != null;
+    }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.model;
+
+import java.util.List;
+
+/**
+ * Result of importing a file.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface ImportReport {
+
+    /**
+     * Indicates if the whole file was read. Otherwise the rows after the last readable one were not imported, and the
+     * errors tell why.
+     *
+     * @return {@code true} if the whole file was read, {@code false} otherwise
+     */
+    public Boolean getComplete();
+
+    /**
+     * Returns the number of entities created.
+     *
+     * @return the number of entities created
+     */
+    public Long getCreated();
+
+    /**
+     * Returns the errors for the rows not imported. These may be only the first ones, but all of them are counted as
+     * rejected.
+     *
+     * @return the row errors
+     */
+    public List<RowError> getErrors();
+
+    /**
+     * Returns the number of rows read.
+     *
+     * @return the number of rows read
+     */
+    public Long getRead();
+
+    /**
+     * Returns the number of rows not imported.
+     *
+     * @return the number of rows rejected
+     */
+    public Long getRejected();
+
+}
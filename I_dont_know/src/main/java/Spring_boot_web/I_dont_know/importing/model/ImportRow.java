@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.model;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+
+/**
+ * Row read from an imported file. It contains either the entity parsed from it, or the reason why it couldn't be
+ * parsed.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface ImportRow {
+
+    /**
+     * Returns a row which couldn't be parsed.
+     *
+     * @param line
+     *            line where the row starts
+     * @param error
+     *            reason why the row couldn't be parsed
+     * @return a row which couldn't be parsed
+     */
+    public static ImportRow invalid(final Long line, final String error) {
+        return new ImmutableImportRow(line, null, error);
+    }
+
+    /**
+     * Returns a row parsed into an entity.
+     *
+     * @param line
+     *            line where the row starts
+     * @param entity
+     *            entity parsed from the row
+     * @return a parsed row
+     */
+    public static ImportRow valid(final Long line, final ExampleEntity entity) {
+        return new ImmutableImportRow(line, entity, "");
+    }
+
+    /**
+     * Returns the entity parsed from the row.
+     *
+     * @return the parsed entity, or {@code null} if the row couldn't be parsed
+     */
+    public ExampleEntity getEntity();
+
+    /**
+     * Returns the reason why the row couldn't be parsed.
+     *
+     * @return the parsing error, or an empty string if the row was parsed
+     */
+    public String getError();
+
+    /**
+     * Returns the line where the row starts.
+     *
+     * @return the row line
+     */
+    public Long getLine();
+
+    /**
+     * Indicates if the row was parsed into an entity.
+     *
+     * @return {@code true} if the row was parsed, {@code false} otherwise
+     */
+    public Boolean getParsed();
+
+}
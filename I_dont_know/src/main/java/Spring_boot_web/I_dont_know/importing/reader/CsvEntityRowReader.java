@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
+import Spring_boot_web.I_dont_know.importing.model.ImportRow;
+
+import lombok.NonNull;
+
+/**
+ * Reads the rows of a CSV file. The first line is the header, naming the entity properties in each column. Unknown
+ * columns are ignored.
+ * <p>
+ * Rows which can't be mapped into an entity are skipped until the next row, but a malformed file, such as one with an
+ * unclosed quote, can't be read past the error.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CsvEntityRowReader implements EntityRowReader {
+
+    /**
+     * Iterator over the rows, parsing them as they are read.
+     */
+    private final MappingIterator<DefaultExampleEntity> rows;
+
+    /**
+     * Builds a reader for the CSV file in the stream.
+     *
+     * @param input
+     *            stream with the file
+     * @param mapper
+     *            CSV mapper
+     * @throws IOException
+     *             if the header can't be read
+     */
+    public CsvEntityRowReader(@NonNull final InputStream input, @NonNull final CsvMapper mapper) throws IOException {
+        super();
+
+        rows = mapper.readerFor(DefaultExampleEntity.class)
+            .with(CsvSchema.emptySchema()
+                .withHeader())
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readValues(input);
+    }
+
+    @Override
+    public final void close() throws IOException {
+        rows.close();
+    }
+
+    @Override
+    public final Optional<ImportRow> next() throws IOException {
+        final Optional<ImportRow> row;
+        final Long                line;
+        ImportRow                 read;
+
+        // Resyncs with the next row if the last one failed
+        if (rows.hasNextValue()) {
+            line = (long) rows.getCurrentLocation()
+                .getLineNr();
+            try {
+                read = ImportRow.valid(line, rows.nextValue());
+            } catch (final JsonProcessingException e) {
+                read = ImportRow.invalid(line, e.getOriginalMessage());
+            }
+            row = Optional.of(read);
+        } else {
+            row = Optional.empty();
+        }
+
+        return row;
+    }
+
+}
@@ -0,0 +1,52 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+import Spring_boot_web.I_dont_know.importing.model.ImportRow;
+
+/**
+ * Reads the rows of an imported file one at a time, so the file is never fully kept in memory.
+ * <p>
+ * Rows which can't be parsed are returned with their error, and reading goes on with the next row.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface EntityRowReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or nothing if there are no more rows
+     * @throws IOException
+     *             if the file can't be read any more
+     */
+    public Optional<ImportRow> next() throws IOException;
+
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import lombok.NonNull;
+
+/**
+ * Opens the reader for an imported file, according to its media type.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class EntityRowReaderFactory {
+
+    /**
+     * CSV media type.
+     */
+    public static final String   TEXT_CSV    = "text/csv";
+
+    /**
+     * Size of the buffer for decompressing the files.
+     */
+    private static final Integer BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Mapper for the CSV files.
+     */
+    private final CsvMapper      csvMapper   = new CsvMapper();
+
+    /**
+     * Mapper for the JSON files.
+     */
+    private final ObjectMapper   objectMapper;
+
+    /**
+     * Builds a factory using the received JSON mapper.
+     *
+     * @param mapper
+     *            JSON mapper
+     */
+    public EntityRowReaderFactory(@NonNull final ObjectMapper mapper) {
+        super();
+
+        objectMapper = mapper;
+    }
+
+    /**
+     * Opens a reader for the file in the stream.
+     *
+     * @param input
+     *            stream with the file
+     * @param type
+     *            file media type, either CSV or newline delimited JSON
+     * @param gzipped
+     *            {@code true} if the file is compressed with gzip, {@code false} otherwise
+     * @return a reader for the file
+     * @throws IOException
+     *             if the file can't be opened
+     * @throws IllegalArgumentException
+     *             if the media type is not supported
+     */
+    public final EntityRowReader open(final InputStream input, final MediaType type, final Boolean gzipped)
+            throws IOException {
+        final InputStream     decompressed;
+        final EntityRowReader reader;
+
+        if (gzipped) {
+            decompressed = new GZIPInputStream(input, BUFFER_SIZE);
+        } else {
+            decompressed = input;
+        }
+
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(type)) {
+            reader = new NdJsonEntityRowReader(decompressed, objectMapper);
+        } else if (MediaType.parseMediaType(TEXT_CSV)
+            .isCompatibleWith(type)) {
+            reader = new CsvEntityRowReader(decompressed, csvMapper);
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported import type %s", type));
+        }
+
+        return reader;
+    }
+
+}
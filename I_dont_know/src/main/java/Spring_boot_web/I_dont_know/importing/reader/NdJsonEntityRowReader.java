@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.reader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
+import Spring_boot_web.I_dont_know.importing.model.ImportRow;
+
+import lombok.NonNull;
+
+/**
+ * Reads the rows of a newline delimited JSON file, where each line is an entity. Blank lines are skipped, and unknown
+ * properties are ignored.
+ * <p>
+ * Each line is parsed on its own, so a malformed line doesn't affect the next ones.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class NdJsonEntityRowReader implements EntityRowReader {
+
+    /**
+     * Reader for the entities in each line.
+     */
+    private final ObjectReader   entityReader;
+
+    /**
+     * Number of the last line read.
+     */
+    private long                 line = 0;
+
+    /**
+     * Reader for the file lines.
+     */
+    private final BufferedReader lines;
+
+    /**
+     * Builds a reader for the file in the stream. It should be encoded in UTF-8.
+     *
+     * @param input
+     *            stream with the file
+     * @param mapper
+     *            JSON mapper
+     */
+    public NdJsonEntityRowReader(@NonNull final InputStream input, @NonNull final ObjectMapper mapper) {
+        super();
+
+        lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        entityReader = mapper.readerFor(DefaultExampleEntity.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public final void close() throws IOException {
+        lines.close();
+    }
+
+    @Override
+    public final Optional<ImportRow> next() throws IOException {
+        final Optional<ImportRow> row;
+        String                    text;
+
+        text = readLine();
+        while ((text != null) && text.isBlank()) {
+            text = readLine();
+        }
+
+        if (text == null) {
+            row = Optional.empty();
+        } else {
+            row = Optional.of(parse(text));
+        }
+
+        return row;
+    }
+
+    /**
+     * Parses the entity in the current line.
+     *
+     * @param text
+     *            line to parse
+     * @return the row for the line
+     */
+    private final ImportRow parse(final String text) {
+        final DefaultExampleEntity entity;
+        ImportRow                  row;
+
+        try {
+            entity = entityReader.readValue(text);
+            if (entity == null) {
+                row = ImportRow.invalid(line, "Not an entity");
+            } else {
+                row = ImportRow.valid(line, entity);
+            }
+        } catch (final JsonProcessingException e) {
+            row = ImportRow.invalid(line, e.getOriginalMessage());
+        }
+
+        return row;
+    }
+
+    /**
+     * Reads the next line, keeping track of its number.
+     *
+     * @return the next line, or {@code null} at the end of the file
+     * @throws IOException
+     *             if the file can't be read
+     */
+    private final String readLine() throws IOException {
+        line++;
+
+        return lines.readLine();
+    }
+
+}
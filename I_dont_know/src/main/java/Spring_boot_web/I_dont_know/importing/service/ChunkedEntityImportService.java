@@ -0,0 +1,229 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.PersistenceException;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.importing.model.DefaultImportReport;
+import Spring_boot_web.I_dont_know.importing.model.ImportReport;
+import Spring_boot_web.I_dont_know.importing.model.ImportRow;
+import Spring_boot_web.I_dont_know.importing.model.RowError;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReader;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Import service which handles the file in chunks. Only a chunk of rows is kept in memory at once, and each of them is
+ * validated and then created in its own transaction, through JDBC batches.
+ * <p>
+ * If a chunk can't be written all of its rows are rejected, and the import goes on with the next one.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class ChunkedEntityImportService implements EntityImportService {
+
+    /**
+     * Number of rows validated and created together.
+     */
+    private final Integer              chunkSize;
+
+    /**
+     * Maximum number of errors listed in the report.
+     */
+    private final Integer              maxErrors;
+
+    /**
+     * Service for the entities, to create them.
+     */
+    private final ExampleEntityService service;
+
+    /**
+     * Validator for the names of the rows.
+     */
+    private final EntityNameValidator  validator;
+
+    /**
+     * Builds an import service.
+     *
+     * @param srvc
+     *            service to create the entities
+     * @param nameValidator
+     *            validator for the names of the rows
+     * @param chunk
+     *            number of rows validated and created together
+     * @param errors
+     *            maximum number of errors listed in the report
+     */
+    public ChunkedEntityImportService(@NonNull final ExampleEntityService srvc,
+            @NonNull final EntityNameValidator nameValidator, @NonNull final Integer chunk,
+            @NonNull final Integer errors) {
+        super();
+
+        service = srvc;
+        validator = nameValidator;
+        chunkSize = chunk;
+        maxErrors = errors;
+    }
+
+    @Override
+    public final ImportReport importAll(final EntityRowReader reader) {
+        final DefaultImportReport report;
+        final List<ImportRow>     chunk;
+        Optional<ImportRow>       row;
+        Long                      line;
+
+        report = new DefaultImportReport();
+        chunk = new ArrayList<>(chunkSize);
+        line = 0L;
+        try {
+            row = reader.next();
+            while (row.isPresent()) {
+                line = row.get()
+                    .getLine();
+                report.setRead(report.getRead() + 1);
+                if (row.get()
+                    .getParsed()) {
+                    chunk.add(row.get());
+                } else {
+                    reject(report, line, row.get()
+                        .getError());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    write(chunk, report);
+                    chunk.clear();
+                }
+
+                row = reader.next();
+            }
+        } catch (final IOException e) {
+            log.error("Import stopped after line {}: {}", line, e.getMessage());
+            report.setComplete(false);
+            addError(report, RowError.of(line + 1, String.format("File not readable from here: %s", e.getMessage())));
+        }
+
+        if (!chunk.isEmpty()) {
+            write(chunk, report);
+        }
+
+        return report;
+    }
+
+    /**
+     * Adds the error to the report, unless it already lists the maximum number of errors.
+     *
+     * @param report
+     *            report to update
+     * @param error
+     *            error to add
+     */
+    private final void addError(final DefaultImportReport report, final RowError error) {
+        if (report.getErrors()
+            .size() < maxErrors) {
+            report.getErrors()
+                .add(error);
+        }
+    }
+
+    /**
+     * Rejects a row.
+     *
+     * @param report
+     *            report to update
+     * @param line
+     *            line where the row starts
+     * @param message
+     *            reason why the row was rejected
+     */
+    private final void reject(final DefaultImportReport report, final Long line, final String message) {
+        report.setRejected(report.getRejected() + 1);
+        addError(report, RowError.of(line, message));
+    }
+
+    /**
+     * Validates the chunk, and creates the entities for its valid rows, rejecting the rest.
+     *
+     * @param chunk
+     *            rows to write
+     * @param report
+     *            report to update
+     */
+    private final void write(final List<ImportRow> chunk, final DefaultImportReport report) {
+        final List<ExampleEntity> rows;
+        final List<String>        errors;
+        final List<ImportRow>     accepted;
+        final List<ExampleEntity> entities;
+        ImportRow                 row;
+        String                    error;
+
+        rows = new ArrayList<>(chunk.size());
+        for (final ImportRow chunkRow : chunk) {
+            rows.add(chunkRow.getEntity());
+        }
+        // The whole chunk is checked with a single query
+        errors = validator.validate(rows);
+
+        accepted = new ArrayList<>(chunk.size());
+        entities = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            row = chunk.get(i);
+            error = errors.get(i);
+            if (error.isEmpty()) {
+                accepted.add(row);
+                entities.add(row.getEntity());
+            } else {
+                reject(report, row.getLine(), error);
+            }
+        }
+
+        try {
+            service.createAll(entities);
+            report.setCreated(report.getCreated() + entities.size());
+        } catch (final PersistenceException | DataAccessException | TransactionException e) {
+            // The chunk transaction was rolled back
+            log.error("Chunk not imported: {}", e.getMessage());
+            for (final ImportRow row : accepted) {
+                reject(report, row.getLine(), String.format("Not stored: %s", e.getMessage()));
+            }
+        }
+
+        log.debug("Imported {} rows, created {}, rejected {}", report.getRead(), report.getCreated(),
+            report.getRejected());
+    }
+
+}
@@ -0,0 +1,50 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.service;
+
+import Spring_boot_web.I_dont_know.importing.model.ImportReport;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReader;
+
+/**
+ * Imports the example entities from a file.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface EntityImportService {
+
+    /**
+     * Creates the entities for all the rows in the reader. Rows which are not valid are rejected, and the rest are
+     * imported.
+     * <p>
+     * If the file can't be read to the end the rows read up to that point are still imported.
+     *
+     * @param reader
+     *            reader for the imported file
+     * @return the import report, with the errors for the rejected rows
+     */
+    public ImportReport importAll(final EntityRowReader reader);
+
+}
@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+
+import lombok.NonNull;
+
+/**
+ * Validates the names of the entities before creating them. Names are required, can't be longer than their column,
+ * and must be unique, both among the entities validated together and against the stored ones.
+ * <p>
+ * Shared by the imports and the batch creation, so both reject the same rows.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class EntityNameValidator {
+
+    /**
+     * Maximum length for the names, which is the size of their column.
+     */
+    private static final Integer          MAX_NAME_LENGTH = 50;
+
+    /**
+     * Repository for the entities, to find the names already in use.
+     */
+    private final ExampleEntityRepository repository;
+
+    /**
+     * Builds a validator checking the stored names in the received repository.
+     *
+     * @param repo
+     *            repository for the entities
+     */
+    public EntityNameValidator(@NonNull final ExampleEntityRepository repo) {
+        super();
+
+        repository = repo;
+    }
+
+    /**
+     * Validates the names of the entities. The stored names are checked with a single query.
+     *
+     * @param entities
+     *            entities to validate
+     * @return the error for each entity, in the same order, with an empty string for the valid ones
+     */
+    public final List<String> validate(final List<? extends ExampleEntity> entities) {
+        final Collection<String> names;
+        final Set<String>        existing;
+        final Set<String>        accepted;
+        final List<String>       errors;
+        String                   error;
+
+        names = new ArrayList<>(entities.size());
+        for (final ExampleEntity entity : entities) {
+            if (entity.getName() != null) {
+                names.add(entity.getName());
+            }
+        }
+        if (names.isEmpty()) {
+            // Empty IN clauses are not valid SQL
+            existing = new HashSet<>();
+        } else {
+            existing = new HashSet<>(repository.findNamesIn(names));
+        }
+
+        accepted = new HashSet<>();
+        errors = new ArrayList<>(entities.size());
+        for (final ExampleEntity entity : entities) {
+            error = validate(entity.getName(), accepted, existing);
+            if (error.isEmpty()) {
+                accepted.add(entity.getName());
+            }
+            errors.add(error);
+        }
+
+        return errors;
+    }
+
+    /**
+     * Validates the name of an entity.
+     *
+     * @param name
+     *            name to validate
+     * @param accepted
+     *            names already accepted
+     * @param existing
+     *            names already stored
+     * @return the validation error, or an empty string if the name is valid
+     */
+    private final String validate(final String name, final Set<String> accepted, final Set<String> existing) {
+        final String error;
+
+        if ((name == null) || name.isBlank()) {
+            error = "Missing name";
+        } else if (name.length() > MAX_NAME_LENGTH) {
+            error = String.format("Name longer than %d characters", MAX_NAME_LENGTH);
+        } else if (existing.contains(name)) {
+            error = "Name already exists";
+        } else if (accepted.contains(name)) {
+            error = "Name repeated";
+        } else {
+            error = "";
+        }
+
+        return error;
+    }
+
+}
@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.importing.service;
+
+import java.util.List;
+
+import Spring_boot_web.I_dont_know.importing.model.RowError;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Thrown when the entities received to be created together are not valid. None of them is created. This is a client
+ * error, so it is answered with a bad request status, listing the errors.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class InvalidEntitiesException extends RuntimeException {
+
+    private static final long    serialVersionUID = 2950365419384762631L;
+
+    /**
+     * Errors for the invalid entities.
+     */
+    @Getter
+    private final List<RowError> errors;
+
+    /**
+     * Constructs an exception with the received errors.
+     *
+     * @param rowErrors
+     *            errors for the invalid entities
+     */
+    public InvalidEntitiesException(@NonNull final List<RowError> rowErrors) {
+        super(String.format("%d invalid entities", rowErrors.size()));
+
+        errors = rowErrors;
+    }
+
+}
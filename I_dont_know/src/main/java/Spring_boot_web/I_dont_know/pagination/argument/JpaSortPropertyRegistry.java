@@ -0,0 +1,188 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.argument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EmbeddableType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sort property registry built from the JPA metamodel.
+ * <p>
+ * The sortable paths are the basic attributes of each entity, including those inside embedded attributes, such as
+ * {@code address.city}. Associations are not included, as sorting by them requires joins.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class JpaSortPropertyRegistry implements SortPropertyRegistry {
+
+    /**
+     * Sortable paths for all the entities.
+     */
+    private final Set<String>                allPaths;
+
+    /**
+     * Sortable paths for each entity.
+     */
+    private final Map<Class<?>, Set<String>> paths;
+
+    /**
+     * Sortable paths for each type looked up, which includes the types extended or implemented by the entities.
+     */
+    private final Map<Class<?>, Set<String>> typePaths = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the registry from the metamodel.
+     *
+     * @param metamodel
+     *            JPA metamodel
+     */
+    public JpaSortPropertyRegistry(@NonNull final Metamodel metamodel) {
+        super();
+
+        final Map<Class<?>, Set<String>> entityPaths;
+        final Set<String>                all;
+
+        entityPaths = new HashMap<>();
+        all = new HashSet<>();
+        for (final EntityType<?> entity : metamodel.getEntities()) {
+            final Set<String> sortable;
+
+            sortable = new HashSet<>();
+            loadPaths(entity, "", sortable);
+            log.debug("Sortable paths for {}: {}", entity.getJavaType()
+                .getSimpleName(), sortable);
+
+            entityPaths.put(entity.getJavaType(), Collections.unmodifiableSet(sortable));
+            all.addAll(sortable);
+        }
+
+        paths = Collections.unmodifiableMap(entityPaths);
+        allPaths = Collections.unmodifiableSet(all);
+    }
+
+    @Override
+    public final Boolean isRegistered(final Class<?> type) {
+        return !getPaths(type).isEmpty();
+    }
+
+    @Override
+    public final Boolean isSortable(final Class<?> type, final String property) {
+        return getPaths(type).contains(property);
+    }
+
+    /**
+     * Returns the sortable paths for the type. For entities these are their own paths. For other types these are the
+     * paths shared by all the entities which extend or implement them.
+     *
+     * @param type
+     *            type to read
+     * @return the sortable paths for the type
+     */
+    private final Set<String> getPaths(final Class<?> type) {
+        return typePaths.computeIfAbsent(type, this::loadTypePaths);
+    }
+
+    @Override
+    public final Boolean isSortable(final String property) {
+        return allPaths.contains(property);
+    }
+
+    /**
+     * Loads the sortable paths for the type. Only the paths valid for all the matching entities are kept, so a path
+     * which exists in a single one of them is never accepted for the rest.
+     *
+     * @param type
+     *            type to read
+     * @return the sortable paths for the type
+     */
+    private final Set<String> loadTypePaths(final Class<?> type) {
+        final Collection<Set<String>> matching;
+        final Set<String>             shared;
+        final Set<String>             result;
+
+        if (paths.containsKey(type)) {
+            result = paths.get(type);
+        } else {
+            matching = paths.entrySet()
+                .stream()
+                .filter(e -> type.isAssignableFrom(e.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+            if (matching.isEmpty()) {
+                result = Collections.emptySet();
+            } else {
+                shared = new HashSet<>(matching.iterator()
+                    .next());
+                matching.forEach(shared::retainAll);
+                log.debug("Sortable paths for {}: {}", type.getSimpleName(), shared);
+                result = Collections.unmodifiableSet(shared);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the sortable paths of the managed type, with the received prefix.
+     *
+     * @param type
+     *            managed type to read
+     * @param prefix
+     *            path to the type
+     * @param sortable
+     *            set to add the paths to
+     */
+    private final void loadPaths(final ManagedType<?> type, final String prefix, final Set<String> sortable) {
+        for (final SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+            final String path;
+
+            path = prefix + attribute.getName();
+            if (PersistentAttributeType.BASIC.equals(attribute.getPersistentAttributeType())) {
+                sortable.add(path);
+            } else if (attribute.getType() instanceof EmbeddableType) {
+                loadPaths((EmbeddableType<?>) attribute.getType(), path + ".", sortable);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.argument;
+
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.pagination.query.PageQueryCache;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Argument resolver for page queries. Resolves the pagination and sort in a single argument, along the Spring
+ * {@code Pageable} built from them.
+ * <p>
+ * The pagination and sort parameters are the same ones accepted by {@link PaginationArgumentResolver} and
+ * {@link SortArgumentResolver}. All of them are read in a single pass over the request parameters, and then handed to
+ * those resolvers, which apply the same rules and caches as when resolving the arguments on their own. Queries for
+ * repeated combinations are kept in a {@link PageQueryCache}, so the {@code Pageable} is not built again for each
+ * request.
+ * <p>
+ * The resolved query is stored as a request attribute, and reused if it is resolved again for the same request. This
+ * way interceptors reading the query before the handler, such as the response cache, and the handler itself always
+ * receive the same query, even when the page size depends on the current load.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class PageQueryArgumentResolver implements HandlerMethodArgumentResolver {
+
+    /**
+     * Request attribute with the query resolved for the request.
+     */
+    public static final String               QUERY_ATTRIBUTE     = PageQueryArgumentResolver.class.getName()
+            + ".query";
+
+    /**
+     * Default maximum number of cached queries.
+     */
+    private static final int                 DEFAULT_MAX_QUERIES = 1024;
+
+    /**
+     * Default number of pages, from the first one, whose queries are cached.
+     */
+    private static final int                 DEFAULT_MAX_PAGE    = 16;
+
+    /**
+     * Resolver for the pagination.
+     */
+    private final PaginationArgumentResolver paginationResolver;
+
+    /**
+     * Cache for the repeated queries.
+     */
+    private final PageQueryCache             queryCache;
+
+    /**
+     * Resolver for the sort.
+     */
+    private final SortArgumentResolver       sortResolver;
+
+    /**
+     * Default constructor. Page sizes are limited to the default maximum.
+     */
+    public PageQueryArgumentResolver() {
+        this(new PaginationArgumentResolver(), new SortArgumentResolver(),
+            new PageQueryCache(DEFAULT_MAX_QUERIES, DEFAULT_MAX_PAGE));
+    }
+
+    /**
+     * Builds a resolver which reads the pagination and sort with the received resolvers.
+     *
+     * @param pgResolver
+     *            resolver for the pagination
+     * @param srtResolver
+     *            resolver for the sort
+     * @param cache
+     *            cache for the repeated queries
+     */
+    public PageQueryArgumentResolver(@NonNull final PaginationArgumentResolver pgResolver,
+            @NonNull final SortArgumentResolver srtResolver, @NonNull final PageQueryCache cache) {
+        super();
+
+        paginationResolver = pgResolver;
+        sortResolver = srtResolver;
+        queryCache = cache;
+    }
+
+    @Override
+    public final PageQuery resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) throws Exception {
+        final Object    stored;
+        final PageQuery query;
+
+        stored = webRequest.getAttribute(QUERY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stored instanceof PageQuery) {
+            // Already resolved for this request
+            query = (PageQuery) stored;
+        } else {
+            query = readQuery(parameter, webRequest);
+            webRequest.setAttribute(QUERY_ATTRIBUTE, query, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return query;
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return PageQuery.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * Reads the query from the request parameters.
+     *
+     * @param parameter
+     *            parameter to resolve
+     * @param webRequest
+     *            request to read
+     * @return the query for the request parameters
+     * @throws Exception
+     *             if the parameters are not valid
+     */
+    private final PageQuery readQuery(final MethodParameter parameter, final NativeWebRequest webRequest)
+            throws Exception {
+        final Pagination pagination;
+        final Sort       sort;
+        String           pagedText;
+        String           pageText;
+        String           sizeText;
+        String           countText;
+        String           cursor;
+        String           sortedText;
+        String[]         sortTexts;
+        String           property;
+        String           directionText;
+
+        pagedText = null;
+        pageText = null;
+        sizeText = null;
+        countText = null;
+        cursor = null;
+        sortedText = null;
+        sortTexts = null;
+        property = null;
+        directionText = null;
+        for (final Map.Entry<String, String[]> entry : webRequest.getParameterMap()
+            .entrySet()) {
+            final String[] values;
+
+            values = entry.getValue();
+            switch (entry.getKey()) {
+                case "paged":
+                    pagedText = values[0];
+                    break;
+                case "page":
+                    pageText = values[0];
+                    break;
+                case "size":
+                    sizeText = values[0];
+                    break;
+                case "count":
+                    countText = values[0];
+                    break;
+                case "cursor":
+                    cursor = values[0];
+                    break;
+                case "sorted":
+                    sortedText = values[0];
+                    break;
+                case "sort":
+                    sortTexts = values;
+                    break;
+                case "property":
+                    property = values[0];
+                    break;
+                case "direction":
+                    directionText = values[0];
+                    break;
+                default:
+                    // Not a page query parameter
+                    break;
+            }
+        }
+
+        pagination = paginationResolver.toPagination(parameter, pagedText, pageText, sizeText, countText, cursor);
+        sort = sortResolver.toSort(parameter, sortedText, sortTexts, property, directionText);
+
+        log.trace("Querying {} sorted by {}", pagination, sort);
+
+        return queryCache.get(pagination, sort);
+    }
+
+}
@@ -25,17 +25,31 @@
 package Spring_boot_web.I_dont_know.pagination.argument;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import Spring_boot_web.I_dont_know.pagination.count.EstimatedCount;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.size.FixedPageSizeLimiter;
+import Spring_boot_web.I_dont_know.pagination.size.PageSizeLimiter;
 
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Argument resolver for pagination data.
+ * <p>
+ * Offset pagination is read from the {@code page} and {@code size} parameters. If a {@code cursor} parameter is
+ * received then keyset pagination is used instead, with an empty cursor pointing to the first page.
+ * <p>
+ * Offset pages count the total number of elements, unless the {@code count} parameter is set to {@code false}. If
+ * the handler is annotated with {@link EstimatedCount} then the total may be estimated instead.
+ * <p>
+ * The page size is limited by a {@link PageSizeLimiter}, and the applied size is the one returned in the response.
+ * Negative pages are read as the first one, and pages whose offset doesn't fit in an integer are rejected.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -44,45 +58,104 @@ import lombok.extern.slf4j.Slf4j;
 public final class PaginationArgumentResolver implements HandlerMethodArgumentResolver {
 
     /**
-     * Default constructor.
+     * Limiter for the requested page sizes.
+     */
+    private final PageSizeLimiter limiter;
+
+    /**
+     * Default constructor. Page sizes are limited to the default maximum.
      */
     public PaginationArgumentResolver() {
+        this(new FixedPageSizeLimiter(Pagination.MAX_SIZE));
+    }
+
+    /**
+     * Builds a resolver which limits the page sizes with the received limiter.
+     *
+     * @param sizeLimiter
+     *            limiter for the requested page sizes
+     */
+    public PaginationArgumentResolver(@NonNull final PageSizeLimiter sizeLimiter) {
         super();
+
+        limiter = sizeLimiter;
     }
 
     @Override
     public final Pagination resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
             final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) throws Exception {
-        final String     pagedText;
-        final String     pageText;
-        final String     sizeText;
+        return toPagination(parameter, webRequest.getParameter("paged"), webRequest.getParameter("page"),
+            webRequest.getParameter("size"), webRequest.getParameter("count"), webRequest.getParameter("cursor"));
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return Pagination.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * Transforms the pagination parameters into a pagination. Shared with {@link PageQueryArgumentResolver}, which
+     * reads all the parameters at once.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param pagedText
+     *            received {@code paged} parameter
+     * @param pageText
+     *            received {@code page} parameter
+     * @param sizeText
+     *            received {@code size} parameter
+     * @param countText
+     *            received {@code count} parameter
+     * @param cursor
+     *            received {@code cursor} parameter
+     * @return the pagination for the parameters
+     * @throws ServletRequestBindingException
+     *             if the page offset is out of range
+     */
+    final Pagination toPagination(final MethodParameter parameter, final String pagedText, final String pageText,
+            final String sizeText, final String countText, final String cursor) throws ServletRequestBindingException {
         final Boolean    paged;
+        final Boolean    counted;
+        final Boolean    estimated;
         final Integer    page;
         final Integer    size;
         final Pagination pagination;
 
-        pagedText = webRequest.getParameter("paged");
         paged = parseBoolean(pagedText);
 
         if (paged) {
-            pageText = webRequest.getParameter("page");
-            sizeText = webRequest.getParameter("size");
+            if (cursor != null) {
+                // Keyset pagination
+                size = parseSize(sizeText);
 
-            if ((pageText == null) && (sizeText == null)) {
-                // No pagination parameters
-                log.trace("No pagination data received, using disabled pagination");
-                pagination = Pagination.first();
+                log.trace("Building keyset page from cursor {} with size {}", cursor, size);
+                pagination = Pagination.cursor(cursor, size);
             } else {
-                page = parseInteger(pageText);
+                counted = parseBoolean(countText);
+                estimated = parameter.hasMethodAnnotation(EstimatedCount.class);
+
                 size = parseSize(sizeText);
 
-                log.trace("Building page {} with size {}", page, size);
-                // Checks size. If it is invalid then the default size is used
-                if (size > 0) {
-                    pagination = Pagination.of(page, size);
+                if ((pageText == null) && (sizeText == null) && (counted) && (!estimated)) {
+                    // No pagination parameters
+                    log.trace("No pagination data received, using first page");
+                    pagination = Pagination.of(0, size);
                 } else {
-                    log.trace("Invalid size {}, using default size", size);
-                    pagination = Pagination.of(page);
+                    page = parsePage(pageText);
+                    if (((long) page * size) > Integer.MAX_VALUE) {
+                        // JPA offsets are integers
+                        log.debug("Rejected page {} with size {}, the offset is out of range", page, size);
+                        throw new ServletRequestBindingException(
+                            String.format("Page %d with size %d is out of range", page, size));
+                    }
+
+                    if (log.isTraceEnabled()) {
+                        // Avoids creating the arguments array on each request
+                        log.trace("Building page {} with size {}, counted: {}, estimated: {}", page, size, counted,
+                            estimated);
+                    }
+                    pagination = Pagination.of(page, size, counted, estimated);
                 }
             }
         } else {
@@ -94,11 +167,6 @@ public final class PaginationArgumentResolver implements HandlerMethodArgumentRe
         return pagination;
     }
 
-    @Override
-    public final boolean supportsParameter(final MethodParameter parameter) {
-        return Pagination.class.equals(parameter.getParameterType());
-    }
-
     /**
      * Transforms the text into its boolean value.
      *
@@ -119,40 +187,58 @@ public final class PaginationArgumentResolver implements HandlerMethodArgumentRe
     }
 
     /**
-     * Transforms the text into its numeric value.
+     * Transforms the page text into the page to apply. If the page is missing or negative then the first page is used.
      *
-     * @param text
-     *            text with the integer page
+     * @param pageText
+     *            text with the page
      * @return page as integer
      */
-    private final Integer parseInteger(final String text) {
+    private final Integer parsePage(final String pageText) {
+        final Integer requested;
         final Integer page;
 
-        if (text == null) {
-            page = 0;
+        if (pageText == null) {
+            requested = 0;
+        } else {
+            requested = Integer.valueOf(pageText);
+        }
+
+        if (requested >= 0) {
+            page = requested;
         } else {
-            page = Integer.valueOf(text);
+            // Otherwise it would become an unpaged read of the whole table
+            log.trace("Invalid page {}, using first page", requested);
+            page = 0;
         }
 
         return page;
     }
 
     /**
-     * Transforms the size text into its numeric value.
+     * Transforms the size text into the page size to apply. If the size is missing or invalid then the default size is
+     * used, and in any case it is limited by the page size limiter.
      *
      * @param sizeText
      *            text with the pagination size
      * @return size as integer
      */
     private final Integer parseSize(final String sizeText) {
+        final Integer requested;
         final Integer size;
 
         if (sizeText == null) {
             // No size
-            size = -1;
-            log.trace("No size received");
+            requested = Pagination.DEFAULT_SIZE;
+            log.trace("No size received, using default size");
+        } else {
+            requested = Integer.valueOf(sizeText);
+        }
+
+        if (requested > 0) {
+            size = limiter.limit(requested);
         } else {
-            size = Integer.valueOf(sizeText);
+            log.trace("Invalid size {}, using default size", requested);
+            size = limiter.limit(Pagination.DEFAULT_SIZE);
         }
 
         return size;
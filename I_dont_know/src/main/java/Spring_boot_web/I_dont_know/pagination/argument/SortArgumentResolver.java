@@ -24,19 +24,42 @@
 
 package Spring_boot_web.I_dont_know.pagination.argument;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Argument resolver for sorting data.
+ * <p>
+ * Several sorting keys can be received with the {@code sort} parameter, such as {@code sort=name,desc&sort=id,asc},
+ * and are applied in order. A single key can be received also with the {@code property} and {@code direction}
+ * parameters.
+ * <p>
+ * If the handler is annotated with {@link Sortable} then only the declared properties are accepted, and the
+ * tie-breaker is appended when missing.
+ * <p>
+ * Requests with a single {@code sort} parameter, or with the {@code property} and {@code direction} parameters, are
+ * resolved once per handler. Then the same {@code Sort} is returned for the same parameters, so common requests
+ * allocate nothing. Only a limited number of sorts is kept for each handler, evicting those which are least used.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -44,6 +67,37 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class SortArgumentResolver implements HandlerMethodArgumentResolver {
 
+    /**
+     * Sorts resolved for a handler.
+     */
+    private static final class HandlerSorts {
+
+        /**
+         * Resolved sorts, by the received {@code property} parameter, indexed by direction.
+         */
+        private final Cache<String, Sort[]> byProperty = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SORTS)
+            .build();
+
+        /**
+         * Resolved sorts, by the received {@code sort} parameter.
+         */
+        private final Cache<String, Sort>   bySort     = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SORTS)
+            .build();
+
+    }
+
+    /**
+     * Maximum number of resolved sorts kept for each handler and parameter form.
+     */
+    private static final int                MAX_CACHED_SORTS = 64;
+
+    /**
+     * Resolved sorts, for each handler.
+     */
+    private final Map<Method, HandlerSorts> cache            = new ConcurrentHashMap<>();
+
     /**
      * Default constructor.
      */
@@ -54,33 +108,48 @@ public final class SortArgumentResolver implements HandlerMethodArgumentResolver
     @Override
     public final Sort resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
             final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) throws Exception {
-        final String    sortedText;
-        final String    property;
-        final String    directionText;
-        final Boolean   sorted;
-        final Direction direction;
-        final Sort      sort;
+        return toSort(parameter, webRequest.getParameter("sorted"), webRequest.getParameterValues("sort"),
+            webRequest.getParameter("property"), webRequest.getParameter("direction"));
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return Sort.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * Transforms the sort parameters into a sort, taking it from the cache if possible. Shared with
+     * {@link PageQueryArgumentResolver}, which reads all the parameters at once.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param sortedText
+     *            received {@code sorted} parameter
+     * @param sortTexts
+     *            received {@code sort} parameters
+     * @param property
+     *            received {@code property} parameter
+     * @param directionText
+     *            received {@code direction} parameter
+     * @return the sort for the parameters
+     * @throws ServletRequestBindingException
+     *             if any property is not sortable
+     */
+    final Sort toSort(final MethodParameter parameter, final String sortedText, final String[] sortTexts,
+            final String property, final String directionText) throws ServletRequestBindingException {
+        final Boolean sorted;
+        final Sort    cached;
+        final Sort    sort;
 
-        sortedText = webRequest.getParameter("sorted");
         sorted = parseBoolean(sortedText);
 
         if (sorted) {
-            property = webRequest.getParameter("property");
-            directionText = webRequest.getParameter("direction");
-
-            if (property == null) {
-                // No sort parameters
-                log.trace("No sorting data received, using disabled sort");
-                sort = Sort.disabled();
+            cached = getCached(parameter, sortTexts, property, directionText);
+            if (cached == null) {
+                sort = parseSort(parameter, sortTexts, property, directionText);
+                putCached(parameter, sortTexts, property, directionText, sort);
             } else {
-                if ("desc".equalsIgnoreCase(directionText)) {
-                    direction = Direction.DESC;
-                } else {
-                    direction = Direction.ASC;
-                }
-
-                log.trace("Sorting by property {} and direction {}", property, direction);
-                sort = Sort.of(property, direction);
+                sort = cached;
             }
         } else {
             // No sort
@@ -91,9 +160,74 @@ public final class SortArgumentResolver implements HandlerMethodArgumentResolver
         return sort;
     }
 
-    @Override
-    public final boolean supportsParameter(final MethodParameter parameter) {
-        return Sort.class.equals(parameter.getParameterType());
+    /**
+     * Appends the tie-breaker as last sorting key, if it is not already sorted by it. It takes the direction of the
+     * previous key, so the index can be read in a single direction.
+     *
+     * @param orders
+     *            sorting keys
+     * @param tieBreaker
+     *            unique property to append
+     */
+    private final void appendTieBreaker(final List<Order> orders, final String tieBreaker) {
+        final Boolean   included;
+        final Direction direction;
+
+        included = orders.stream()
+            .anyMatch(o -> tieBreaker.equals(o.getProperty()));
+        if (!included) {
+            direction = orders.get(orders.size() - 1)
+                .getDirection();
+            log.trace("Appending tie-breaker {} {}", tieBreaker, direction);
+            orders.add(Order.of(tieBreaker, direction));
+        }
+    }
+
+    /**
+     * Returns the sort already resolved for the handler and the parameters, if any. Only a single {@code sort}
+     * parameter, or the {@code property} and {@code direction} parameters, are cached.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param sortTexts
+     *            received {@code sort} parameters
+     * @param property
+     *            received {@code property} parameter
+     * @param directionText
+     *            received {@code direction} parameter
+     * @return the resolved sort, or {@code null} if there is none
+     */
+    private final Sort getCached(final MethodParameter parameter, final String[] sortTexts, final String property,
+            final String directionText) {
+        final HandlerSorts sorts;
+        final Sort[]       byDirection;
+        final Sort         sort;
+
+        if (parameter.getMethod() == null) {
+            sort = null;
+        } else {
+            sorts = cache.get(parameter.getMethod());
+            if (sorts == null) {
+                sort = null;
+            } else if ((sortTexts != null) && (sortTexts.length > 0)) {
+                if (sortTexts.length == 1) {
+                    sort = sorts.bySort.getIfPresent(sortTexts[0]);
+                } else {
+                    sort = null;
+                }
+            } else if (property != null) {
+                byDirection = sorts.byProperty.getIfPresent(property);
+                if (byDirection == null) {
+                    sort = null;
+                } else {
+                    sort = byDirection[parseDirection(directionText).ordinal()];
+                }
+            } else {
+                sort = null;
+            }
+        }
+
+        return sort;
     }
 
     /**
@@ -115,4 +249,164 @@ public final class SortArgumentResolver implements HandlerMethodArgumentResolver
         return result;
     }
 
+    /**
+     * Transforms the text into a direction. Anything other than descending is ascending.
+     *
+     * @param text
+     *            text with the direction
+     * @return the direction
+     */
+    private final Direction parseDirection(final String text) {
+        final Direction direction;
+
+        if ("desc".equalsIgnoreCase(text)) {
+            direction = Direction.DESC;
+        } else {
+            direction = Direction.ASC;
+        }
+
+        return direction;
+    }
+
+    /**
+     * Transforms the text into a sorting key. It expects the property, optionally followed by a comma and the
+     * direction.
+     *
+     * @param text
+     *            text with the sorting key
+     * @return the sorting key
+     */
+    private final Order parseOrder(final String text) {
+        final String[]  parts;
+        final String    directionText;
+        final Direction direction;
+
+        parts = text.split(",");
+        if (parts.length > 1) {
+            directionText = parts[1].trim();
+        } else {
+            directionText = null;
+        }
+        direction = parseDirection(directionText);
+
+        return Order.of(parts[0].trim(), direction);
+    }
+
+    /**
+     * Transforms the request parameters into a sort. If the handler is annotated with {@link Sortable} then the
+     * properties are validated, and the tie-breaker is appended.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param sortTexts
+     *            received {@code sort} parameters
+     * @param property
+     *            received {@code property} parameter
+     * @param directionText
+     *            received {@code direction} parameter
+     * @return the sort for the request
+     * @throws ServletRequestBindingException
+     *             if any property is not sortable
+     */
+    private final Sort parseSort(final MethodParameter parameter, final String[] sortTexts, final String property,
+            final String directionText) throws ServletRequestBindingException {
+        final List<Order> orders;
+        final Sortable    sortable;
+        final Sort        sort;
+
+        orders = new ArrayList<>();
+        if ((sortTexts != null) && (sortTexts.length > 0)) {
+            for (final String sortText : sortTexts) {
+                final Order order;
+
+                order = parseOrder(sortText);
+                if (order.getProperty()
+                    .isEmpty()) {
+                    log.trace("Ignoring sort {} with no property", sortText);
+                } else {
+                    orders.add(order);
+                }
+            }
+        } else if (property != null) {
+            orders.add(Order.of(property, parseDirection(directionText)));
+        }
+
+        if (orders.isEmpty()) {
+            // No sort parameters
+            log.trace("No sorting data received, using disabled sort");
+            sort = Sort.disabled();
+        } else {
+            sortable = parameter.getMethodAnnotation(Sortable.class);
+            if (sortable != null) {
+                validate(orders, sortable);
+                appendTieBreaker(orders, sortable.tieBreaker());
+            }
+
+            log.trace("Sorting by {}", orders);
+            sort = Sort.of(orders);
+        }
+
+        return sort;
+    }
+
+    /**
+     * Keeps the sort resolved for the handler and the parameters. Only a single {@code sort} parameter, or the
+     * {@code property} and {@code direction} parameters, are cached, and only up to a maximum for each handler, as the
+     * parameters come from the requests.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param sortTexts
+     *            received {@code sort} parameters
+     * @param property
+     *            received {@code property} parameter
+     * @param directionText
+     *            received {@code direction} parameter
+     * @param sort
+     *            resolved sort
+     */
+    private final void putCached(final MethodParameter parameter, final String[] sortTexts, final String property,
+            final String directionText, final Sort sort) {
+        final HandlerSorts sorts;
+        final Sort[]       byDirection;
+
+        if (parameter.getMethod() != null) {
+            sorts = cache.computeIfAbsent(parameter.getMethod(), m -> new HandlerSorts());
+            if ((sortTexts != null) && (sortTexts.length > 0)) {
+                if (sortTexts.length == 1) {
+                    sorts.bySort.put(sortTexts[0], sort);
+                }
+            } else if (property != null) {
+                // Both directions share the same entry, each one filled when first requested
+                byDirection = sorts.byProperty.get(property, p -> new Sort[Direction.values().length]);
+                byDirection[parseDirection(directionText).ordinal()] = sort;
+            }
+        }
+    }
+
+    /**
+     * Checks all the sorting keys are sortable.
+     *
+     * @param orders
+     *            sorting keys to check
+     * @param sortable
+     *            sortable properties
+     * @throws ServletRequestBindingException
+     *             if any property is not sortable
+     */
+    private final void validate(final List<Order> orders, final Sortable sortable)
+            throws ServletRequestBindingException {
+        final List<String> properties;
+
+        properties = Arrays.asList(sortable.value());
+        for (final Order order : orders) {
+            if ((!properties.contains(order.getProperty())) && (!sortable.tieBreaker()
+                .equals(order.getProperty()))) {
+                log.debug("Rejected sorting by {}, not in {}", order.getProperty(), properties);
+                throw new ServletRequestBindingException(
+                    String.format("Can't sort by %s, sortable properties are %s", order.getProperty(), properties));
+            }
+        }
+    }
+
 }
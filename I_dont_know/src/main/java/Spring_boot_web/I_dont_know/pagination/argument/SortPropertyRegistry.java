@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.argument;
+
+/**
+ * Registry of the properties which can be sorted. It is meant to be built once, so checking a property is just a
+ * lookup.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface SortPropertyRegistry {
+
+    /**
+     * Checks if the registry knows the sortable properties for the type. This is the case for the entities, and for the
+     * types they extend or implement.
+     *
+     * @param type
+     *            type to check
+     * @return {@code true} if the registry knows the type, {@code false} otherwise
+     */
+    public Boolean isRegistered(final Class<?> type);
+
+    /**
+     * Checks if the property can be sorted for the entity type.
+     * <p>
+     * The type may also be one extended or implemented by the entities, such as a domain interface. Then the property
+     * has to be sortable for all of those entities.
+     *
+     * @param type
+     *            entity type
+     * @param property
+     *            property path to check
+     * @return {@code true} if the property can be sorted, {@code false} otherwise
+     */
+    public Boolean isSortable(final Class<?> type, final String property);
+
+    /**
+     * Checks if the property can be sorted for any of the entities.
+     *
+     * @param property
+     *            property path to check
+     * @return {@code true} if the property can be sorted, {@code false} otherwise
+     */
+    public Boolean isSortable(final String property);
+
+}
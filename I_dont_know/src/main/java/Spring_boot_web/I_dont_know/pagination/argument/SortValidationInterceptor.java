@@ -0,0 +1,238 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.argument;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rejects requests sorting by invalid properties, before they reach the handler.
+ * <p>
+ * If the handler is annotated with {@link Sortable} then only the declared properties are valid. Otherwise the valid
+ * properties are those the {@link SortPropertyRegistry} holds for the entity type the handler returns, taken from the
+ * elements of an {@code Iterable} return type, or from the body of a {@code ResponseEntity}. Only when the registry
+ * doesn't know that type is any property of any entity accepted.
+ * <p>
+ * The validation applied to each handler method is resolved once.
+ * <p>
+ * Invalid requests are answered with a preallocated bad request response. No exception is thrown, so a misbehaving
+ * client can't fill the logs with stack traces.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class SortValidationInterceptor implements HandlerInterceptor {
+
+    /**
+     * Body for invalid sort requests.
+     */
+    private static final byte[]                  INVALID_SORT_BODY = "{\"content\":\"Invalid sort property\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Registry with the valid properties.
+     */
+    private final SortPropertyRegistry           registry;
+
+    /**
+     * Validation for the properties sorted in each handler method.
+     */
+    private final Map<Method, Predicate<String>> validations       = new ConcurrentHashMap<>();
+
+    /**
+     * Builds an interceptor validating against the received registry.
+     *
+     * @param sortPropertyRegistry
+     *            registry with the valid properties
+     */
+    public SortValidationInterceptor(@NonNull final SortPropertyRegistry sortPropertyRegistry) {
+        super();
+
+        registry = sortPropertyRegistry;
+    }
+
+    @Override
+    public final boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+            final Object handler) throws Exception {
+        final Collection<String> properties;
+        final HandlerMethod      handlerMethod;
+        final Predicate<String>  validation;
+        final boolean            valid;
+
+        if ((handler instanceof HandlerMethod) && (!"false".equalsIgnoreCase(request.getParameter("sorted")))) {
+            properties = getProperties(request);
+            handlerMethod = (HandlerMethod) handler;
+            validation = validations.computeIfAbsent(handlerMethod.getMethod(), m -> getValidation(handlerMethod));
+            valid = properties.stream()
+                .allMatch(validation);
+        } else {
+            valid = true;
+        }
+
+        if (!valid) {
+            log.debug("Rejected request to {} sorting by {}", request.getRequestURI(), request.getQueryString());
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(INVALID_SORT_BODY.length);
+            response.getOutputStream()
+                .write(INVALID_SORT_BODY);
+        }
+
+        return valid;
+    }
+
+    /**
+     * Returns the entity type returned by the handler method. This is the element type for an {@code Iterable}, after
+     * unwrapping the body of a {@code ResponseEntity}.
+     *
+     * @param method
+     *            handler method
+     * @return the entity type returned by the handler method
+     */
+    private final Class<?> getEntityType(final Method method) {
+        final ResolvableType returnType;
+        final ResolvableType bodyType;
+        final ResolvableType entityType;
+
+        returnType = ResolvableType.forMethodReturnType(method);
+        if (HttpEntity.class.isAssignableFrom(returnType.toClass())) {
+            bodyType = returnType.as(HttpEntity.class)
+                .getGeneric(0);
+        } else {
+            bodyType = returnType;
+        }
+
+        if (Iterable.class.isAssignableFrom(bodyType.toClass())) {
+            entityType = bodyType.as(Iterable.class)
+                .getGeneric(0);
+        } else {
+            entityType = bodyType;
+        }
+
+        return entityType.toClass();
+    }
+
+    /**
+     * Returns the properties to sort by in the request, read in the same way as {@link SortArgumentResolver}.
+     *
+     * @param request
+     *            request to read
+     * @return the properties to sort by
+     */
+    private final Collection<String> getProperties(final HttpServletRequest request) {
+        final Collection<String> properties;
+        final String[]           sortTexts;
+        final String             property;
+
+        properties = new ArrayList<>();
+
+        sortTexts = request.getParameterValues("sort");
+        property = request.getParameter("property");
+        if ((sortTexts != null) && (sortTexts.length > 0)) {
+            for (final String sortText : sortTexts) {
+                final String sortProperty;
+
+                sortProperty = sortText.split(",")[0].trim();
+                if (!sortProperty.isEmpty()) {
+                    properties.add(sortProperty);
+                }
+            }
+        } else if ((property != null) && (!property.isEmpty())) {
+            properties.add(property);
+        }
+
+        return properties;
+    }
+
+    /**
+     * Returns the validation for the properties sorted in the handler method.
+     *
+     * @param handlerMethod
+     *            handler method
+     * @return the validation for the sorted properties
+     */
+    private final Predicate<String> getValidation(final HandlerMethod handlerMethod) {
+        final Sortable          sortable;
+        final Class<?>          entityType;
+        final Set<String>       declared;
+        final Predicate<String> validation;
+
+        sortable = handlerMethod.getMethodAnnotation(Sortable.class);
+        if (sortable == null) {
+            entityType = getEntityType(handlerMethod.getMethod());
+            if (registry.isRegistered(entityType)) {
+                log.debug("Validating sorts for {} against the properties of {}", handlerMethod, entityType);
+                validation = p -> registry.isSortable(entityType, p);
+            } else {
+                log.debug("Validating sorts for {} against the properties of all the entities", handlerMethod);
+                validation = registry::isSortable;
+            }
+        } else {
+            declared = toSet(sortable);
+            validation = declared::contains;
+        }
+
+        return validation;
+    }
+
+    /**
+     * Returns all the properties declared as sortable, including the tie-breaker.
+     *
+     * @param sortable
+     *            sortable annotation
+     * @return the sortable properties
+     */
+    private final Set<String> toSet(final Sortable sortable) {
+        final Set<String> properties;
+
+        properties = new HashSet<>(Arrays.asList(sortable.value()));
+        properties.add(sortable.tieBreaker());
+
+        return properties;
+    }
+
+}
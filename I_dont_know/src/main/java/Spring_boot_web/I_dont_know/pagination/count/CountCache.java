@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.count;
+
+import java.util.Optional;
+
+/**
+ * Cache for the total number of elements behind paginated queries. This allows reading pages without running the
+ * count query again, as long as the data has not changed.
+ * <p>
+ * Counts are stored by entity type and filter. The filter is any text identifying the query criteria, with an empty
+ * filter for unfiltered queries.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface CountCache {
+
+    /**
+     * Filter used for unfiltered queries.
+     */
+    String UNFILTERED = "";
+
+    /**
+     * Returns the cached count, if any.
+     *
+     * @param type
+     *            counted entity type
+     * @param filter
+     *            query filter
+     * @return the cached count, or an empty optional if it is not cached
+     */
+    public Optional<Long> get(final Class<?> type, final String filter);
+
+    /**
+     * Removes all the cached counts for the entity type.
+     *
+     * @param type
+     *            entity type to invalidate
+     */
+    public void invalidate(final Class<?> type);
+
+    /**
+     * Stores the count.
+     *
+     * @param type
+     *            counted entity type
+     * @param filter
+     *            query filter
+     * @param count
+     *            number of elements
+     */
+    public void put(final Class<?> type, final String filter, final Long count);
+
+}
@@ -0,0 +1,193 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.count;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteInvalidation;
+import Spring_boot_web.I_dont_know.persistence.event.WriteOperation;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory count cache.
+ * <p>
+ * Counts are invalidated whenever an entity of their type is inserted or deleted, as notified through
+ * {@link EntityWriteEvent}. As a safety net for writes which bypass JPA, such as bulk queries, each count also expires
+ * after a time to live.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class InMemoryCountCache implements CountCache {
+
+    /**
+     * Cache key.
+     */
+    @Data
+    private static final class CountKey {
+
+        /**
+         * Query filter.
+         */
+        @NonNull
+        private final String   filter;
+
+        /**
+         * Counted entity type.
+         */
+        @NonNull
+        private final Class<?> type;
+
+    }
+
+    /**
+     * Cached count.
+     */
+    @Data
+    private static final class CountValue {
+
+        /**
+         * Number of elements.
+         */
+        @NonNull
+        private final Long count;
+
+        /**
+         * Expiration time, in milliseconds.
+         */
+        @NonNull
+        private final Long expiresAt;
+
+    }
+
+    /**
+     * Clock to check the expiration times.
+     */
+    private final Clock                     clock;
+
+    /**
+     * Cached counts.
+     */
+    private final Map<CountKey, CountValue> counts = new ConcurrentHashMap<>();
+
+    /**
+     * Time to live for the cached counts.
+     */
+    private final Duration                  ttl;
+
+    /**
+     * Builds a count cache with the received time to live.
+     *
+     * @param timeToLive
+     *            time to live for the cached counts
+     */
+    public InMemoryCountCache(@NonNull final Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * Builds a count cache with the received time to live and clock.
+     *
+     * @param timeToLive
+     *            time to live for the cached counts
+     * @param clck
+     *            clock to check the expiration times
+     */
+    public InMemoryCountCache(@NonNull final Duration timeToLive, @NonNull final Clock clck) {
+        super();
+
+        ttl = timeToLive;
+        clock = clck;
+    }
+
+    @Override
+    public final Optional<Long> get(final Class<?> type, final String filter) {
+        final CountKey       key;
+        final CountValue     value;
+        final Optional<Long> result;
+
+        key = new CountKey(filter, type);
+        value = counts.get(key);
+
+        if (value == null) {
+            log.trace("No count cached for {} with filter '{}'", type, filter);
+            result = Optional.empty();
+        } else if (value.getExpiresAt() <= clock.millis()) {
+            log.trace("Count expired for {} with filter '{}'", type, filter);
+            counts.remove(key, value);
+            result = Optional.empty();
+        } else {
+            result = Optional.of(value.getCount());
+        }
+
+        return result;
+    }
+
+    @Override
+    public final void invalidate(final Class<?> type) {
+        log.trace("Invalidating counts for {}", type);
+        counts.keySet()
+            .removeIf(k -> k.getType()
+                .equals(type));
+    }
+
+    /**
+     * Invalidates the counts for the written entity, if the write changes the number of entities.
+     * <p>
+     * Inside a transaction the counts are invalidated on the first write, and again once it completes, as a count read
+     * before the commit could have cached a value which is not valid anymore. This also covers rolled back
+     * transactions.
+     *
+     * @param event
+     *            write event
+     */
+    @EventListener
+    public final void onEntityWrite(final EntityWriteEvent event) {
+        final Class<?> type;
+
+        if (!WriteOperation.UPDATE.equals(event.getOperation())) {
+            type = event.getEntityType();
+            WriteInvalidation.invalidate(this, type, () -> invalidate(type));
+        }
+    }
+
+    @Override
+    public final void put(final Class<?> type, final String filter, final Long count) {
+        log.trace("Caching count {} for {} with filter '{}'", count, type, filter);
+        counts.put(new CountKey(filter, type), new CountValue(count, clock.millis() + ttl.toMillis()));
+    }
+
+}
@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.count;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.Table;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Row estimator which reads the catalog statistics through JDBC.
+ * <p>
+ * Supports H2, PostgreSQL and MySQL/MariaDB. For other databases nothing is estimated.
+ * <p>
+ * Small tables are cheap to count, and their statistics are less reliable, so estimations under the threshold are
+ * discarded.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class JdbcRowEstimator implements RowEstimator {
+
+    /**
+     * H2 estimation query.
+     */
+    private static final String         H2_QUERY       = "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES"
+            + " WHERE UPPER(TABLE_NAME) = UPPER(?)";
+
+    /**
+     * MySQL and MariaDB estimation query.
+     */
+    private static final String         MYSQL_QUERY    = "SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    /**
+     * PostgreSQL estimation query.
+     */
+    private static final String         POSTGRES_QUERY = "SELECT CAST(reltuples AS BIGINT) FROM pg_class"
+            + " WHERE relname = ?";
+
+    /**
+     * Estimation query for the database. Empty if not supported.
+     */
+    private final Optional<String>      query;
+
+    /**
+     * Table names for each entity type.
+     */
+    private final Map<Class<?>, String> tables = new ConcurrentHashMap<>();
+
+    /**
+     * JDBC template to read the statistics.
+     */
+    private final JdbcTemplate          template;
+
+    /**
+     * Estimations under this number of rows are discarded.
+     */
+    private final Long                  threshold;
+
+    /**
+     * Builds a row estimator for the database behind the template.
+     *
+     * @param jdbcTemplate
+     *            JDBC template to read the statistics
+     * @param minimum
+     *            estimations under this number of rows are discarded
+     */
+    public JdbcRowEstimator(@NonNull final JdbcTemplate jdbcTemplate, @NonNull final Long minimum) {
+        super();
+
+        template = jdbcTemplate;
+        threshold = minimum;
+        query = getQuery(jdbcTemplate);
+    }
+
+    @Override
+    public final Optional<Long> estimate(final Class<?> type) {
+        final String         table;
+        final List<Long>     rows;
+        final Optional<Long> estimation;
+
+        if (query.isPresent()) {
+            table = tables.computeIfAbsent(type, this::getTable);
+            rows = template.queryForList(query.get(), Long.class, table);
+
+            if ((rows.isEmpty()) || (rows.get(0) == null)) {
+                log.debug("No statistics for table {}", table);
+                estimation = Optional.empty();
+            } else if (rows.get(0) < threshold) {
+                log.trace("Estimated {} rows for table {}, under the threshold", rows.get(0), table);
+                estimation = Optional.empty();
+            } else {
+                log.trace("Estimated {} rows for table {}", rows.get(0), table);
+                estimation = Optional.of(rows.get(0));
+            }
+        } else {
+            estimation = Optional.empty();
+        }
+
+        return estimation;
+    }
+
+    /**
+     * Returns the estimation query for the database behind the template.
+     *
+     * @param jdbcTemplate
+     *            JDBC template to check
+     * @return the estimation query, or an empty optional if the database is not supported
+     */
+    private final Optional<String> getQuery(final JdbcTemplate jdbcTemplate) {
+        String                 product;
+        final Optional<String> result;
+
+        try {
+            product = JdbcUtils.commonDatabaseName(JdbcUtils
+                .extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+        } catch (final MetaDataAccessException e) {
+            log.warn("Can't read the database product, row estimations are disabled", e);
+            product = "";
+        }
+
+        if ("H2".equals(product)) {
+            result = Optional.of(H2_QUERY);
+        } else if ("PostgreSQL".equals(product)) {
+            result = Optional.of(POSTGRES_QUERY);
+        } else if (("MySQL".equals(product)) || ("MariaDB".equals(product))) {
+            result = Optional.of(MYSQL_QUERY);
+        } else {
+            log.info("Row estimations are not supported for {}", product);
+            result = Optional.empty();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the table name for the entity type, as set in its {@link Table} annotation.
+     *
+     * @param type
+     *            entity type
+     * @return the table name for the entity
+     */
+    private final String getTable(final Class<?> type) {
+        final Table  annotation;
+        final String table;
+
+        annotation = type.getAnnotation(Table.class);
+        if ((annotation == null) || (annotation.name()
+            .isEmpty())) {
+            table = type.getSimpleName();
+        } else {
+            table = annotation.name();
+        }
+
+        return table;
+    }
+
+}
@@ -0,0 +1,49 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.count;
+
+import java.util.Optional;
+
+/**
+ * Estimates the number of rows in a table, from the statistics the database keeps in its catalog. This is much cheaper
+ * than counting the rows, but the value may be outdated.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface RowEstimator {
+
+    /**
+     * Returns the estimated number of rows for the entity type.
+     * <p>
+     * If the estimation is not supported, or not worth it, then nothing is returned, and the rows should be counted.
+     *
+     * @param type
+     *            entity type to estimate
+     * @return the estimated number of rows, or an empty optional if there is no estimation
+     */
+    public Optional<Long> estimate(final Class<?> type);
+
+}
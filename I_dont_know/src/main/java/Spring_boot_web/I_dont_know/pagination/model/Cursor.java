@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.model;
+
+/**
+ * Decoded keyset cursor. Points to the last row read, by its sort key and id, so the next page can be located by
+ * seeking from it instead of skipping rows.
+ * <p>
+ * Includes a flag to mark if this is the first page, in which case there is no position to seek from.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface Cursor {
+
+    /**
+     * Creates a {@code Cursor} pointing to the first page.
+     *
+     * @param sort
+     *            sorting applied to the pages
+     * @return a {@code Cursor} for the first page
+     */
+    public static Cursor first(final Sort sort) {
+        return new ImmutableCursor(sort.getProperty(), sort.getDirection());
+    }
+
+    /**
+     * Creates a {@code Cursor} pointing to the received position.
+     *
+     * @param property
+     *            sorted property
+     * @param direction
+     *            sorting direction
+     * @param value
+     *            sort key of the row to seek from
+     * @param id
+     *            id of the row to seek from
+     * @param forward
+     *            reading direction, {@code true} for the next page, {@code false} for the previous one
+     * @return a {@code Cursor} for the position
+     */
+    public static Cursor of(final String property, final Direction direction, final String value, final Integer id,
+            final Boolean forward) {
+        return new ImmutableCursor(property, direction, value, id, forward);
+    }
+
+    /**
+     * Direction in which the data is sorted.
+     *
+     * @return the direction for sorting
+     */
+    public Direction getDirection();
+
+    /**
+     * Flags if this points to the first page. In this case there is no position to seek from.
+     *
+     * @return {@code true} if this points to the first page, {@code false} otherwise
+     */
+    public Boolean getFirst();
+
+    /**
+     * Reading direction. The next page is read forward, while the previous page is read backward.
+     *
+     * @return {@code true} if reading forward, {@code false} otherwise
+     */
+    public Boolean getForward();
+
+    /**
+     * Id of the row to seek from. This acts as tie-breaker for repeated sort keys.
+     *
+     * @return the id of the row to seek from
+     */
+    public Integer getId();
+
+    /**
+     * Property by which the data is sorted.
+     *
+     * @return the sorted property
+     */
+    public String getProperty();
+
+    /**
+     * Sort key of the row to seek from, as text.
+     *
+     * @return the sort key of the row to seek from
+     */
+    public String getValue();
+
+}
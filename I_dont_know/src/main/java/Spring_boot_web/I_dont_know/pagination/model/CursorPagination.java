@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Keyset paginated data request. Instead of skipping a number of rows, the page is read by seeking from the position
+ * stored in the cursor.
+ * <p>
+ * The cursor is an opaque token, which is received from the previous page. An empty cursor points to the first page.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Data
+public final class CursorPagination implements Pagination {
+
+    /**
+     * Keyset pages never count the total number of elements.
+     */
+    @NonNull
+    private final Boolean counted   = false;
+
+    /**
+     * Cursor pointing to the position to read from.
+     */
+    @NonNull
+    private final String  cursor;
+
+    /**
+     * Keyset pages never estimate the total number of elements.
+     */
+    @NonNull
+    private final Boolean estimated = false;
+
+    /**
+     * Always uses keyset pagination.
+     */
+    @NonNull
+    private final Boolean keyset    = true;
+
+    /**
+     * Keyset pages have no index, so this always points to the first page.
+     */
+    @NonNull
+    private final Integer page      = 0;
+
+    /**
+     * Always paged.
+     */
+    @NonNull
+    private final Boolean paged     = true;
+
+    /**
+     * Number of elements to read per page.
+     */
+    @NonNull
+    private final Integer size;
+
+    /**
+     * Builds a keyset pagination request for the specified cursor and default size.
+     *
+     * @param crsr
+     *            cursor to read from
+     */
+    public CursorPagination(@NonNull final String crsr) {
+        super();
+
+        cursor = crsr;
+        size = Pagination.DEFAULT_SIZE;
+    }
+
+    /**
+     * Builds a keyset pagination request with the specified data.
+     *
+     * @param crsr
+     *            cursor to read from
+     * @param sz
+     *            page size
+     */
+    public CursorPagination(@NonNull final String crsr, @NonNull final Integer sz) {
+        super();
+
+        cursor = crsr;
+        size = sz;
+    }
+
+}
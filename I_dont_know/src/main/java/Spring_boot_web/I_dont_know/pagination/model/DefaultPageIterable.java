@@ -35,6 +35,11 @@ import lombok.NonNull;
 @NoArgsConstructor
 public final class DefaultPageIterable<T> implements PageIterable<T> {
 
+    /**
+     * Flags the totals as approximate.
+     */
+    private Boolean     approximate    = false;
+
     /**
      * Actual content.
      */
@@ -51,16 +56,31 @@ public final class DefaultPageIterable<T> implements PageIterable<T> {
      */
     private Boolean     first          = false;
 
+    /**
+     * Flags there is a page after this one.
+     */
+    private Boolean     hasNext        = false;
+
     /**
      * Flags this is as the last page.
      */
     private Boolean     last           = false;
 
+    /**
+     * Cursor pointing to the next page.
+     */
+    private String      nextCursor     = "";
+
     /**
      * Number of this page.
      */
     private Integer     pageNumber     = 0;
 
+    /**
+     * Cursor pointing to the previous page.
+     */
+    private String      previousCursor = "";
+
     /**
      * Size of this page.
      */
@@ -76,6 +96,16 @@ public final class DefaultPageIterable<T> implements PageIterable<T> {
      */
     private Integer     totalPages     = 0;
 
+    @Override
+    public Boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public Boolean isApproximate() {
+        return approximate;
+    }
+
     @Override
     public Boolean isFirst() {
         return first;
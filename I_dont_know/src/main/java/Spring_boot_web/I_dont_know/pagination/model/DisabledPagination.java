@@ -39,24 +39,48 @@ public final class DisabledPagination implements Pagination {
     /**
      * Singleton for disabled pagination.
      */
-    public static final Pagination INSTANCE = new DisabledPagination();
+    public static final Pagination INSTANCE  = new DisabledPagination();
+
+    /**
+     * Unpaged reads return all the elements, so counting them is free.
+     */
+    @NonNull
+    private final Boolean          counted   = true;
+
+    /**
+     * No cursor.
+     */
+    @NonNull
+    private final String           cursor    = "";
+
+    /**
+     * Never estimates the total number of elements.
+     */
+    @NonNull
+    private final Boolean          estimated = false;
+
+    /**
+     * Disabled keyset pagination flag.
+     */
+    @NonNull
+    private final Boolean          keyset    = false;
 
     /**
      * Default page.
      */
     @NonNull
-    private final Integer          page     = -1;
+    private final Integer          page      = -1;
 
     /**
      * Disabled pagination flag.
      */
     @NonNull
-    private final Boolean          paged    = false;
+    private final Boolean          paged     = false;
 
     /**
      * Default size.
      */
     @NonNull
-    private final Integer          size     = -1;
+    private final Integer          size      = -1;
 
 }
@@ -24,6 +24,9 @@
 
 package Spring_boot_web.I_dont_know.pagination.model;
 
+import java.util.Collections;
+import java.util.List;
+
 import lombok.Data;
 
 /**
@@ -38,21 +41,26 @@ public final class DisabledSort implements Sort {
     /**
      * Singleton for disabled sort.
      */
-    public static final Sort INSTANCE  = new DisabledSort();
+    public static final Sort  INSTANCE  = new DisabledSort();
 
     /**
      * Default direction.
      */
-    private final Direction  direction = Direction.ASC;
+    private final Direction   direction = Direction.ASC;
+
+    /**
+     * No sorting keys.
+     */
+    private final List<Order> orders    = Collections.emptyList();
 
     /**
      * Default property.
      */
-    private final String     property  = "";
+    private final String      property  = "";
 
     /**
      * Disabled sort flag.
      */
-    private final Boolean    sorted    = false;
+    private final Boolean     sorted    = false;
 
 }
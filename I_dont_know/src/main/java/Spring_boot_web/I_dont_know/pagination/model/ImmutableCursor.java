@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Immutable implementation of the keyset cursor.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Data
+public final class ImmutableCursor implements Cursor {
+
+    /**
+     * Direction in which the data is sorted.
+     */
+    @NonNull
+    private final Direction direction;
+
+    /**
+     * First page flag.
+     */
+    @NonNull
+    private final Boolean   first;
+
+    /**
+     * Reading direction.
+     */
+    @NonNull
+    private final Boolean   forward;
+
+    /**
+     * Id of the row to seek from.
+     */
+    @NonNull
+    private final Integer   id;
+
+    /**
+     * Property by which the data is sorted.
+     */
+    @NonNull
+    private final String    property;
+
+    /**
+     * Sort key of the row to seek from.
+     */
+    @NonNull
+    private final String    value;
+
+    /**
+     * Builds a cursor pointing to the first page.
+     *
+     * @param prop
+     *            sorted property
+     * @param dir
+     *            sort direction
+     */
+    public ImmutableCursor(@NonNull final String prop, @NonNull final Direction dir) {
+        super();
+
+        property = prop;
+        direction = dir;
+        value = "";
+        id = -1;
+        forward = true;
+        first = true;
+    }
+
+    /**
+     * Builds a cursor pointing to the specified position.
+     *
+     * @param prop
+     *            sorted property
+     * @param dir
+     *            sort direction
+     * @param val
+     *            sort key of the row to seek from
+     * @param identifier
+     *            id of the row to seek from
+     * @param fwd
+     *            reading direction
+     */
+    public ImmutableCursor(@NonNull final String prop, @NonNull final Direction dir, @NonNull final String val,
+            @NonNull final Integer identifier, @NonNull final Boolean fwd) {
+        super();
+
+        property = prop;
+        direction = dir;
+        value = val;
+        id = identifier;
+        forward = fwd;
+        first = false;
+    }
+
+}
@@ -28,6 +28,30 @@ import lombok.NonNull;
 @Data
 public final class ImmutablePagination implements Pagination {
 
+    /**
+     * Total number of elements count flag.
+     */
+    @NonNull
+    private final Boolean counted;
+
+    /**
+     * No cursor.
+     */
+    @NonNull
+    private final String  cursor = "";
+
+    /**
+     * Estimated total number of elements flag.
+     */
+    @NonNull
+    private final Boolean estimated;
+
+    /**
+     * Never uses keyset pagination.
+     */
+    @NonNull
+    private final Boolean keyset = false;
+
     /**
      * Page index to read.
      */
@@ -38,7 +62,7 @@ public final class ImmutablePagination implements Pagination {
      * Always paged.
      */
     @NonNull
-    private final Boolean paged = true;
+    private final Boolean paged  = true;
 
     /**
      * Number of elements to read per page.
@@ -57,6 +81,8 @@ public final class ImmutablePagination implements Pagination {
 
         page = pg;
         size = Pagination.DEFAULT_SIZE;
+        counted = true;
+        estimated = false;
     }
 
     /**
@@ -72,6 +98,31 @@ public final class ImmutablePagination implements Pagination {
 
         page = pg;
         size = sz;
+        counted = true;
+        estimated = false;
+    }
+
+    /**
+     * Builds a pagination request with the specified data, which may skip counting the total number of elements, or
+     * estimate it.
+     *
+     * @param pg
+     *            page index
+     * @param sz
+     *            page size
+     * @param cnt
+     *            total number of elements count flag
+     * @param est
+     *            estimated total number of elements flag
+     */
+    public ImmutablePagination(@NonNull final Integer pg, @NonNull final Integer sz, @NonNull final Boolean cnt,
+            @NonNull final Boolean est) {
+        super();
+
+        page = pg;
+        size = sz;
+        counted = cnt;
+        estimated = est;
     }
 
 }
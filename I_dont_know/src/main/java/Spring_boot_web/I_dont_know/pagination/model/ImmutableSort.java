@@ -16,6 +16,10 @@
 
 package Spring_boot_web.I_dont_know.pagination.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import lombok.Data;
 import lombok.NonNull;
 
@@ -29,21 +33,31 @@ import lombok.NonNull;
 public final class ImmutableSort implements Sort {
 
     /**
-     * Direction in which the data will be sorted.
+     * Sorting keys, in the order they are applied.
      */
     @NonNull
-    private final Direction direction;
+    private final List<Order> orders;
 
     /**
-     * Property to sort.
+     * Always sorted.
      */
-    @NonNull
-    private final String    property;
+    private final Boolean     sorted = true;
 
     /**
-     * Always sorted.
+     * Builds a sort request by the specified keys.
+     *
+     * @param ords
+     *            sorting keys, in the order they are applied
      */
-    private final Boolean   sorted = true;
+    public ImmutableSort(@NonNull final List<Order> ords) {
+        super();
+
+        if (ords.isEmpty()) {
+            throw new IllegalArgumentException("Received no sorting keys");
+        }
+
+        orders = Collections.unmodifiableList(new ArrayList<>(ords));
+    }
 
     /**
      * Builds a sort request with the specified data.
@@ -56,8 +70,19 @@ public final class ImmutableSort implements Sort {
     public ImmutableSort(@NonNull final String prop, @NonNull final Direction dir) {
         super();
 
-        property = prop;
-        direction = dir;
+        orders = Collections.singletonList(Order.of(prop, dir));
+    }
+
+    @Override
+    public final Direction getDirection() {
+        return orders.get(0)
+            .getDirection();
+    }
+
+    @Override
+    public final String getProperty() {
+        return orders.get(0)
+            .getProperty();
     }
 
 }
@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.model;
+
+/**
+ * Shared instances for the paginations which are requested again and again, such as the first pages with the default
+ * size. As the paginations are immutable, a single instance can be reused by all the requests, which then allocate
+ * nothing.
+ * <p>
+ * Instances are created lazily. Two threads may create the same one at the same time, but as they are equal and their
+ * fields are final this is harmless.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class InternedPaginations {
+
+    /**
+     * Number of pages, from the first one, which are interned.
+     */
+    private static final int          PAGES   = 16;
+
+    /**
+     * Number of sizes, from zero to the default maximum, which are interned.
+     */
+    private static final int          SIZES   = Pagination.MAX_SIZE + 1;
+
+    /**
+     * Interned paginations for the first keyset page, indexed by size.
+     */
+    private static final Pagination[] CURSORS = new Pagination[SIZES];
+
+    /**
+     * Interned offset paginations, indexed by page, size and flags.
+     */
+    private static final Pagination[] OFFSETS = new Pagination[PAGES * SIZES * 4];
+
+    /**
+     * Returns a keyset pagination for the received cursor and size. The first page is interned.
+     *
+     * @param cursor
+     *            opaque cursor token
+     * @param size
+     *            page size
+     * @return a pagination seeking from the cursor
+     */
+    public static final Pagination cursor(final String cursor, final Integer size) {
+        final Pagination pagination;
+
+        if ((cursor.isEmpty()) && (size >= 0) && (size < SIZES)) {
+            if (CURSORS[size] == null) {
+                CURSORS[size] = new CursorPagination(cursor, size);
+            }
+            pagination = CURSORS[size];
+        } else {
+            pagination = new CursorPagination(cursor, size);
+        }
+
+        return pagination;
+    }
+
+    /**
+     * Returns an offset pagination for the received data. The first pages are interned, as long as the size is not over
+     * the default maximum.
+     *
+     * @param page
+     *            zero-based page number
+     * @param size
+     *            page size
+     * @param counted
+     *            total number of elements count flag
+     * @param estimated
+     *            estimated total number of elements flag
+     * @return a pagination for the page
+     */
+    public static final Pagination of(final Integer page, final Integer size, final Boolean counted,
+            final Boolean estimated) {
+        final int        index;
+        final Pagination pagination;
+
+        if ((page >= 0) && (page < PAGES) && (size >= 0) && (size < SIZES)) {
+            index = (((page * SIZES) + size) * 4) + (flag(counted) * 2) + flag(estimated);
+            if (OFFSETS[index] == null) {
+                OFFSETS[index] = new ImmutablePagination(page, size, counted, estimated);
+            }
+            pagination = OFFSETS[index];
+        } else {
+            pagination = new ImmutablePagination(page, size, counted, estimated);
+        }
+
+        return pagination;
+    }
+
+    /**
+     * Transforms the flag into an index.
+     *
+     * @param flag
+     *            flag to transform
+     * @return {@code 1} if the flag is set, {@code 0} otherwise
+     */
+    private static final int flag(final Boolean flag) {
+        final int index;
+
+        if (flag) {
+            index = 1;
+        } else {
+            index = 0;
+        }
+
+        return index;
+    }
+
+    private InternedPaginations() {
+        super();
+    }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.model;
+
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Shared instances for the sorts. As the sorts are immutable, a single instance can be reused by all the requests,
+ * which then allocate nothing.
+ * <p>
+ * Properties come from the requests, so only a limited number of sorts is interned. The cache evicts those which are
+ * least used, so the common sorts stay interned even after a client sends lots of unusual ones.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class InternedSorts {
+
+    /**
+     * Maximum number of interned properties, and of interned sorts with several keys.
+     */
+    private static final int                      MAX_SORTS = 256;
+
+    /**
+     * Interned sorts with several keys, by their keys.
+     */
+    private static final Cache<List<Order>, Sort> MULTI_KEY = Caffeine.newBuilder()
+        .maximumSize(MAX_SORTS)
+        .build();
+
+    /**
+     * Interned single key sorts, for each property, indexed by direction.
+     */
+    private static final Cache<String, Sort[]>    SORTS     = Caffeine.newBuilder()
+        .maximumSize(MAX_SORTS)
+        .build();
+
+    /**
+     * Returns a sort for the received keys.
+     *
+     * @param orders
+     *            sorting keys, in the order they are applied
+     * @return a sort for the arguments
+     */
+    public static final Sort of(final List<Order> orders) {
+        final Order first;
+        final Sort  cached;
+        final Sort  created;
+        final Sort  sort;
+
+        if (orders.size() == 1) {
+            first = orders.get(0);
+            sort = of(first.getProperty(), first.getDirection());
+        } else {
+            cached = MULTI_KEY.getIfPresent(orders);
+            if (cached == null) {
+                created = new ImmutableSort(orders);
+                // Keyed by the copy inside the sort, as the received list may change
+                sort = MULTI_KEY.asMap()
+                    .computeIfAbsent(created.getOrders(), k -> created);
+            } else {
+                sort = cached;
+            }
+        }
+
+        return sort;
+    }
+
+    /**
+     * Returns a sort for the property and direction.
+     *
+     * @param property
+     *            property to sort
+     * @param direction
+     *            sorting direction
+     * @return a sort for the arguments
+     */
+    public static final Sort of(final String property, final Direction direction) {
+        return SORTS.get(property, p -> new Sort[] { new ImmutableSort(p, Direction.ASC),
+                new ImmutableSort(p, Direction.DESC) })[direction.ordinal()];
+    }
+
+    private InternedSorts() {
+        super();
+    }
+
+}
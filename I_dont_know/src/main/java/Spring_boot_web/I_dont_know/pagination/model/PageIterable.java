@@ -47,6 +47,13 @@ public interface PageIterable<T> extends Iterable<T> {
      */
     public Integer getElementsInPage();
 
+    /**
+     * Cursor pointing to the next page. Only set when using keyset pagination, and there is a next page.
+     *
+     * @return the cursor for the next page, or an empty string if there is none
+     */
+    public String getNextCursor();
+
     /**
      * Number of this page.
      *
@@ -54,6 +61,13 @@ public interface PageIterable<T> extends Iterable<T> {
      */
     public Integer getPageNumber();
 
+    /**
+     * Cursor pointing to the previous page. Only set when using keyset pagination, and there is a previous page.
+     *
+     * @return the cursor for the previous page, or an empty string if there is none
+     */
+    public String getPreviousCursor();
+
     /**
      * Size of this page.
      *
@@ -62,19 +76,33 @@ public interface PageIterable<T> extends Iterable<T> {
     public Integer getSize();
 
     /**
-     * Total number of elements among all the pages.
+     * Total number of elements among all the pages. If the elements were not counted this is negative.
      *
      * @return the total number of elements
      */
     public Long getTotalElements();
 
     /**
-     * Total number of pages.
+     * Total number of pages. If the elements were not counted this is negative.
      *
      * @return the total number of pages
      */
     public Integer getTotalPages();
 
+    /**
+     * Flags if there is a page after this one. This is known even when the elements were not counted.
+     *
+     * @return {@code true} if there is a next page, {@code false} otherwise
+     */
+    public Boolean hasNext();
+
+    /**
+     * Flags if the totals are approximate, as they were estimated from the database statistics instead of counted.
+     *
+     * @return {@code true} if the totals are approximate, {@code false} otherwise
+     */
+    public Boolean isApproximate();
+
     /**
      * Flags this is as the first page.
      *
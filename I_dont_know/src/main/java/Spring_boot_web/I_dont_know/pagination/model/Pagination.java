@@ -28,6 +28,9 @@ package Spring_boot_web.I_dont_know.pagination.model;
  * Paginated data request.
  * <p>
  * Includes a flag to mark is this request is actually paged, to ease disabled pagination.
+ * <p>
+ * Paginations are immutable, and the most common ones are interned, so the same instance may be returned by several
+ * calls.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -39,6 +42,39 @@ public interface Pagination {
      */
     Integer DEFAULT_SIZE = 20;
 
+    /**
+     * Default maximum page size.
+     */
+    Integer MAX_SIZE     = 100;
+
+    /**
+     * Creates a {@code Pagination} which seeks from the received cursor, using the default size.
+     * <p>
+     * An empty cursor points to the first page.
+     *
+     * @param cursor
+     *            opaque cursor token
+     * @return a {@code Pagination} seeking from the cursor
+     */
+    public static Pagination cursor(final String cursor) {
+        return cursor(cursor, DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a {@code Pagination} which seeks from the received cursor, using the received size.
+     * <p>
+     * An empty cursor points to the first page.
+     *
+     * @param cursor
+     *            opaque cursor token
+     * @param size
+     *            page size
+     * @return a {@code Pagination} seeking from the cursor
+     */
+    public static Pagination cursor(final String cursor, final Integer size) {
+        return InternedPaginations.cursor(cursor, size);
+    }
+
     /**
      * Creates a {@code Pagination} which represents disabled pagination.
      *
@@ -65,7 +101,7 @@ public interface Pagination {
      * @return {@code Pagination} for the page and size
      */
     public static Pagination of(final Integer page) {
-        return new ImmutablePagination(page);
+        return of(page, DEFAULT_SIZE);
     }
 
     /**
@@ -78,9 +114,77 @@ public interface Pagination {
      * @return {@code Pagination} for the page and size
      */
     public static Pagination of(final Integer page, final Integer size) {
-        return new ImmutablePagination(page, size);
+        return of(page, size, true, false);
+    }
+
+    /**
+     * Creates a {@code Pagination} for the received page and size, which may skip counting the total number of
+     * elements.
+     *
+     * @param page
+     *            zero-based page number
+     * @param size
+     *            page size
+     * @param counted
+     *            {@code true} to count the total number of elements, {@code false} otherwise
+     * @return {@code Pagination} for the page and size
+     */
+    public static Pagination of(final Integer page, final Integer size, final Boolean counted) {
+        return of(page, size, counted, false);
     }
 
+    /**
+     * Creates a {@code Pagination} for the received page and size, which may skip counting the total number of
+     * elements, or estimate it.
+     *
+     * @param page
+     *            zero-based page number
+     * @param size
+     *            page size
+     * @param counted
+     *            {@code true} to count the total number of elements, {@code false} otherwise
+     * @param estimated
+     *            {@code true} to allow estimating the total number of elements, {@code false} otherwise
+     * @return {@code Pagination} for the page and size
+     */
+    public static Pagination of(final Integer page, final Integer size, final Boolean counted,
+            final Boolean estimated) {
+        return InternedPaginations.of(page, size, counted, estimated);
+    }
+
+    /**
+     * Flags if the total number of elements should be counted. Skipping the count saves a query, but the page won't
+     * know the totals, only if there is a next page.
+     *
+     * @return {@code true} if the total number of elements is counted, {@code false} otherwise
+     */
+    public Boolean getCounted();
+
+    /**
+     * Opaque token pointing to the position from which the page is read. Only used by keyset pagination.
+     * <p>
+     * An empty cursor points to the first page.
+     *
+     * @return the cursor token
+     */
+    public String getCursor();
+
+    /**
+     * Flags if the total number of elements may be estimated from the database statistics, instead of counted. Only
+     * applies when the elements are counted.
+     *
+     * @return {@code true} if the total number of elements may be estimated, {@code false} otherwise
+     */
+    public Boolean getEstimated();
+
+    /**
+     * Flags if keyset pagination should be applied. In this case the page is located through the cursor, instead of
+     * the page index.
+     *
+     * @return {@code true} if this uses keyset pagination, {@code false} otherwise
+     */
+    public Boolean getKeyset();
+
     /**
      * Page index to read.
      *
@@ -0,0 +1,152 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.model;
+
+import java.util.Iterator;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.NonNull;
+
+/**
+ * Page view over a Spring slice. The page data is read from the slice when requested, instead of being copied.
+ * <p>
+ * Slices don't know the totals, so these are received apart.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of elements returned by the iterator
+ */
+public final class SlicePageIterable<T> implements PageIterable<T> {
+
+    /**
+     * Flags the totals as approximate.
+     */
+    private final Boolean  approximate;
+
+    /**
+     * Wrapped slice.
+     */
+    private final Slice<T> slice;
+
+    /**
+     * Total number of elements among all the pages.
+     */
+    private final Long     totalElements;
+
+    /**
+     * Total number of pages.
+     */
+    private final Integer  totalPages;
+
+    /**
+     * Builds a view over the slice, with the received totals.
+     *
+     * @param slc
+     *            slice to wrap
+     * @param total
+     *            total number of elements among all the pages
+     * @param pages
+     *            total number of pages
+     * @param approx
+     *            {@code true} if the totals are approximate, {@code false} otherwise
+     */
+    public SlicePageIterable(@NonNull final Slice<T> slc, @NonNull final Long total, @NonNull final Integer pages,
+            @NonNull final Boolean approx) {
+        super();
+
+        slice = slc;
+        totalElements = total;
+        totalPages = pages;
+        approximate = approx;
+    }
+
+    @Override
+    public final Iterable<T> getContent() {
+        return slice.getContent();
+    }
+
+    @Override
+    public final Integer getElementsInPage() {
+        return slice.getNumberOfElements();
+    }
+
+    @Override
+    public final String getNextCursor() {
+        return "";
+    }
+
+    @Override
+    public final Integer getPageNumber() {
+        return slice.getNumber();
+    }
+
+    @Override
+    public final String getPreviousCursor() {
+        return "";
+    }
+
+    @Override
+    public final Integer getSize() {
+        return slice.getSize();
+    }
+
+    @Override
+    public final Long getTotalElements() {
+        return totalElements;
+    }
+
+    @Override
+    public final Integer getTotalPages() {
+        return totalPages;
+    }
+
+    @Override
+    public final Boolean hasNext() {
+        return slice.hasNext();
+    }
+
+    @Override
+    public final Boolean isApproximate() {
+        return approximate;
+    }
+
+    @Override
+    public final Boolean isFirst() {
+        return slice.isFirst();
+    }
+
+    @Override
+    public final Boolean isLast() {
+        return slice.isLast();
+    }
+
+    @Override
+    public final Iterator<T> iterator() {
+        return slice.iterator();
+    }
+
+}
@@ -24,10 +24,17 @@
 
 package Spring_boot_web.I_dont_know.pagination.model;
 
+import java.util.List;
+
 /**
  * Sorted data request.
  * <p>
  * Includes a flag to mark is this request is actually sorted, to ease disabled sorting.
+ * <p>
+ * The data may be sorted by several keys, which are applied in order. The property and direction are those of the
+ * first key.
+ * <p>
+ * Sorts are immutable and interned, so the same instance may be returned by several calls.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -42,7 +49,7 @@ public interface Sort {
      * @return an ascending {@code Sort} for the arguments
      */
     public static Sort asc(final String property) {
-        return new ImmutableSort(property, Direction.ASC);
+        return of(property, Direction.ASC);
     }
 
     /**
@@ -53,7 +60,7 @@ public interface Sort {
      * @return a descending {@code Sort} for the arguments
      */
     public static Sort desc(final String property) {
-        return new ImmutableSort(property, Direction.DESC);
+        return of(property, Direction.DESC);
     }
 
     /**
@@ -75,18 +82,36 @@ public interface Sort {
      * @return a {@code Sort} for the arguments
      */
     public static Sort of(final String property, final Direction direction) {
-        return new ImmutableSort(property, direction);
+        return InternedSorts.of(property, direction);
     }
 
     /**
-     * Direction in which the data will be sorted.
+     * Creates a {@code Sort} for the received keys.
+     *
+     * @param orders
+     *            sorting keys, in the order they are applied
+     * @return a {@code Sort} for the arguments
+     */
+    public static Sort of(final List<Order> orders) {
+        return InternedSorts.of(orders);
+    }
+
+    /**
+     * Direction in which the data will be sorted by the first key.
      *
      * @return the direction for sorting
      */
     public Direction getDirection();
 
     /**
-     * Property to sort.
+     * Sorting keys, in the order they are applied.
+     *
+     * @return the sorting keys
+     */
+    public List<Order> getOrders();
+
+    /**
+     * Property to sort by the first key.
      *
      * @return the property to sort
      */
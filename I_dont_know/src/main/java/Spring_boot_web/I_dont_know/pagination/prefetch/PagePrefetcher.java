@@ -0,0 +1,346 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.prefetch;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+
+import org.springframework.context.event.EventListener;
+
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteInvalidation;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads pages, and after each one prefetches the page which follows it. Clients nearly always ask for the next page
+ * right after the current one, so this is usually served from memory.
+ * <p>
+ * Prefetching runs on a bounded executor. If it is busy, or too many pages are already prefetched, the next page is
+ * just not prefetched. Prefetched pages are served only once, and are discarded after a short time to live, or when an
+ * entity of the paged type is written.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            type of the paged elements
+ */
+@Slf4j
+public final class PagePrefetcher<T> {
+
+    /**
+     * Prefetched page key.
+     */
+    @Data
+    private static final class PageKey {
+
+        /**
+         * Page pagination.
+         */
+        @NonNull
+        private final Pagination pagination;
+
+        /**
+         * Page sort.
+         */
+        @NonNull
+        private final Sort       sort;
+
+    }
+
+    /**
+     * Prefetched page.
+     */
+    @Data
+    private static final class PrefetchedPage<T> {
+
+        /**
+         * Expiration time, in milliseconds.
+         */
+        @NonNull
+        private final Long                               expiresAt;
+
+        /**
+         * Page being read.
+         */
+        @NonNull
+        private final CompletableFuture<PageIterable<T>> page;
+
+    }
+
+    /**
+     * Clock to check the expiration times.
+     */
+    private final Clock                           clock;
+
+    /**
+     * Executor where the pages are prefetched.
+     */
+    private final ExecutorService                 executor;
+
+    /**
+     * Maximum number of prefetched pages kept at the same time.
+     */
+    private final Integer                         maxPages;
+
+    /**
+     * Prefetched pages.
+     */
+    private final Map<PageKey, PrefetchedPage<T>> pages = new ConcurrentHashMap<>();
+
+    /**
+     * Prefetch counters.
+     */
+    private final PrefetchStatistics              statistics;
+
+    /**
+     * Time to live for the prefetched pages.
+     */
+    private final Duration                        ttl;
+
+    /**
+     * Type of the paged entities. Writing one of them discards the prefetched pages.
+     */
+    private final Class<?>                        type;
+
+    /**
+     * Builds a prefetcher for the received entity type.
+     *
+     * @param entityType
+     *            type of the paged entities
+     * @param exctr
+     *            executor where the pages are prefetched
+     * @param max
+     *            maximum number of prefetched pages kept at the same time
+     * @param timeToLive
+     *            time to live for the prefetched pages
+     * @param stats
+     *            prefetch counters
+     */
+    public PagePrefetcher(@NonNull final Class<?> entityType, @NonNull final ExecutorService exctr,
+            @NonNull final Integer max, @NonNull final Duration timeToLive, @NonNull final PrefetchStatistics stats) {
+        this(entityType, exctr, max, timeToLive, stats, Clock.systemUTC());
+    }
+
+    /**
+     * Builds a prefetcher for the received entity type, using the received clock.
+     *
+     * @param entityType
+     *            type of the paged entities
+     * @param exctr
+     *            executor where the pages are prefetched
+     * @param max
+     *            maximum number of prefetched pages kept at the same time
+     * @param timeToLive
+     *            time to live for the prefetched pages
+     * @param stats
+     *            prefetch counters
+     * @param clck
+     *            clock to check the expiration times
+     */
+    public PagePrefetcher(@NonNull final Class<?> entityType, @NonNull final ExecutorService exctr,
+            @NonNull final Integer max, @NonNull final Duration timeToLive, @NonNull final PrefetchStatistics stats,
+            @NonNull final Clock clck) {
+        super();
+
+        type = entityType;
+        executor = exctr;
+        maxPages = max;
+        ttl = timeToLive;
+        statistics = stats;
+        clock = clck;
+    }
+
+    /**
+     * Returns the requested page, and prefetches the one after it.
+     * <p>
+     * If the page was prefetched then it is returned, waiting for it if it is still being read. Otherwise it is read
+     * with the loader.
+     *
+     * @param pagination
+     *            requested pagination
+     * @param sort
+     *            requested sort
+     * @param loader
+     *            reads a page
+     * @return the requested page
+     */
+    public final PageIterable<T> getPage(final Pagination pagination, final Sort sort,
+            final BiFunction<Pagination, Sort, PageIterable<T>> loader) {
+        final PageKey           key;
+        final PrefetchedPage<T> prefetched;
+        final PageIterable<T>   result;
+
+        key = new PageKey(pagination, sort);
+        prefetched = pages.remove(key);
+
+        if (prefetched == null) {
+            log.trace("Page {} with sort {} was not prefetched", pagination, sort);
+            statistics.miss();
+            result = loader.apply(pagination, sort);
+        } else if (prefetched.getExpiresAt() <= clock.millis()) {
+            log.trace("Prefetched page {} with sort {} expired", pagination, sort);
+            statistics.waste(1);
+            statistics.miss();
+            result = loader.apply(pagination, sort);
+        } else {
+            log.trace("Serving prefetched page {} with sort {}", pagination, sort);
+            statistics.hit();
+            // If the prefetch failed the page is read again, so the error is reported by this request
+            result = prefetched.getPage()
+                .exceptionally(e -> loader.apply(pagination, sort))
+                .join();
+        }
+
+        if ((pagination.getPaged()) && (result.hasNext())) {
+            prefetch(next(pagination, result), sort, loader);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards all the prefetched pages.
+     */
+    public final void invalidate() {
+        final Integer discarded;
+
+        discarded = pages.size();
+        pages.clear();
+
+        log.trace("Discarded {} prefetched pages", discarded);
+        statistics.waste(discarded);
+    }
+
+    /**
+     * Discards the prefetched pages when an entity of the paged type is written, as they may be outdated.
+     * <p>
+     * Inside a transaction the pages are discarded on the first write, and again once it completes. A prefetch which
+     * started before the commit could have read the rows as they were before the write, and it would be served until
+     * it expires.
+     *
+     * @param event
+     *            write event
+     */
+    @EventListener
+    public final void onEntityWrite(final EntityWriteEvent event) {
+        if (type.equals(event.getEntityType())) {
+            WriteInvalidation.invalidate(this, type, this::invalidate);
+        }
+    }
+
+    /**
+     * Stops the prefetch executor.
+     */
+    public final void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the pagination for the page after the received one.
+     *
+     * @param pagination
+     *            pagination for the current page
+     * @param page
+     *            current page
+     * @return the pagination for the next page
+     */
+    private final Pagination next(final Pagination pagination, final PageIterable<T> page) {
+        final Pagination next;
+
+        if (pagination.getKeyset()) {
+            next = Pagination.cursor(page.getNextCursor(), pagination.getSize());
+        } else {
+            next = Pagination.of(pagination.getPage() + 1, pagination.getSize(), pagination.getCounted(),
+                pagination.getEstimated());
+        }
+
+        return next;
+    }
+
+    /**
+     * Reads the received page in the background, unless it is already prefetched or there is no space for it.
+     *
+     * @param pagination
+     *            pagination for the page to prefetch
+     * @param sort
+     *            sort for the page to prefetch
+     * @param loader
+     *            reads a page
+     */
+    private final void prefetch(final Pagination pagination, final Sort sort,
+            final BiFunction<Pagination, Sort, PageIterable<T>> loader) {
+        final PageKey                            key;
+        final CompletableFuture<PageIterable<T>> page;
+
+        removeExpired();
+
+        key = new PageKey(pagination, sort);
+        if ((pages.size() < maxPages) && (!pages.containsKey(key))) {
+            log.trace("Prefetching page {} with sort {}", pagination, sort);
+            try {
+                page = CompletableFuture.supplyAsync(() -> loader.apply(pagination, sort), executor);
+                pages.putIfAbsent(key, new PrefetchedPage<>(clock.millis() + ttl.toMillis(), page));
+            } catch (final RejectedExecutionException e) {
+                log.trace("Prefetch executor is busy, skipping page {} with sort {}", pagination, sort);
+            }
+        } else {
+            log.trace("Skipping prefetch of page {} with sort {}", pagination, sort);
+        }
+    }
+
+    /**
+     * Discards the expired prefetched pages.
+     */
+    private final void removeExpired() {
+        final Iterator<PrefetchedPage<T>> itr;
+        final Long                        now;
+
+        now = clock.millis();
+        itr = pages.values()
+            .iterator();
+        while (itr.hasNext()) {
+            if (itr.next()
+                .getExpiresAt() <= now) {
+                itr.remove();
+                statistics.waste(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.prefetch;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+/**
+ * Counters to tell if the prefetched pages are actually used.
+ * <p>
+ * These are exported through JMX, when it is enabled.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@ManagedResource(objectName = "Spring_boot_web.I_dont_know:type=PagePrefetch")
+public final class PrefetchStatistics {
+
+    /**
+     * Pages served from the prefetched ones.
+     */
+    private final LongAdder hits   = new LongAdder();
+
+    /**
+     * Pages which had to be read, as they were not prefetched.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Prefetched pages which were discarded without being served.
+     */
+    private final LongAdder wasted = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    public PrefetchStatistics() {
+        super();
+    }
+
+    /**
+     * Returns the ratio of pages served from the prefetched ones.
+     *
+     * @return the ratio of hits, or zero if no page has been requested
+     */
+    @ManagedAttribute(description = "Ratio of pages served from the prefetched ones")
+    public final Double getHitRatio() {
+        final Long   total;
+        final Double ratio;
+
+        total = getHits() + getMisses();
+        if (total == 0) {
+            ratio = 0d;
+        } else {
+            ratio = getHits() / total.doubleValue();
+        }
+
+        return ratio;
+    }
+
+    /**
+     * Returns the number of pages served from the prefetched ones.
+     *
+     * @return the number of hits
+     */
+    @ManagedAttribute(description = "Pages served from the prefetched ones")
+    public final Long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of pages which had to be read, as they were not prefetched.
+     *
+     * @return the number of misses
+     */
+    @ManagedAttribute(description = "Pages which were not prefetched")
+    public final Long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of prefetched pages which were discarded without being served.
+     *
+     * @return the number of wasted prefetches
+     */
+    @ManagedAttribute(description = "Prefetched pages discarded without being served")
+    public final Long getWasted() {
+        return wasted.sum();
+    }
+
+    /**
+     * Records a page served from the prefetched ones.
+     */
+    public final void hit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a page which was not prefetched.
+     */
+    public final void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Records prefetched pages discarded without being served.
+     *
+     * @param count
+     *            number of discarded pages
+     */
+    public final void waste(final Integer count) {
+        wasted.add(count);
+    }
+
+}
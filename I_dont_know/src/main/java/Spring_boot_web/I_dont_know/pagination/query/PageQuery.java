@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.query;
+
+import org.springframework.data.domain.Pageable;
+
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+
+/**
+ * Paged and sorted data request, ready to be applied to the repositories.
+ * <p>
+ * Keeps the pagination and sort requests along the Spring {@code Pageable} built from them, so the conversion is done
+ * only once.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface PageQuery {
+
+    /**
+     * Returns the query for the received pagination and sort. To reuse the queries for repeated combinations use a
+     * {@link PageQueryCache}.
+     *
+     * @param pagination
+     *            pagination request
+     * @param sort
+     *            sort request
+     * @return the query for the pagination and sort
+     */
+    public static PageQuery of(final Pagination pagination, final Sort sort) {
+        return new ImmutablePageQuery(Paginations.toSpring(pagination, sort), pagination, sort);
+    }
+
+    /**
+     * Spring pageable built from the pagination and sort.
+     *
+     * @return the Spring pageable
+     */
+    public Pageable getPageable();
+
+    /**
+     * Pagination request.
+     *
+     * @return the pagination request
+     */
+    public Pagination getPagination();
+
+    /**
+     * Sort request.
+     *
+     * @return the sort request
+     */
+    public Sort getSort();
+
+}
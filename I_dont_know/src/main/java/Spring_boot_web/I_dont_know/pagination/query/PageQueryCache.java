@@ -0,0 +1,158 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.pagination.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of page queries, which keeps the Spring {@code Pageable} built for the repeated pagination and sort
+ * combinations.
+ * <p>
+ * Only the paginations which are requested again and again are cached. These are the first pages, and the first keyset
+ * page. Deeper pages and keyset pages after the first one are unlikely to be repeated, as each cursor is unique, so
+ * they are built and not cached. The cache is bounded, and evicts the least used queries.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class PageQueryCache {
+
+    /**
+     * Cached query key.
+     */
+    @Data
+    private static final class QueryKey {
+
+        /**
+         * Pagination request.
+         */
+        @NonNull
+        private final Pagination pagination;
+
+        /**
+         * Sort request.
+         */
+        @NonNull
+        private final Sort       sort;
+
+    }
+
+    /**
+     * Number of pages, from the first one, which are cached.
+     */
+    private final Integer                    maxPage;
+
+    /**
+     * Cached queries.
+     */
+    private final Cache<QueryKey, PageQuery> queries;
+
+    /**
+     * Builds a cache with the received limits.
+     *
+     * @param maxQueries
+     *            maximum number of cached queries
+     * @param pages
+     *            number of pages, from the first one, which are cached
+     */
+    public PageQueryCache(@NonNull final Integer maxQueries, @NonNull final Integer pages) {
+        super();
+
+        maxPage = pages;
+        queries = Caffeine.newBuilder()
+            .maximumSize(maxQueries)
+            .build();
+    }
+
+    /**
+     * Returns the query for the received pagination and sort, taking it from the cache if possible.
+     *
+     * @param pagination
+     *            pagination request
+     * @param sort
+     *            sort request
+     * @return the query for the pagination and sort
+     */
+    public final PageQuery get(final Pagination pagination, final Sort sort) {
+        final PageQuery query;
+
+        if (isCached(pagination)) {
+            query = queries.get(new QueryKey(pagination, sort), k -> build(pagination, sort));
+        } else {
+            query = build(pagination, sort);
+        }
+
+        return query;
+    }
+
+    /**
+     * Builds the query for the received pagination and sort.
+     *
+     * @param pagination
+     *            pagination request
+     * @param sort
+     *            sort request
+     * @return the query for the pagination and sort
+     */
+    private final PageQuery build(final Pagination pagination, final Sort sort) {
+        log.trace("Building query for {} and {}", pagination, sort);
+        return new ImmutablePageQuery(Paginations.toSpring(pagination, sort), pagination, sort);
+    }
+
+    /**
+     * Checks if the queries for the pagination are cached. Only the first keyset page and the first offset pages are
+     * cached, as the rest are unlikely to be requested again.
+     *
+     * @param pagination
+     *            pagination to check
+     * @return {@code true} if the queries for the pagination are cached, {@code false} otherwise
+     */
+    private final Boolean isCached(final Pagination pagination) {
+        final Boolean cached;
+
+        if (!pagination.getPaged()) {
+            cached = true;
+        } else if (pagination.getKeyset()) {
+            cached = pagination.getCursor()
+                .isEmpty();
+        } else {
+            cached = pagination.getPage() < maxPage;
+        }
+
+        return cached;
+    }
+
+}
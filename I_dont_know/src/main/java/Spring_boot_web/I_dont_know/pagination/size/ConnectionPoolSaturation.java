@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.size;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Returns the saturation of the connection pools, as the ratio of connections in use to the maximum pool size. When
+ * there are several pools, such as a primary and a read replica, the most saturated one is taken.
+ * <p>
+ * The pools are received directly, instead of unwrapping the application data source. With a read replica that one is
+ * a proxy over the routing data source, which would only lead to the primary pool, while the paged reads go to the
+ * replica.
+ * <p>
+ * Only Hikari pools are supported. Without them the pools are never saturated.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class ConnectionPoolSaturation implements Supplier<Double> {
+
+    /**
+     * Hikari pools to check.
+     */
+    private final Collection<HikariDataSource> pools;
+
+    /**
+     * Builds a saturation supplier for the pools.
+     *
+     * @param hikariPools
+     *            pools to check
+     */
+    public ConnectionPoolSaturation(@NonNull final Collection<HikariDataSource> hikariPools) {
+        super();
+
+        pools = new ArrayList<>(hikariPools);
+        if (pools.isEmpty()) {
+            log.info("There is no Hikari pool, the saturation won't be checked");
+        }
+    }
+
+    @Override
+    public final Double get() {
+        return pools.stream()
+            .mapToDouble(this::getSaturation)
+            .max()
+            .orElse(0d);
+    }
+
+    /**
+     * Returns the saturation of the pool.
+     *
+     * @param hikari
+     *            pool to check
+     * @return the saturation of the pool
+     */
+    private final double getSaturation(final HikariDataSource hikari) {
+        final HikariPoolMXBean pool;
+        final double           saturation;
+
+        // The pool is created lazily, with the first connection
+        pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            saturation = 0d;
+        } else {
+            saturation = (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+        }
+
+        return saturation;
+    }
+
+}
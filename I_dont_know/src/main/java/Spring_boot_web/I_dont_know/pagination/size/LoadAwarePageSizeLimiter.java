@@ -0,0 +1,185 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.size;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Page size limiter which adapts to the current load.
+ * <p>
+ * Page sizes are always capped by:
+ * <ul>
+ * <li>The maximum page size.</li>
+ * <li>The byte budget, divided by the average serialized size of a row.</li>
+ * <li>The adaptive size, if enabled.</li>
+ * </ul>
+ * <p>
+ * The adaptive size is checked at most once per evaluation interval. If the p99 latency or the connection pool
+ * saturation are above their thresholds then it is halved, down to the minimum size. Otherwise it grows back a tenth
+ * of the maximum size each time.
+ * <p>
+ * No lock is taken on the request path. Once the interval passes, the first thread which moves the next evaluation
+ * time forward checks the load, while the rest keep using the current adaptive size.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class LoadAwarePageSizeLimiter implements PageSizeLimiter {
+
+    /**
+     * Current adaptive size.
+     */
+    private volatile Integer       adaptiveSize;
+
+    /**
+     * Clock to check the evaluation interval.
+     */
+    private final Clock            clock;
+
+    /**
+     * Limits to apply.
+     */
+    private final PageSizeLimits   limits;
+
+    /**
+     * Milliseconds of the next load evaluation.
+     */
+    private final AtomicLong       nextEvaluation = new AtomicLong();
+
+    /**
+     * Connection pool saturation.
+     */
+    private final Supplier<Double> saturation;
+
+    /**
+     * Tracker with the recent load.
+     */
+    private final PageLoadTracker  tracker;
+
+    /**
+     * Builds a limiter with the received configuration.
+     *
+     * @param pageLimits
+     *            limits to apply
+     * @param loadTracker
+     *            tracker with the recent load
+     * @param poolSaturation
+     *            connection pool saturation
+     */
+    public LoadAwarePageSizeLimiter(@NonNull final PageSizeLimits pageLimits,
+            @NonNull final PageLoadTracker loadTracker, @NonNull final Supplier<Double> poolSaturation) {
+        this(pageLimits, loadTracker, poolSaturation, Clock.systemUTC());
+    }
+
+    /**
+     * Builds a limiter with the received configuration.
+     *
+     * @param pageLimits
+     *            limits to apply
+     * @param loadTracker
+     *            tracker with the recent load
+     * @param poolSaturation
+     *            connection pool saturation
+     * @param clck
+     *            clock to check the evaluation interval
+     */
+    public LoadAwarePageSizeLimiter(@NonNull final PageSizeLimits pageLimits,
+            @NonNull final PageLoadTracker loadTracker, @NonNull final Supplier<Double> poolSaturation,
+            @NonNull final Clock clck) {
+        super();
+
+        limits = pageLimits;
+        tracker = loadTracker;
+        saturation = poolSaturation;
+        clock = clck;
+
+        adaptiveSize = limits.getMaxSize();
+    }
+
+    @Override
+    public final Integer limit(final Integer size) {
+        final Integer capped;
+        final Integer adapted;
+        final Double  rowBytes;
+        final Integer limit;
+
+        capped = Math.min(size, limits.getMaxSize());
+
+        if (limits.getAdaptive()) {
+            evaluate();
+            adapted = Math.min(capped, adaptiveSize);
+        } else {
+            adapted = capped;
+        }
+
+        rowBytes = tracker.getAverageRowBytes();
+        if (rowBytes > 0) {
+            limit = (int) Math.min(adapted, Math.max(1, limits.getMaxBytes() / rowBytes));
+        } else {
+            limit = adapted;
+        }
+
+        log.trace("Limited page size {} to {}", size, limit);
+
+        return limit;
+    }
+
+    /**
+     * Updates the adaptive size to the current load, if the evaluation interval has passed. Only the thread which
+     * claims the evaluation updates it.
+     */
+    private final void evaluate() {
+        final long    now;
+        final long    next;
+        final Long    latency;
+        final Double  currentSaturation;
+        final Boolean overloaded;
+
+        now = clock.millis();
+        next = nextEvaluation.get();
+        if ((now >= next) && (nextEvaluation.compareAndSet(next, now + limits.getEvaluationInterval()
+            .toMillis()))) {
+            latency = tracker.getLatencyPercentile(0.99);
+            currentSaturation = saturation.get();
+            overloaded = (latency > limits.getLatencyThreshold()
+                .toMillis()) || (currentSaturation > limits.getSaturationThreshold());
+            if (overloaded) {
+                adaptiveSize = Math.max(Math.min(limits.getMinSize(), limits.getMaxSize()), adaptiveSize / 2);
+                log.debug("Overloaded, with p99 latency {} ms and pool saturation {}. Page size reduced to {}",
+                    latency, currentSaturation, adaptiveSize);
+            } else if (adaptiveSize < limits.getMaxSize()) {
+                adaptiveSize = Math.min(limits.getMaxSize(), adaptiveSize + Math.max(1, limits.getMaxSize() / 10));
+                log.debug("Load recovered, page size increased to {}", adaptiveSize);
+            }
+        }
+    }
+
+}
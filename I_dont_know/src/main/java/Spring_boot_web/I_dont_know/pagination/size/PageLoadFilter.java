@@ -0,0 +1,155 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.size;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.NonNull;
+
+/**
+ * Records the load of each request into the {@link PageLoadTracker}.
+ * <p>
+ * The latency is recorded for all the requests. For paginated requests the serialized size of the page is recorded
+ * too, by counting the bytes written to the response. Asynchronous requests, such as streamed responses, are not
+ * recorded.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class PageLoadFilter extends OncePerRequestFilter {
+
+    /**
+     * Response wrapper which counts the bytes written into its output stream.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        /**
+         * Bytes written.
+         */
+        private long                bytes = 0;
+
+        /**
+         * Counting output stream.
+         */
+        private ServletOutputStream output;
+
+        /**
+         * Wraps the response.
+         *
+         * @param response
+         *            response to wrap
+         */
+        public CountingResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public final ServletOutputStream getOutputStream() throws IOException {
+            final ServletOutputStream delegate;
+
+            if (output == null) {
+                delegate = super.getOutputStream();
+                output = new ServletOutputStream() {
+
+                    @Override
+                    public final boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public final void setWriteListener(final WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+
+                    @Override
+                    public final void write(final byte[] b, final int off, final int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public final void write(final int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                };
+            }
+
+            return output;
+        }
+
+    }
+
+    /**
+     * Tracker to record the load into.
+     */
+    private final PageLoadTracker tracker;
+
+    /**
+     * Builds a filter recording into the tracker.
+     *
+     * @param loadTracker
+     *            tracker to record the load into
+     */
+    public PageLoadFilter(@NonNull final PageLoadTracker loadTracker) {
+        super();
+
+        tracker = loadTracker;
+    }
+
+    @Override
+    protected final void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final long             start;
+        final CountingResponse counting;
+        final Object           rows;
+
+        start = System.nanoTime();
+        counting = new CountingResponse(response);
+
+        filterChain.doFilter(request, counting);
+
+        if (!request.isAsyncStarted()) {
+            tracker.recordLatency((System.nanoTime() - start) / 1_000_000);
+
+            rows = request.getAttribute(PageLoadTracker.ROWS_ATTRIBUTE);
+            if ((rows instanceof Integer) && (counting.bytes > 0)) {
+                tracker.recordPage((Integer) rows, counting.bytes);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.size;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps track of the recent load, to adapt the page sizes to it.
+ * <p>
+ * The latencies of the latest requests are kept in a fixed ring buffer, so recording them takes constant time and
+ * memory. The serialized size of each row is averaged over the latest pages.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class PageLoadTracker {
+
+    /**
+     * Request attribute with the number of rows in the page, set when writing the paginated response.
+     */
+    public static final String  ROWS_ATTRIBUTE   = PageLoadTracker.class.getName() + ".rows";
+
+    /**
+     * Weight of each new page in the row size average.
+     */
+    private static final double ROW_BYTES_WEIGHT = 0.1;
+
+    /**
+     * Number of latencies kept.
+     */
+    private static final int    WINDOW           = 1024;
+
+    /**
+     * Average serialized size of a row, in bytes. Zero until a page is recorded.
+     */
+    private double              averageRowBytes  = 0;
+
+    /**
+     * Index for the next latency.
+     */
+    private final AtomicLong    index            = new AtomicLong();
+
+    /**
+     * Latest latencies, in milliseconds.
+     */
+    private final long[]        latencies        = new long[WINDOW];
+
+    /**
+     * Default constructor.
+     */
+    public PageLoadTracker() {
+        super();
+    }
+
+    /**
+     * Returns the average serialized size of a row.
+     *
+     * @return the average row size in bytes, or zero if unknown
+     */
+    public final synchronized Double getAverageRowBytes() {
+        return averageRowBytes;
+    }
+
+    /**
+     * Returns the latency percentile over the latest requests.
+     *
+     * @param percentile
+     *            percentile to return, from 0 to 1
+     * @return the latency percentile in milliseconds, or zero if there are no requests
+     */
+    public final Long getLatencyPercentile(final Double percentile) {
+        final int    count;
+        final long[] sorted;
+        final Long   result;
+
+        count = (int) Math.min(index.get(), WINDOW);
+        if (count == 0) {
+            result = 0L;
+        } else {
+            sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            result = sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)];
+        }
+
+        return result;
+    }
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param millis
+     *            request latency, in milliseconds
+     */
+    public final void recordLatency(final long millis) {
+        latencies[(int) (index.getAndIncrement() % WINDOW)] = millis;
+    }
+
+    /**
+     * Records the serialized size of a page.
+     *
+     * @param rows
+     *            rows in the page
+     * @param bytes
+     *            serialized size of the page
+     */
+    public final synchronized void recordPage(final int rows, final long bytes) {
+        final double rowBytes;
+
+        if (rows > 0) {
+            rowBytes = (double) bytes / rows;
+            if (averageRowBytes == 0) {
+                averageRowBytes = rowBytes;
+            } else {
+                averageRowBytes = (ROW_BYTES_WEIGHT * rowBytes) + ((1 - ROW_BYTES_WEIGHT) * averageRowBytes);
+            }
+            log.trace("Recorded {} bytes for {} rows, average row size is {}", bytes, rows, averageRowBytes);
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.pagination.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import Spring_boot_web.I_dont_know.pagination.model.Cursor;
+import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+
+/**
+ * Keyset cursor utility class.
+ * <p>
+ * Cursors are sent to the client as opaque tokens, which are just the cursor data encoded into URL-safe Base64.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class Cursors {
+
+    /**
+     * Property used as tie-breaker for repeated sort keys.
+     */
+    private static final String ID_PROPERTY = "id";
+
+    /**
+     * Decodes the token into a cursor, validating it was created for the received sort.
+     * <p>
+     * An empty token points to the first page.
+     *
+     * @param token
+     *            token to decode
+     * @param sort
+     *            sort applied to the request
+     * @return the decoded cursor
+     * @throws InvalidCursorException
+     *             if the token is not a valid cursor for the sort
+     */
+    public static final Cursor decode(final String token, final Sort sort) {
+        final Cursor    cursor;
+        final String    property;
+        final Direction direction;
+        final String    value;
+        final Integer   id;
+        final Boolean   forward;
+
+        if (token.isEmpty()) {
+            cursor = Cursor.first(sort);
+        } else {
+            try (final DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder()
+                    .decode(token)))) {
+                property = input.readUTF();
+                direction = Direction.valueOf(input.readUTF());
+                value = input.readUTF();
+                id = input.readInt();
+                forward = input.readBoolean();
+            } catch (final IOException | IllegalArgumentException e) {
+                throw new InvalidCursorException(String.format("Invalid cursor %s", token), e);
+            }
+
+            if ((!property.equals(sort.getProperty())) || (!direction.equals(sort.getDirection()))) {
+                throw new InvalidCursorException(
+                    String.format("Cursor %s does not match sorting by %s %s", token, sort.getProperty(),
+                        sort.getDirection()));
+            }
+
+            cursor = Cursor.of(property, direction, value, id, forward);
+        }
+
+        return cursor;
+    }
+
+    /**
+     * Encodes the cursor into an opaque token.
+     *
+     * @param cursor
+     *            cursor to encode
+     * @return the cursor as a token
+     */
+    public static final String encode(final Cursor cursor) {
+        final ByteArrayOutputStream bytes;
+        final String                token;
+
+        if (cursor.getFirst()) {
+            // The first page has no position
+            token = "";
+        } else {
+            bytes = new ByteArrayOutputStream();
+            try (final DataOutputStream output = new DataOutputStream(bytes)) {
+                output.writeUTF(cursor.getProperty());
+                output.writeUTF(cursor.getDirection()
+                    .name());
+                output.writeUTF(cursor.getValue());
+                output.writeInt(cursor.getId());
+                output.writeBoolean(cursor.getForward());
+            } catch (final IOException e) {
+                // Can't happen when writing into memory
+                throw new IllegalStateException(e);
+            }
+
+            token = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(bytes.toByteArray());
+        }
+
+        return token;
+    }
+
+    /**
+     * Returns the token for a cursor pointing to the received row.
+     *
+     * @param row
+     *            row to seek from
+     * @param sort
+     *            sort applied to the pages
+     * @param forward
+     *            reading direction, {@code true} for the next page, {@code false} for the previous one
+     * @return token for a cursor pointing to the row
+     */
+    public static final String from(final Object row, final Sort sort, final Boolean forward) {
+        final BeanWrapper wrapper;
+        final String      value;
+        final Integer     id;
+
+        wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        value = Objects.toString(wrapper.getPropertyValue(sort.getProperty()), "");
+        id = (Integer) wrapper.getPropertyValue(ID_PROPERTY);
+
+        return encode(Cursor.of(sort.getProperty(), sort.getDirection(), value, id, forward));
+    }
+
+    /**
+     * Returns the sort to apply for keyset pagination. Keyset pagination requires a stable order, so when no sort is
+     * received the rows are sorted by id.
+     * <p>
+     * The cursor stores a single key, and the id is always used as tie-breaker. So the only key allowed after the first
+     * one is the id, in the same direction, which is what the tie-breaker appended to the sorts already looks like. Any
+     * other key is rejected instead of being silently ignored.
+     *
+     * @param sort
+     *            received sort
+     * @return sort to apply for keyset pagination
+     * @throws InvalidCursorException
+     *             if the sort has more keys than the cursor can store
+     */
+    public static final Sort toKeysetSort(final Sort sort) {
+        final Sort result;
+
+        if (sort.getSorted()) {
+            if (!isSingleKey(sort)) {
+                throw new InvalidCursorException(
+                    String.format("Cursors support a single sorting key, followed by %s, but received %s",
+                        ID_PROPERTY, sort.getOrders()));
+            }
+            result = Sort.of(sort.getProperty(), sort.getDirection());
+        } else {
+            result = Sort.asc(ID_PROPERTY);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the sort can be stored in a cursor. This is a sort with a single key, or one followed only by the id in
+     * the same direction.
+     *
+     * @param sort
+     *            sort to check
+     * @return {@code true} if the sort can be stored in a cursor, {@code false} otherwise
+     */
+    private static final Boolean isSingleKey(final Sort sort) {
+        final List<Order> orders;
+        final Order       last;
+        final Boolean     single;
+
+        orders = sort.getOrders();
+        if (orders.size() == 1) {
+            single = true;
+        } else if (orders.size() == 2) {
+            last = orders.get(1);
+            single = (ID_PROPERTY.equals(last.getProperty())) && (sort.getDirection()
+                .equals(last.getDirection()));
+        } else {
+            single = false;
+        }
+
+        return single;
+    }
+
+    private Cursors() {
+        super();
+    }
+
+}
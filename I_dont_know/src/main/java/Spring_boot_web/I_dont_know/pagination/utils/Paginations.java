@@ -24,14 +24,22 @@
 
 package Spring_boot_web.I_dont_know.pagination.utils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import Spring_boot_web.I_dont_know.pagination.model.Cursor;
 import Spring_boot_web.I_dont_know.pagination.model.DefaultPageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
 import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.SlicePageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
 
 /**
@@ -43,28 +51,156 @@ import Spring_boot_web.I_dont_know.pagination.model.Sort;
 public final class Paginations {
 
     public static final <T> PageIterable<T> fromSpring(final Page<T> page) {
+        return new SlicePageIterable<>(page, page.getTotalElements(), page.getTotalPages(), false);
+    }
+
+    /**
+     * Builds a page from a Spring slice. Slices don't count the total number of elements, so the totals are left
+     * unknown, but it is still known if there is a next page.
+     *
+     * @param <T>
+     *            type of the elements
+     * @param slice
+     *            slice to transform
+     * @return the slice as a page
+     */
+    public static final <T> PageIterable<T> fromSpring(final Slice<T> slice) {
+        return new SlicePageIterable<>(slice, -1L, -1, false);
+    }
+
+    /**
+     * Builds a page from a Spring slice, taking the totals from an already known count. This allows reading a full
+     * page without running the count query.
+     *
+     * @param <T>
+     *            type of the elements
+     * @param slice
+     *            slice to transform
+     * @param totalElements
+     *            total number of elements among all the pages
+     * @return the slice as a page
+     */
+    public static final <T> PageIterable<T> fromSpring(final Slice<T> slice, final Long totalElements) {
+        return fromSpring(slice, totalElements, false);
+    }
+
+    /**
+     * Builds a page from a Spring slice, taking the totals from an already known, or estimated, count.
+     * <p>
+     * Counts may be outdated, so they are corrected with the elements known to exist from the slice.
+     *
+     * @param <T>
+     *            type of the elements
+     * @param slice
+     *            slice to transform
+     * @param totalElements
+     *            total number of elements among all the pages
+     * @param approximate
+     *            {@code true} if the total number of elements is an estimation, {@code false} otherwise
+     * @return the slice as a page
+     */
+    public static final <T> PageIterable<T> fromSpring(final Slice<T> slice, final Long totalElements,
+            final Boolean approximate) {
+        final Long    known;
+        final Long    total;
+        final Integer totalPages;
+
+        // Elements up to this slice
+        known = (slice.getNumber() * (long) slice.getSize()) + slice.getNumberOfElements();
+        if (slice.hasNext()) {
+            // There is at least one more
+            total = Math.max(totalElements, known + 1);
+        } else if (slice.hasContent()) {
+            // This is the last slice, so the total is known exactly
+            total = known;
+        } else {
+            // Out of range, nothing is known
+            total = totalElements;
+        }
+
+        if (slice.getSize() > 0) {
+            totalPages = (int) Math.ceil((double) total / slice.getSize());
+        } else {
+            totalPages = 1;
+        }
+
+        return new SlicePageIterable<>(slice, total, totalPages, approximate);
+    }
+
+    /**
+     * Builds a keyset page from the rows read after the cursor.
+     * <p>
+     * The rows are expected to include one additional row, which is discarded but tells if there are more rows in the
+     * reading direction. Rows read backward are reversed, so the content is always in the sort order.
+     *
+     * @param <T>
+     *            type of the rows
+     * @param rows
+     *            rows read, including one additional row if there are more
+     * @param size
+     *            page size
+     * @param sort
+     *            sort applied to the rows
+     * @param cursor
+     *            cursor the rows were read from
+     * @return the keyset page
+     */
+    public static final <T> PageIterable<T> fromKeyset(final List<T> rows, final Integer size, final Sort sort,
+            final Cursor cursor) {
         final DefaultPageIterable<T> result;
+        final List<T>                content;
+        final Boolean                more;
+        final Boolean                hasNext;
+        final Boolean                hasPrevious;
+
+        more = rows.size() > size;
+        if (more) {
+            content = new ArrayList<>(rows.subList(0, size));
+        } else {
+            content = new ArrayList<>(rows);
+        }
+
+        if (cursor.getForward()) {
+            hasNext = more;
+            hasPrevious = !cursor.getFirst();
+        } else {
+            // Rows were read backward
+            Collections.reverse(content);
+            hasNext = true;
+            hasPrevious = more;
+        }
 
         result = new DefaultPageIterable<>();
-        result.setContent(page.getContent());
-        result.setElementsInPage(page.getNumberOfElements());
-        result.setFirst(page.isFirst());
-        result.setLast(page.isLast());
-        result.setPageNumber(page.getNumber());
-        result.setSize(page.getSize());
-        result.setTotalElements(page.getTotalElements());
-        result.setTotalPages(page.getTotalPages());
+        result.setContent(content);
+        result.setElementsInPage(content.size());
+        result.setFirst(!hasPrevious);
+        result.setLast(!hasNext);
+        result.setHasNext(hasNext);
+        result.setSize(size);
+        // Keyset pages have no index, and don't count the rows
+        result.setPageNumber(-1);
+        result.setTotalElements(-1L);
+        result.setTotalPages(-1);
+
+        if ((hasNext) && (!content.isEmpty())) {
+            result.setNextCursor(Cursors.from(content.get(content.size() - 1), sort, true));
+        }
+        if ((hasPrevious) && (!content.isEmpty())) {
+            result.setPreviousCursor(Cursors.from(content.get(0), sort, false));
+        }
 
         return result;
     }
 
-    public static final Pageable toSpring(final Pagination pagination, final Sort sort) {
-        final Pageable                                       pageable;
-        final org.springframework.data.domain.Sort.Direction direction;
-        final Boolean                                        paged;
-        final Integer                                        size;
-
-        paged = (pagination.getPaged()) && (pagination.getPage() >= 0);
+    /**
+     * Returns the page size to apply. If the pagination has no valid size, then the default size is used.
+     *
+     * @param pagination
+     *            pagination to read the size from
+     * @return the page size
+     */
+    public static final Integer toSize(final Pagination pagination) {
+        final Integer size;
 
         if (pagination.getSize() > 0) {
             size = pagination.getSize();
@@ -72,17 +208,30 @@ public final class Paginations {
             size = Pagination.DEFAULT_SIZE;
         }
 
+        return size;
+    }
+
+    public static final Pageable toSpring(final Pagination pagination, final Sort sort) {
+        final Pageable                             pageable;
+        final org.springframework.data.domain.Sort springSort;
+        final Boolean                              paged;
+        final Integer                              size;
+
+        paged = (pagination.getPaged()) && (pagination.getPage() >= 0);
+
+        size = toSize(pagination);
+
         if ((paged) && (sort.getSorted())) {
             // Paged and sorted
-            direction = toSpringDirection(sort.getDirection());
-            pageable = PageRequest.of(pagination.getPage(), size, direction, sort.getProperty());
+            springSort = toSpring(sort);
+            pageable = PageRequest.of(pagination.getPage(), size, springSort);
         } else if (paged) {
             // Only paged
             pageable = PageRequest.of(pagination.getPage(), size);
         } else if (sort.getSorted()) {
             // Only sorted
-            direction = toSpringDirection(sort.getDirection());
-            pageable = PageRequest.of(0, Pagination.DEFAULT_SIZE, direction, sort.getProperty());
+            springSort = toSpring(sort);
+            pageable = PageRequest.of(0, Pagination.DEFAULT_SIZE, springSort);
         } else {
             // Not paged nor sorted
             pageable = Pageable.unpaged();
@@ -91,6 +240,26 @@ public final class Paginations {
         return pageable;
     }
 
+    /**
+     * Transforms the sort into Spring's model, keeping all the sorting keys in order.
+     *
+     * @param sort
+     *            sort to transform
+     * @return Spring's sort
+     */
+    public static final org.springframework.data.domain.Sort toSpring(final Sort sort) {
+        final List<org.springframework.data.domain.Sort.Order> orders;
+
+        orders = new ArrayList<>(sort.getOrders()
+            .size());
+        for (final Order order : sort.getOrders()) {
+            orders.add(new org.springframework.data.domain.Sort.Order(toSpringDirection(order.getDirection()),
+                order.getProperty()));
+        }
+
+        return org.springframework.data.domain.Sort.by(orders);
+    }
+
     private static final org.springframework.data.domain.Sort.Direction toSpringDirection(final Direction direction) {
         final org.springframework.data.domain.Sort.Direction result;
 
@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.cache;
+
+import java.util.Collection;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.NonNull;
+
+/**
+ * Counters to tell how often each of the application caches answers the reads, and how many values it evicts.
+ * <p>
+ * These are taken from the Caffeine statistics, which should be recorded by the caches, and are exported through JMX,
+ * when it is enabled. Caches unknown by the manager, or not backed by Caffeine, have empty statistics.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@ManagedResource(objectName = "Spring_boot_web.I_dont_know:type=Caches")
+public final class CaffeineCacheStatistics {
+
+    /**
+     * Cache manager holding the caches.
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * Builds the counters over the caches in the received manager.
+     *
+     * @param manager
+     *            cache manager
+     */
+    public CaffeineCacheStatistics(@NonNull final CacheManager manager) {
+        super();
+
+        cacheManager = manager;
+    }
+
+    /**
+     * Returns the names of the caches created by the manager.
+     *
+     * @return the cache names
+     */
+    @ManagedAttribute(description = "Names of the caches")
+    public final String[] getCacheNames() {
+        return cacheManager.getCacheNames()
+            .toArray(new String[0]);
+    }
+
+    /**
+     * Returns the number of values evicted from the cache, due to its size or expiration.
+     *
+     * @param name
+     *            cache name
+     * @return the number of evictions
+     */
+    @ManagedOperation(description = "Values evicted from the cache")
+    @ManagedOperationParameter(name = "cache", description = "Cache name")
+    public final Long getEvictions(final String name) {
+        return getStats(name).evictionCount();
+    }
+
+    /**
+     * Returns the ratio of reads answered by the cache.
+     *
+     * @param name
+     *            cache name
+     * @return the hit ratio, or one if no value has been looked up
+     */
+    @ManagedOperation(description = "Ratio of reads answered by the cache")
+    @ManagedOperationParameter(name = "cache", description = "Cache name")
+    public final Double getHitRatio(final String name) {
+        return getStats(name).hitRate();
+    }
+
+    /**
+     * Returns the number of values read from the cache.
+     *
+     * @param name
+     *            cache name
+     * @return the number of hits
+     */
+    @ManagedOperation(description = "Values read from the cache")
+    @ManagedOperationParameter(name = "cache", description = "Cache name")
+    public final Long getHits(final String name) {
+        return getStats(name).hitCount();
+    }
+
+    /**
+     * Returns the number of values loaded into the cache, including the refreshed ones.
+     *
+     * @param name
+     *            cache name
+     * @return the number of loads
+     */
+    @ManagedOperation(description = "Values loaded into the cache, including refreshes")
+    @ManagedOperationParameter(name = "cache", description = "Cache name")
+    public final Long getLoads(final String name) {
+        return getStats(name).loadCount();
+    }
+
+    /**
+     * Returns the number of values looked up in the cache, but not found.
+     *
+     * @param name
+     *            cache name
+     * @return the number of misses
+     */
+    @ManagedOperation(description = "Values looked up in the cache, but not found")
+    @ManagedOperationParameter(name = "cache", description = "Cache name")
+    public final Long getMisses(final String name) {
+        return getStats(name).missCount();
+    }
+
+    /**
+     * Returns the statistics for the cache.
+     *
+     * @param name
+     *            cache name
+     * @return the cache statistics, or empty statistics if there is no such Caffeine cache
+     */
+    private final CacheStats getStats(final String name) {
+        final Collection<String> names;
+        final Cache              cache;
+        final CacheStats         stats;
+
+        names = cacheManager.getCacheNames();
+        // Checked first, as the manager may create missing caches
+        if (names.contains(name)) {
+            cache = cacheManager.getCache(name);
+        } else {
+            cache = null;
+        }
+
+        if (cache instanceof CaffeineCache) {
+            stats = ((CaffeineCache) cache).getNativeCache()
+                .stats();
+        } else {
+            stats = CacheStats.empty();
+        }
+
+        return stats;
+    }
+
+}
@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.cache;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import lombok.NonNull;
+
+/**
+ * Cache loader which reads the values through a function received after building the cache. This allows refreshing the
+ * values of caches created before the component which knows how to read them.
+ * <p>
+ * Until the function is set nothing is loaded, and refreshed values are discarded.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class DelegatingCacheLoader implements CacheLoader<Object, Object> {
+
+    /**
+     * Function which reads the value for a key.
+     */
+    private volatile Function<Object, Object> delegate = key -> null;
+
+    public DelegatingCacheLoader() {
+        super();
+    }
+
+    @Override
+    public final Object load(final Object key) {
+        return delegate.apply(key);
+    }
+
+    /**
+     * Sets the function which reads the value for a key.
+     *
+     * @param loader
+     *            function reading the values
+     */
+    public final void setDelegate(@NonNull final Function<Object, Object> loader) {
+        delegate = loader;
+    }
+
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.cache;
+
+import org.hibernate.stat.Statistics;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import lombok.NonNull;
+
+/**
+ * Counters to tell how often the entities and queries are read from the Hibernate second level cache, instead of the
+ * database.
+ * <p>
+ * These are taken from the Hibernate statistics, which should be enabled, and are exported through JMX, when it is
+ * enabled.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@ManagedResource(objectName = "Spring_boot_web.I_dont_know:type=SecondLevelCache")
+public final class SecondLevelCacheStatistics {
+
+    /**
+     * Hibernate statistics.
+     */
+    private final Statistics statistics;
+
+    /**
+     * Builds the counters over the received statistics.
+     *
+     * @param stats
+     *            Hibernate statistics
+     */
+    public SecondLevelCacheStatistics(@NonNull final Statistics stats) {
+        super();
+
+        statistics = stats;
+    }
+
+    /**
+     * Returns the ratio of entity reads answered by the cache.
+     *
+     * @return the entity hit ratio, or zero if no entity has been looked up
+     */
+    @ManagedAttribute(description = "Ratio of entity reads answered by the cache")
+    public final Double getEntityHitRatio() {
+        return getRatio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount());
+    }
+
+    /**
+     * Returns the number of entities read from the cache.
+     *
+     * @return the number of entity cache hits
+     */
+    @ManagedAttribute(description = "Entities read from the cache")
+    public final Long getEntityHits() {
+        return statistics.getSecondLevelCacheHitCount();
+    }
+
+    /**
+     * Returns the number of entities looked up in the cache, but not found.
+     *
+     * @return the number of entity cache misses
+     */
+    @ManagedAttribute(description = "Entities looked up in the cache, but not found")
+    public final Long getEntityMisses() {
+        return statistics.getSecondLevelCacheMissCount();
+    }
+
+    /**
+     * Returns the number of entities stored in the cache.
+     *
+     * @return the number of entity cache puts
+     */
+    @ManagedAttribute(description = "Entities stored in the cache")
+    public final Long getEntityPuts() {
+        return statistics.getSecondLevelCachePutCount();
+    }
+
+    /**
+     * Returns the ratio of queries answered by the cache.
+     *
+     * @return the query hit ratio, or zero if no query has been looked up
+     */
+    @ManagedAttribute(description = "Ratio of queries answered by the cache")
+    public final Double getQueryHitRatio() {
+        return getRatio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount());
+    }
+
+    /**
+     * Returns the number of query results read from the cache.
+     *
+     * @return the number of query cache hits
+     */
+    @ManagedAttribute(description = "Query results read from the cache")
+    public final Long getQueryHits() {
+        return statistics.getQueryCacheHitCount();
+    }
+
+    /**
+     * Returns the number of queries looked up in the cache, but not found or stale.
+     *
+     * @return the number of query cache misses
+     */
+    @ManagedAttribute(description = "Queries looked up in the cache, but not found or stale")
+    public final Long getQueryMisses() {
+        return statistics.getQueryCacheMissCount();
+    }
+
+    /**
+     * Returns the number of query results stored in the cache.
+     *
+     * @return the number of query cache puts
+     */
+    @ManagedAttribute(description = "Query results stored in the cache")
+    public final Long getQueryPuts() {
+        return statistics.getQueryCachePutCount();
+    }
+
+    /**
+     * Returns the number of SQL statements prepared, which are those which actually reached the database.
+     *
+     * @return the number of SQL statements
+     */
+    @ManagedAttribute(description = "SQL statements sent to the database")
+    public final Long getStatements() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Returns the ratio of hits among all the lookups.
+     *
+     * @param hits
+     *            cache hits
+     * @param misses
+     *            cache misses
+     * @return the hit ratio, or zero if there was no lookup
+     */
+    private final Double getRatio(final long hits, final long misses) {
+        final long   lookups;
+        final Double ratio;
+
+        lookups = hits + misses;
+        if (lookups == 0) {
+            ratio = 0d;
+        } else {
+            ratio = hits / (double) lookups;
+        }
+
+        return ratio;
+    }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.event;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JPA entity listener which publishes an {@link EntityWriteEvent} for each write.
+ * <p>
+ * Hibernate creates this listener through the Spring bean container, which takes care of injecting the event
+ * publisher.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public class EntityWriteListener {
+
+    /**
+     * Event publisher.
+     */
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Builds a listener which publishes through the received publisher.
+     *
+     * @param pblshr
+     *            event publisher
+     */
+    public EntityWriteListener(final ApplicationEventPublisher pblshr) {
+        super();
+
+        publisher = pblshr;
+    }
+
+    /**
+     * Publishes the insertion of an entity.
+     *
+     * @param entity
+     *            inserted entity
+     */
+    @PostPersist
+    public void onPersist(final Object entity) {
+        publish(entity, WriteOperation.INSERT);
+    }
+
+    /**
+     * Publishes the removal of an entity.
+     *
+     * @param entity
+     *            removed entity
+     */
+    @PostRemove
+    public void onRemove(final Object entity) {
+        publish(entity, WriteOperation.DELETE);
+    }
+
+    /**
+     * Publishes the update of an entity.
+     *
+     * @param entity
+     *            updated entity
+     */
+    @PostUpdate
+    public void onUpdate(final Object entity) {
+        publish(entity, WriteOperation.UPDATE);
+    }
+
+    /**
+     * Publishes the write event.
+     *
+     * @param entity
+     *            written entity
+     * @param operation
+     *            write operation
+     */
+    private final void publish(final Object entity, final WriteOperation operation) {
+        log.trace("Publishing {} for {}", operation, entity);
+        publisher.publishEvent(new EntityWriteEvent(entity.getClass(), operation));
+    }
+
+}
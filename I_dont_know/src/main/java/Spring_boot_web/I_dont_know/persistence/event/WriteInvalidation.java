@@ -0,0 +1,139 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.event;
+
+import java.util.Objects;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the invalidation of data derived from an entity type after a write, coalesced per transaction.
+ * <p>
+ * Outside a transaction the invalidation runs at once. Inside one, it runs on the first write of the type, and again
+ * once the transaction completes, as data read before the commit could have been cached. Further writes of the same
+ * type in the transaction are already covered by that second run, so a bulk insert invalidates twice instead of twice
+ * per row.
+ * <p>
+ * The registered synchronizations are scoped to the current transaction, so a suspended transaction does not hide the
+ * writes of the one running inside it.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class WriteInvalidation implements TransactionSynchronization {
+
+    /**
+     * Runs the invalidation for a write of the entity type.
+     *
+     * @param owner
+     *            object which owns the invalidated data, each owner is tracked on its own
+     * @param type
+     *            written entity type
+     * @param invalidation
+     *            invalidation to run
+     */
+    public static final void invalidate(final Object owner, final Class<?> type, final Runnable invalidation) {
+        final WriteInvalidation synchronization;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronization = new WriteInvalidation(owner, type, invalidation);
+            if (!TransactionSynchronizationManager.getSynchronizations()
+                .contains(synchronization)) {
+                log.trace("Invalidating {} for {} until the transaction completes", owner, type);
+                invalidation.run();
+                TransactionSynchronizationManager.registerSynchronization(synchronization);
+            }
+        } else {
+            invalidation.run();
+        }
+    }
+
+    /**
+     * Invalidation to run.
+     */
+    private final Runnable invalidation;
+
+    /**
+     * Object which owns the invalidated data.
+     */
+    private final Object   owner;
+
+    /**
+     * Written entity type.
+     */
+    private final Class<?> type;
+
+    /**
+     * Builds an invalidation for the received owner and type.
+     *
+     * @param own
+     *            object which owns the invalidated data
+     * @param tp
+     *            written entity type
+     * @param inv
+     *            invalidation to run
+     */
+    private WriteInvalidation(@NonNull final Object own, @NonNull final Class<?> tp, @NonNull final Runnable inv) {
+        super();
+
+        owner = own;
+        type = tp;
+        invalidation = inv;
+    }
+
+    @Override
+    public final void afterCompletion(final int status) {
+        invalidation.run();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        final WriteInvalidation other;
+        final Boolean           equal;
+
+        if (this == obj) {
+            equal = true;
+        } else if (obj instanceof WriteInvalidation) {
+            other = (WriteInvalidation) obj;
+            // Owners are compared by identity, as each one holds its own data
+            equal = (owner == other.owner) && (type.equals(other.type));
+        } else {
+            equal = false;
+        }
+
+        return equal;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(System.identityHashCode(owner), type);
+    }
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Persistence events.
+ * <p>
+ * These are published when the persisted data changes, so caches derived from it can be kept up to date.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.event;
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.routing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counters to tell where the connections are routed, and how far behind the primary the replica is.
+ * <p>
+ * The lag is read from the replica with the received query, as each database reports it differently. These are
+ * exported through JMX, when it is enabled.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+@ManagedResource(objectName = "Spring_boot_web.I_dont_know:type=DataSourceRouting")
+public final class DataSourceRoutingStatistics {
+
+    /**
+     * Query returning the replica lag, in seconds. If empty the lag is unknown.
+     */
+    private final String       lagQuery;
+
+    /**
+     * Connections routed to the primary.
+     */
+    private final LongAdder    primary = new LongAdder();
+
+    /**
+     * Connections routed to the replica.
+     */
+    private final LongAdder    replica = new LongAdder();
+
+    /**
+     * Template to query the replica.
+     */
+    private final JdbcTemplate replicaTemplate;
+
+    /**
+     * Builds the counters, reading the lag with the received query.
+     *
+     * @param template
+     *            template to query the replica
+     * @param query
+     *            query returning the replica lag in seconds, or an empty string if it is unknown
+     */
+    public DataSourceRoutingStatistics(@NonNull final JdbcTemplate template, @NonNull final String query) {
+        super();
+
+        replicaTemplate = template;
+        lagQuery = query;
+    }
+
+    /**
+     * Returns the number of connections routed to the primary.
+     *
+     * @return the primary connections
+     */
+    @ManagedAttribute(description = "Connections routed to the primary")
+    public final Long getPrimaryConnections() {
+        return primary.sum();
+    }
+
+    /**
+     * Returns the number of connections routed to the replica.
+     *
+     * @return the replica connections
+     */
+    @ManagedAttribute(description = "Connections routed to the replica")
+    public final Long getReplicaConnections() {
+        return replica.sum();
+    }
+
+    /**
+     * Returns how far behind the primary the replica is. This is queried each time.
+     *
+     * @return the replica lag in seconds, or -1 if it is unknown
+     */
+    @ManagedAttribute(description = "Seconds the replica is behind the primary, -1 if unknown")
+    public final Long getReplicaLag() {
+        Long lag;
+
+        if (lagQuery.isBlank()) {
+            lag = -1L;
+        } else {
+            try {
+                lag = replicaTemplate.queryForObject(lagQuery, Long.class);
+            } catch (final DataAccessException e) {
+                log.warn("Can't read the replica lag: {}", e.getMessage());
+                lag = null;
+            }
+            if (lag == null) {
+                lag = -1L;
+            }
+        }
+
+        return lag;
+    }
+
+    /**
+     * Counts a connection routed to the data source.
+     *
+     * @param role
+     *            data source receiving the connection
+     */
+    public final void record(final DataSourceRole role) {
+        if (DataSourceRole.REPLICA.equals(role)) {
+            replica.increment();
+        } else {
+            primary.increment();
+        }
+    }
+
+}
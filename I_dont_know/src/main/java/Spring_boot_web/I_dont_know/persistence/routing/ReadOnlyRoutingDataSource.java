@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.routing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Data source which sends the connections for read-only transactions to the replica, and the rest to the primary.
+ * <p>
+ * The transaction is flagged as read-only after its connection is taken, so this should be wrapped into a lazy
+ * connection proxy, which takes the connection on the first statement.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Counters for the routed connections.
+     */
+    private final DataSourceRoutingStatistics statistics;
+
+    /**
+     * Builds a data source routing between the received ones.
+     *
+     * @param primary
+     *            primary data source
+     * @param replica
+     *            replica data source
+     * @param stats
+     *            counters for the routed connections
+     */
+    public ReadOnlyRoutingDataSource(@NonNull final DataSource primary, @NonNull final DataSource replica,
+            @NonNull final DataSourceRoutingStatistics stats) {
+        super();
+
+        final Map<Object, Object> targets;
+
+        statistics = stats;
+
+        targets = new HashMap<>();
+        targets.put(DataSourceRole.PRIMARY, primary);
+        targets.put(DataSourceRole.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        // Not a bean, so it is initialized here
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected final Object determineCurrentLookupKey() {
+        final DataSourceRole role;
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            role = DataSourceRole.REPLICA;
+        } else {
+            role = DataSourceRole.PRIMARY;
+        }
+
+        log.trace("Routing to {}", role);
+        statistics.record(role);
+
+        return role;
+    }
+
+}
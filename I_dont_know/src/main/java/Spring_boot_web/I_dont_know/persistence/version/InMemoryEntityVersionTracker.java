@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.persistence.version;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteInvalidation;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory version tracker.
+ * <p>
+ * Versions are increased whenever an entity of their type is written, as notified through {@link EntityWriteEvent}.
+ * They start at the time the tracker is built, in milliseconds, so versions from before a restart are not reused.
+ * Writes which bypass JPA, such as bulk queries, are not tracked.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class InMemoryEntityVersionTracker implements EntityVersionTracker {
+
+    /**
+     * Clock to date the writes.
+     */
+    private final Clock                         clock;
+
+    /**
+     * Version for the types not written since the tracker was built.
+     */
+    private final EntityVersion                 initial;
+
+    /**
+     * Current version for each written type.
+     */
+    private final Map<Class<?>, EntityVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public InMemoryEntityVersionTracker() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Builds a tracker with the received clock.
+     *
+     * @param clck
+     *            clock to date the writes
+     */
+    public InMemoryEntityVersionTracker(@NonNull final Clock clck) {
+        super();
+
+        final Instant now;
+
+        clock = clck;
+
+        now = clock.instant();
+        initial = new EntityVersion(now, now.toEpochMilli());
+    }
+
+    @Override
+    public final EntityVersion getVersion(final Class<?> type) {
+        return versions.getOrDefault(type, initial);
+    }
+
+    /**
+     * Increases the version for the written entity.
+     * <p>
+     * Inside a transaction the version is increased on the first write, and again once it completes, as a response read
+     * before the commit could have been tagged with the first increase. This also covers rolled back transactions.
+     *
+     * @param event
+     *            write event
+     */
+    @EventListener
+    public final void onEntityWrite(final EntityWriteEvent event) {
+        final Class<?> type;
+
+        type = event.getEntityType();
+        WriteInvalidation.invalidate(this, type, () -> increase(type));
+    }
+
+    /**
+     * Increases the version for the entity type.
+     *
+     * @param type
+     *            entity type
+     */
+    private final void increase(final Class<?> type) {
+        final EntityVersion version;
+
+        version = versions.compute(type, (t, current) -> next(Optional.ofNullable(current)
+            .orElse(initial)));
+        log.trace("Version for {} increased to {}", type, version.getVersion());
+    }
+
+    /**
+     * Returns the version following the received one, dated now.
+     *
+     * @param current
+     *            current version
+     * @return the next version
+     */
+    private final EntityVersion next(final EntityVersion current) {
+        return new EntityVersion(clock.instant(), current.getVersion() + 1);
+    }
+
+}
@@ -0,0 +1,212 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.projection.argument;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Argument resolver for sparse fieldsets.
+ * <p>
+ * The fields are received with the {@code fields} parameter, separated by commas, such as {@code fields=id,name}, and
+ * are returned in the order they were requested. Repeated fields are ignored.
+ * <p>
+ * Only the fields declared with {@link Projectable} are accepted. If the handler is not annotated, or no field is
+ * received, all the fields are read.
+ * <p>
+ * Fieldsets are resolved once per handler, and then the same {@code Fieldset} is returned for the same parameter.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class FieldsetArgumentResolver implements HandlerMethodArgumentResolver {
+
+    /**
+     * Maximum number of resolved fieldsets kept for each handler.
+     */
+    private static final int                         MAX_CACHED_FIELDSETS = 64;
+
+    /**
+     * Resolved fieldsets, for each handler, by the received {@code fields} parameter.
+     */
+    private final Map<Method, Map<String, Fieldset>> cache                = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public FieldsetArgumentResolver() {
+        super();
+    }
+
+    @Override
+    public final Fieldset resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) throws Exception {
+        final String[]    fieldTexts;
+        final Projectable projectable;
+        final String      key;
+        final Fieldset    cached;
+        final Fieldset    fieldset;
+
+        fieldTexts = webRequest.getParameterValues("fields");
+        projectable = parameter.getMethodAnnotation(Projectable.class);
+
+        if ((fieldTexts == null) || (projectable == null)) {
+            log.trace("No projection for request");
+            fieldset = Fieldset.all();
+        } else {
+            key = String.join(",", fieldTexts);
+            cached = getCached(parameter, key);
+            if (cached == null) {
+                fieldset = parseFieldset(fieldTexts, projectable);
+                putCached(parameter, key, fieldset);
+            } else {
+                fieldset = cached;
+            }
+        }
+
+        return fieldset;
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return Fieldset.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * Returns the fieldset already resolved for the handler and the {@code fields} parameter, if any.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param key
+     *            received {@code fields} parameters
+     * @return the resolved fieldset, or {@code null} if there is none
+     */
+    private final Fieldset getCached(final MethodParameter parameter, final String key) {
+        final Map<String, Fieldset> fieldsets;
+        final Fieldset              fieldset;
+
+        if (parameter.getMethod() == null) {
+            fieldset = null;
+        } else {
+            fieldsets = cache.get(parameter.getMethod());
+            if (fieldsets == null) {
+                fieldset = null;
+            } else {
+                fieldset = fieldsets.get(key);
+            }
+        }
+
+        return fieldset;
+    }
+
+    /**
+     * Transforms the request parameters into a fieldset, validating the fields.
+     *
+     * @param fieldTexts
+     *            received {@code fields} parameters
+     * @param projectable
+     *            projectable fields
+     * @return the fieldset for the request
+     * @throws ServletRequestBindingException
+     *             if any field is not projectable
+     */
+    private final Fieldset parseFieldset(final String[] fieldTexts, final Projectable projectable)
+            throws ServletRequestBindingException {
+        final Set<String>  fields;
+        final List<String> projectableFields;
+        final Fieldset     fieldset;
+
+        projectableFields = Arrays.asList(projectable.value());
+
+        fields = new LinkedHashSet<>();
+        for (final String fieldText : fieldTexts) {
+            for (final String part : fieldText.split(",")) {
+                final String field;
+
+                field = part.trim();
+                if (field.isEmpty()) {
+                    log.trace("Ignoring empty field in {}", fieldText);
+                } else if (projectableFields.contains(field)) {
+                    fields.add(field);
+                } else {
+                    log.debug("Rejected projecting {}, not in {}", field, projectableFields);
+                    throw new ServletRequestBindingException(
+                        String.format("Can't project %s, projectable fields are %s", field, projectableFields));
+                }
+            }
+        }
+
+        if (fields.isEmpty()) {
+            log.trace("No fields received, reading all of them");
+            fieldset = Fieldset.all();
+        } else {
+            log.trace("Projecting {}", fields);
+            fieldset = Fieldset.of(new ArrayList<>(fields));
+        }
+
+        return fieldset;
+    }
+
+    /**
+     * Keeps the fieldset resolved for the handler and the {@code fields} parameter, only up to a maximum for each
+     * handler, as the parameters come from the requests.
+     *
+     * @param parameter
+     *            handler parameter
+     * @param key
+     *            received {@code fields} parameters
+     * @param fieldset
+     *            resolved fieldset
+     */
+    private final void putCached(final MethodParameter parameter, final String key, final Fieldset fieldset) {
+        final Map<String, Fieldset> fieldsets;
+
+        if (parameter.getMethod() != null) {
+            fieldsets = cache.computeIfAbsent(parameter.getMethod(), m -> new ConcurrentHashMap<>());
+            if (fieldsets.size() < MAX_CACHED_FIELDSETS) {
+                fieldsets.putIfAbsent(key, fieldset);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.projection.model;
+
+import java.util.List;
+
+/**
+ * Fields requested by the client, also known as sparse fieldset.
+ * <p>
+ * Includes a flag to mark if this request is actually projected, to ease reading all the fields.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface Fieldset {
+
+    /**
+     * Creates a {@code Fieldset} which reads all the fields.
+     *
+     * @return a {@code Fieldset} for all the fields
+     */
+    public static Fieldset all() {
+        return AllFieldset.INSTANCE;
+    }
+
+    /**
+     * Creates a {@code Fieldset} for the received fields.
+     *
+     * @param fields
+     *            fields to read, in the order they are returned
+     * @return a {@code Fieldset} for the arguments
+     */
+    public static Fieldset of(final List<String> fields) {
+        return new ImmutableFieldset(fields);
+    }
+
+    /**
+     * Fields to read, in the order they are returned. Empty when reading all the fields.
+     *
+     * @return the fields to read
+     */
+    public List<String> getFields();
+
+    /**
+     * Flags if only the requested fields are read. Otherwise all of them are read.
+     *
+     * @return {@code true} if only the requested fields are read, {@code false} otherwise
+     */
+    public Boolean getProjected();
+
+}
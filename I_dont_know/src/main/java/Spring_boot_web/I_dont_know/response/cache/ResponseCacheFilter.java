@@ -0,0 +1,214 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.NonNull;
+
+/**
+ * Caches the responses marked by the {@link ResponseCacheInterceptor}, as they are written.
+ * <p>
+ * The response is written as usual, while a copy of the body is kept. Only successful responses are cached, and
+ * asynchronous requests, such as streamed responses, are never cached.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ResponseCacheFilter extends OncePerRequestFilter {
+
+    /**
+     * Response wrapper which copies the body written into its output stream, if the request is marked for caching.
+     */
+    private static final class CopyingResponse extends HttpServletResponseWrapper {
+
+        /**
+         * Copy of the body.
+         */
+        private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        /**
+         * Copying output stream.
+         */
+        private ServletOutputStream         output;
+
+        /**
+         * Request being answered.
+         */
+        private final HttpServletRequest    request;
+
+        /**
+         * Writer over the output stream.
+         */
+        private PrintWriter                 writer;
+
+        /**
+         * Wraps the response.
+         *
+         * @param req
+         *            request being answered
+         * @param response
+         *            response to wrap
+         */
+        public CopyingResponse(final HttpServletRequest req, final HttpServletResponse response) {
+            super(response);
+
+            request = req;
+        }
+
+        @Override
+        public final ServletOutputStream getOutputStream() throws IOException {
+            final ServletOutputStream delegate;
+
+            if (output == null) {
+                delegate = super.getOutputStream();
+                output = new ServletOutputStream() {
+
+                    @Override
+                    public final void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public final boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public final void setWriteListener(final WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+
+                    @Override
+                    public final void write(final byte[] b, final int off, final int len) throws IOException {
+                        delegate.write(b, off, len);
+                        if (isCopying()) {
+                            copy.write(b, off, len);
+                        }
+                    }
+
+                    @Override
+                    public final void write(final int b) throws IOException {
+                        delegate.write(b);
+                        if (isCopying()) {
+                            copy.write(b);
+                        }
+                    }
+
+                };
+            }
+
+            return output;
+        }
+
+        @Override
+        public final PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+
+            return writer;
+        }
+
+        /**
+         * Returns the copy of the body, after flushing the writer.
+         *
+         * @return the copy of the body
+         */
+        public final byte[] getCopy() {
+            if (writer != null) {
+                writer.flush();
+            }
+
+            return copy.toByteArray();
+        }
+
+        /**
+         * Checks if the body is being copied, which only happens for the requests marked for caching.
+         *
+         * @return {@code true} if the body is being copied, {@code false} otherwise
+         */
+        private final boolean isCopying() {
+            return request.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE) != null;
+        }
+
+    }
+
+    /**
+     * Cache for the serialized responses.
+     */
+    private final SerializedResponseCache cache;
+
+    /**
+     * Builds a filter caching into the received cache.
+     *
+     * @param responseCache
+     *            cache for the serialized responses
+     */
+    public ResponseCacheFilter(@NonNull final SerializedResponseCache responseCache) {
+        super();
+
+        cache = responseCache;
+    }
+
+    @Override
+    protected final void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final CopyingResponse copying;
+        final Object          key;
+        final byte[]          body;
+        final String          cacheControl;
+
+        copying = new CopyingResponse(request, response);
+
+        filterChain.doFilter(request, copying);
+
+        key = request.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE);
+        if ((key instanceof ResponseKey) && (!request.isAsyncStarted())
+                && (response.getStatus() == HttpStatus.OK.value()) && (response.getContentType() != null)) {
+            body = copying.getCopy();
+            cacheControl = Optional.ofNullable(response.getHeader(HttpHeaders.CACHE_CONTROL))
+                .orElse("");
+            cache.put((ResponseKey) key, new SerializedResponse(body, cacheControl, response.getContentType()));
+        }
+    }
+
+}
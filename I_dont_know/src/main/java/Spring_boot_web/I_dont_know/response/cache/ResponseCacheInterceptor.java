@@ -0,0 +1,223 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.cache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersionTracker;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers the requests to the endpoints annotated with {@link CachedResponse} from the {@link SerializedResponseCache},
+ * before they reach the handler.
+ * <p>
+ * The cache key is built from the query argument of the handler, resolved with the query resolver, the requested
+ * fields, and the current version of the entity type. The query resolver keeps the query in the request, so the
+ * handler receives the same query the key was built from, without parsing the parameters again. On a hit the cached
+ * bytes are written directly, without touching the entities or Jackson. On a miss the key is stored as a request
+ * attribute, so the {@link ResponseCacheFilter} caches the response once it is written.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    /**
+     * Request attribute with the key to cache the response with.
+     */
+    public static final String                           KEY_ATTRIBUTE   = ResponseCacheInterceptor.class.getName()
+            + ".key";
+
+    /**
+     * Cache for the serialized responses.
+     */
+    private final SerializedResponseCache                cache;
+
+    /**
+     * Query argument for each cached handler method. Handlers which are not cached, or have no query argument, get
+     * nothing.
+     */
+    private final Map<Method, Optional<MethodParameter>> queryParameters = new ConcurrentHashMap<>();
+
+    /**
+     * Resolver for the query argument.
+     */
+    private final HandlerMethodArgumentResolver          queryResolver;
+
+    /**
+     * Tracker for the entity versions.
+     */
+    private final EntityVersionTracker                   versionTracker;
+
+    /**
+     * Builds an interceptor answering from the received cache.
+     *
+     * @param responseCache
+     *            cache for the serialized responses
+     * @param resolver
+     *            resolver for the query argument
+     * @param tracker
+     *            tracker for the entity versions
+     */
+    public ResponseCacheInterceptor(@NonNull final SerializedResponseCache responseCache,
+            @NonNull final HandlerMethodArgumentResolver resolver, @NonNull final EntityVersionTracker tracker) {
+        super();
+
+        cache = responseCache;
+        queryResolver = resolver;
+        versionTracker = tracker;
+    }
+
+    @Override
+    public final boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+            final Object handler) throws Exception {
+        final HandlerMethod                handlerMethod;
+        final Optional<MethodParameter>    queryParameter;
+        final Class<?>                     type;
+        final Object                       query;
+        final Long                         version;
+        final ResponseKey                  key;
+        final Optional<SerializedResponse> cached;
+        final boolean                      proceed;
+
+        if ((handler instanceof HandlerMethod) && (HttpMethod.GET.matches(request.getMethod()))) {
+            handlerMethod = (HandlerMethod) handler;
+            queryParameter = queryParameters.computeIfAbsent(handlerMethod.getMethod(),
+                m -> getQueryParameter(handlerMethod));
+            if (queryParameter.isPresent()) {
+                type = handlerMethod.getMethodAnnotation(CachedResponse.class)
+                    .value();
+                query = queryResolver.resolveArgument(queryParameter.get(), null,
+                    new ServletWebRequest(request, response), null);
+                version = versionTracker.getVersion(type)
+                    .getVersion();
+                key = new ResponseKey(getAccept(request), getFields(request), query, type, version);
+                cached = cache.get(key);
+                if (cached.isPresent()) {
+                    log.trace("Answering {} from the cache", key);
+                    write(response, cached.get());
+                    proceed = false;
+                } else {
+                    request.setAttribute(KEY_ATTRIBUTE, key);
+                    proceed = true;
+                }
+            } else {
+                proceed = true;
+            }
+        } else {
+            proceed = true;
+        }
+
+        return proceed;
+    }
+
+    /**
+     * Returns the accepted media types.
+     *
+     * @param request
+     *            request to read
+     * @return the accepted media types, or an empty string if the request doesn't tell
+     */
+    private final String getAccept(final HttpServletRequest request) {
+        return Optional.ofNullable(request.getHeader(HttpHeaders.ACCEPT))
+            .orElse("");
+    }
+
+    /**
+     * Returns the requested fields, as these are not part of the query.
+     *
+     * @param request
+     *            request to read
+     * @return the requested fields, or an empty string if the request doesn't tell
+     */
+    private final String getFields(final HttpServletRequest request) {
+        return Optional.ofNullable(request.getParameterValues("fields"))
+            .map(f -> String.join("&", f))
+            .orElse("");
+    }
+
+    /**
+     * Returns the query argument for the handler, if it is cached.
+     *
+     * @param handlerMethod
+     *            handler to check
+     * @return the query argument, or nothing if the handler is not cached or has no query argument
+     */
+    private final Optional<MethodParameter> getQueryParameter(final HandlerMethod handlerMethod) {
+        final Optional<MethodParameter> parameter;
+
+        if (handlerMethod.hasMethodAnnotation(CachedResponse.class)) {
+            parameter = Arrays.stream(handlerMethod.getMethodParameters())
+                .filter(queryResolver::supportsParameter)
+                .findFirst();
+        } else {
+            parameter = Optional.empty();
+        }
+
+        return parameter;
+    }
+
+    /**
+     * Writes the cached response.
+     *
+     * @param response
+     *            response to write into
+     * @param cached
+     *            cached response
+     * @throws Exception
+     *             if the response can't be written
+     */
+    private final void write(final HttpServletResponse response, final SerializedResponse cached) throws Exception {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.getContentType());
+        if (!cached.getCacheControl()
+            .isEmpty()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cached.getCacheControl());
+        }
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream()
+            .write(cached.getBody());
+    }
+
+}
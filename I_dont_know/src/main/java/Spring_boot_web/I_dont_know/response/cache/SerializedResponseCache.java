@@ -0,0 +1,247 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteInvalidation;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache for serialized responses, bounded by the total size of the cached bodies.
+ * <p>
+ * Once the bodies take more than the maximum size, the least recently used ones are removed. Responses are discarded
+ * whenever an entity of their type is written, as notified through {@link EntityWriteEvent}. As a safety net for writes
+ * which bypass JPA, such as bulk queries, each response also expires after a time to live.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class SerializedResponseCache {
+
+    /**
+     * Cached response.
+     */
+    @Data
+    private static final class CachedEntry {
+
+        /**
+         * Expiration time, in milliseconds.
+         */
+        @NonNull
+        private final Long               expiresAt;
+
+        /**
+         * Serialized response.
+         */
+        @NonNull
+        private final SerializedResponse response;
+
+    }
+
+    /**
+     * Size of the cached bodies.
+     */
+    private long                                bytes   = 0;
+
+    /**
+     * Clock to check the expiration times.
+     */
+    private final Clock                         clock;
+
+    /**
+     * Cached responses, in access order.
+     */
+    private final Map<ResponseKey, CachedEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Maximum size for the cached bodies.
+     */
+    private final Long                          maxBytes;
+
+    /**
+     * Time to live for the cached responses.
+     */
+    private final Duration                      ttl;
+
+    /**
+     * Builds a cache with the received limits.
+     *
+     * @param bytesLimit
+     *            maximum size for the cached bodies
+     * @param timeToLive
+     *            time to live for the cached responses
+     */
+    public SerializedResponseCache(@NonNull final Long bytesLimit, @NonNull final Duration timeToLive) {
+        this(bytesLimit, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * Builds a cache with the received limits and clock.
+     *
+     * @param bytesLimit
+     *            maximum size for the cached bodies
+     * @param timeToLive
+     *            time to live for the cached responses
+     * @param clck
+     *            clock to check the expiration times
+     */
+    public SerializedResponseCache(@NonNull final Long bytesLimit, @NonNull final Duration timeToLive,
+            @NonNull final Clock clck) {
+        super();
+
+        maxBytes = bytesLimit;
+        ttl = timeToLive;
+        clock = clck;
+    }
+
+    /**
+     * Returns the response cached for the key.
+     *
+     * @param key
+     *            cache key
+     * @return the cached response, or nothing if it is not cached
+     */
+    public final synchronized Optional<SerializedResponse> get(final ResponseKey key) {
+        final CachedEntry                  entry;
+        final Optional<SerializedResponse> result;
+
+        entry = entries.get(key);
+        if (entry == null) {
+            result = Optional.empty();
+        } else if (entry.getExpiresAt() <= clock.millis()) {
+            log.trace("Response expired for {}", key);
+            remove(key);
+            result = Optional.empty();
+        } else {
+            result = Optional.of(entry.getResponse());
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards all the responses for the entity type.
+     *
+     * @param type
+     *            entity type
+     */
+    public final synchronized void invalidate(final Class<?> type) {
+        final Iterator<Map.Entry<ResponseKey, CachedEntry>> itr;
+
+        log.trace("Invalidating responses for {}", type);
+        itr = entries.entrySet()
+            .iterator();
+        while (itr.hasNext()) {
+            final Map.Entry<ResponseKey, CachedEntry> entry;
+
+            entry = itr.next();
+            if (entry.getKey()
+                .getType()
+                .equals(type)) {
+                bytes -= entry.getValue()
+                    .getResponse()
+                    .getBody().length;
+                itr.remove();
+            }
+        }
+    }
+
+    /**
+     * Discards the responses for the written entity.
+     * <p>
+     * Inside a transaction the responses are discarded on the first write, and again once it completes, as a response
+     * read before the commit could have been cached. This also covers rolled back transactions.
+     *
+     * @param event
+     *            write event
+     */
+    @EventListener
+    public final void onEntityWrite(final EntityWriteEvent event) {
+        final Class<?> type;
+
+        type = event.getEntityType();
+        WriteInvalidation.invalidate(this, type, () -> invalidate(type));
+    }
+
+    /**
+     * Caches the response. Bodies bigger than the maximum size are ignored.
+     *
+     * @param key
+     *            cache key
+     * @param response
+     *            response to cache
+     */
+    public final synchronized void put(final ResponseKey key, final SerializedResponse response) {
+        final Iterator<CachedEntry> eldest;
+
+        if (response.getBody().length <= maxBytes) {
+            remove(key);
+            entries.put(key, new CachedEntry(clock.millis() + ttl.toMillis(), response));
+            bytes += response.getBody().length;
+
+            // Removes the least recently used responses
+            eldest = entries.values()
+                .iterator();
+            while (bytes > maxBytes) {
+                bytes -= eldest.next()
+                    .getResponse()
+                    .getBody().length;
+                eldest.remove();
+            }
+        } else {
+            log.trace("Response for {} is too big to cache", key);
+        }
+    }
+
+    /**
+     * Removes the response cached for the key.
+     *
+     * @param key
+     *            cache key
+     */
+    private final void remove(final ResponseKey key) {
+        final CachedEntry removed;
+
+        removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.getResponse()
+                .getBody().length;
+        }
+    }
+
+}
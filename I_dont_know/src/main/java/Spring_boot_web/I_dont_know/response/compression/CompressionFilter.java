@@ -0,0 +1,417 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compresses the JSON responses, with the encoding negotiated through the {@code Accept-Encoding} header.
+ * <p>
+ * The response is buffered, and only compressed if it reaches the minimum size. The compressed bytes for GET requests
+ * are kept in a {@link PrecompressedCache}, keyed by the request URL, so the hottest pages are not compressed again
+ * while they don't change.
+ * <p>
+ * Asynchronous requests, such as streamed responses, are not compressed. Anything buffered before the request turns
+ * asynchronous is written as it is, and then the response is written directly.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class CompressionFilter extends OncePerRequestFilter {
+
+    /**
+     * Buffer giving access to its contents without copying them.
+     */
+    private static final class BodyBuffer extends ByteArrayOutputStream {
+
+        /**
+         * Default constructor.
+         */
+        public BodyBuffer() {
+            super(1024);
+        }
+
+        /**
+         * Returns the internal buffer. Only the bytes up to {@link #size()} are part of the body.
+         *
+         * @return the internal buffer
+         */
+        public final byte[] getBuffer() {
+            return buf;
+        }
+
+    }
+
+    /**
+     * Response wrapper which buffers the body, until it is told to write directly into the response.
+     */
+    private static final class CompressingResponse extends HttpServletResponseWrapper {
+
+        /**
+         * Buffered body.
+         */
+        private final BodyBuffer    body        = new BodyBuffer();
+
+        /**
+         * Buffering output stream.
+         */
+        private ServletOutputStream output;
+
+        /**
+         * Flags the body is written directly into the response.
+         */
+        private boolean             passThrough = false;
+
+        /**
+         * Writer over the output stream.
+         */
+        private PrintWriter         writer;
+
+        /**
+         * Wraps the response.
+         *
+         * @param response
+         *            response to wrap
+         */
+        public CompressingResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public final void flushBuffer() throws IOException {
+            if (isPassThrough()) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public final ServletOutputStream getOutputStream() throws IOException {
+            final ServletOutputStream delegate;
+
+            if (output == null) {
+                delegate = super.getOutputStream();
+                output = new ServletOutputStream() {
+
+                    @Override
+                    public final void flush() throws IOException {
+                        if (isPassThrough()) {
+                            delegate.flush();
+                        }
+                    }
+
+                    @Override
+                    public final boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public final void setWriteListener(final WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+
+                    @Override
+                    public final void write(final byte[] b, final int off, final int len) throws IOException {
+                        synchronized (CompressingResponse.this) {
+                            if (passThrough) {
+                                delegate.write(b, off, len);
+                            } else {
+                                body.write(b, off, len);
+                            }
+                        }
+                    }
+
+                    @Override
+                    public final void write(final int b) throws IOException {
+                        synchronized (CompressingResponse.this) {
+                            if (passThrough) {
+                                delegate.write(b);
+                            } else {
+                                body.write(b);
+                            }
+                        }
+                    }
+
+                };
+            }
+
+            return output;
+        }
+
+        @Override
+        public final PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+
+            return writer;
+        }
+
+        @Override
+        public final synchronized void reset() {
+            super.reset();
+            body.reset();
+        }
+
+        @Override
+        public final synchronized void resetBuffer() {
+            super.resetBuffer();
+            body.reset();
+        }
+
+        @Override
+        public final void setContentLength(final int len) {
+            // The length is known after compressing
+            if (isPassThrough()) {
+                super.setContentLength(len);
+            }
+        }
+
+        @Override
+        public final void setContentLengthLong(final long len) {
+            // The length is known after compressing
+            if (isPassThrough()) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        /**
+         * Returns the buffered body, after flushing the writer.
+         *
+         * @return the buffered body
+         */
+        public final BodyBuffer getBody() {
+            if (writer != null) {
+                writer.flush();
+            }
+
+            return body;
+        }
+
+        /**
+         * Writes the buffered body into the response, and from then on writes directly into it.
+         *
+         * @throws IOException
+         *             if the buffered body can't be written
+         */
+        public final synchronized void passThrough() throws IOException {
+            passThrough = true;
+            if (body.size() > 0) {
+                body.writeTo(super.getOutputStream());
+                body.reset();
+            }
+        }
+
+        /**
+         * Checks if the body is written directly into the response.
+         *
+         * @return {@code true} if the body is written directly, {@code false} if it is buffered
+         */
+        private final synchronized boolean isPassThrough() {
+            return passThrough;
+        }
+
+    }
+
+    /**
+     * Cache for the compressed bodies.
+     */
+    private final PrecompressedCache    cache;
+
+    /**
+     * Smaller bodies are not compressed.
+     */
+    private final Integer               minSize;
+
+    /**
+     * Statistics to record the compressions into.
+     */
+    private final CompressionStatistics statistics;
+
+    /**
+     * Builds a filter compressing bodies from the minimum size.
+     *
+     * @param minimum
+     *            smaller bodies are not compressed
+     * @param precompressed
+     *            cache for the compressed bodies
+     * @param stats
+     *            statistics to record the compressions into
+     */
+    public CompressionFilter(@NonNull final Integer minimum, @NonNull final PrecompressedCache precompressed,
+            @NonNull final CompressionStatistics stats) {
+        super();
+
+        minSize = minimum;
+        cache = precompressed;
+        statistics = stats;
+    }
+
+    @Override
+    protected final void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final Optional<ContentEncoding> encoding;
+        final CompressingResponse       compressing;
+
+        encoding = ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding.isPresent()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            compressing = new CompressingResponse(response);
+
+            filterChain.doFilter(request, compressing);
+
+            if (request.isAsyncStarted()) {
+                compressing.passThrough();
+            } else {
+                write(request, response, compressing.getBody(), encoding.get());
+            }
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Compresses the body, or takes it from the cache if it was already compressed.
+     *
+     * @param request
+     *            request being answered
+     * @param body
+     *            body to compress
+     * @param encoding
+     *            encoding to apply
+     * @return the compressed body
+     * @throws IOException
+     *             if the body can't be compressed
+     */
+    private final byte[] compress(final HttpServletRequest request, final BodyBuffer body,
+            final ContentEncoding encoding) throws IOException {
+        final boolean          cacheable;
+        final String           key;
+        final Optional<byte[]> cached;
+        final long             start;
+        final byte[]           compressed;
+
+        cacheable = HttpMethod.GET.matches(request.getMethod());
+        key = encoding.getName() + " " + request.getRequestURI() + "?" + request.getQueryString();
+        if (cacheable) {
+            cached = cache.get(key, body.getBuffer(), body.size());
+        } else {
+            cached = Optional.empty();
+        }
+
+        if (cached.isPresent()) {
+            compressed = cached.get();
+            statistics.cached(body.size(), compressed.length);
+        } else {
+            start = System.nanoTime();
+            compressed = encoding.compress(body.getBuffer(), 0, body.size());
+            statistics.compressed(body.size(), compressed.length, System.nanoTime() - start);
+            if (cacheable) {
+                cache.put(key, Arrays.copyOf(body.getBuffer(), body.size()), compressed);
+            }
+        }
+
+        return compressed;
+    }
+
+    /**
+     * Checks if the response should be compressed. Only JSON bodies over the minimum size, which are not already
+     * encoded, are compressed.
+     *
+     * @param response
+     *            response to check
+     * @param body
+     *            response body
+     * @return {@code true} if the response should be compressed, {@code false} otherwise
+     */
+    private final boolean isCompressible(final HttpServletResponse response, final BodyBuffer body) {
+        final String  contentType;
+        final boolean json;
+
+        contentType = response.getContentType();
+        if (contentType == null) {
+            json = false;
+        } else {
+            json = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.APPLICATION_JSON)
+                    || contentType.contains("+json");
+        }
+
+        return json && (body.size() >= minSize) && (!response.containsHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    /**
+     * Writes the body into the response, compressing it if needed.
+     *
+     * @param request
+     *            request being answered
+     * @param response
+     *            response to write into
+     * @param body
+     *            buffered body
+     * @param encoding
+     *            encoding to apply
+     * @throws IOException
+     *             if the body can't be written
+     */
+    private final void write(final HttpServletRequest request, final HttpServletResponse response,
+            final BodyBuffer body, final ContentEncoding encoding) throws IOException {
+        final byte[] compressed;
+
+        if (isCompressible(response, body)) {
+            compressed = compress(request, body, encoding);
+            log.trace("Compressed {} bytes into {} with {}", body.size(), compressed.length, encoding.getName());
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getName());
+            response.setContentLength(compressed.length);
+            response.getOutputStream()
+                .write(compressed);
+        } else if (body.size() > 0) {
+            response.setContentLength(body.size());
+            body.writeTo(response.getOutputStream());
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+/**
+ * Counters to tell how much the responses are compressed, and how long it takes.
+ * <p>
+ * These are exported through JMX, when it is enabled.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@ManagedResource(objectName = "Spring_boot_web.I_dont_know:type=Compression")
+public final class CompressionStatistics {
+
+    /**
+     * Compressed responses taken from the cache.
+     */
+    private final LongAdder cacheHits       = new LongAdder();
+
+    /**
+     * Bytes after compressing.
+     */
+    private final LongAdder compressedBytes = new LongAdder();
+
+    /**
+     * Time spent compressing, in nanoseconds.
+     */
+    private final LongAdder compressionTime = new LongAdder();
+
+    /**
+     * Responses actually compressed.
+     */
+    private final LongAdder compressions    = new LongAdder();
+
+    /**
+     * Bytes before compressing.
+     */
+    private final LongAdder originalBytes   = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    public CompressionStatistics() {
+        super();
+    }
+
+    /**
+     * Records a compressed response taken from the cache.
+     *
+     * @param original
+     *            bytes before compressing
+     * @param compressed
+     *            bytes after compressing
+     */
+    public final void cached(final long original, final long compressed) {
+        cacheHits.increment();
+        originalBytes.add(original);
+        compressedBytes.add(compressed);
+    }
+
+    /**
+     * Records a compressed response.
+     *
+     * @param original
+     *            bytes before compressing
+     * @param compressed
+     *            bytes after compressing
+     * @param nanos
+     *            time spent compressing, in nanoseconds
+     */
+    public final void compressed(final long original, final long compressed, final long nanos) {
+        compressions.increment();
+        originalBytes.add(original);
+        compressedBytes.add(compressed);
+        compressionTime.add(nanos);
+    }
+
+    /**
+     * Returns the average time spent compressing each response, excluding those taken from the cache. Compressing is
+     * bound by the CPU, so this is close to the CPU time.
+     *
+     * @return the average compression time in microseconds, or zero if no response has been compressed
+     */
+    @ManagedAttribute(description = "Average time spent compressing a response, in microseconds")
+    public final Double getAverageCompressionTime() {
+        final Long   count;
+        final Double average;
+
+        count = getCompressions();
+        if (count == 0) {
+            average = 0d;
+        } else {
+            average = compressionTime.sum() / (count * 1000d);
+        }
+
+        return average;
+    }
+
+    /**
+     * Returns the number of compressed responses taken from the cache.
+     *
+     * @return the number of cache hits
+     */
+    @ManagedAttribute(description = "Compressed responses taken from the cache")
+    public final Long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the ratio between the original and the compressed sizes.
+     *
+     * @return the compression ratio, or zero if no response has been compressed
+     */
+    @ManagedAttribute(description = "Ratio between the original and the compressed sizes")
+    public final Double getCompressionRatio() {
+        final Long   compressed;
+        final Double ratio;
+
+        compressed = compressedBytes.sum();
+        if (compressed == 0) {
+            ratio = 0d;
+        } else {
+            ratio = originalBytes.sum() / compressed.doubleValue();
+        }
+
+        return ratio;
+    }
+
+    /**
+     * Returns the number of responses actually compressed.
+     *
+     * @return the number of compressions
+     */
+    @ManagedAttribute(description = "Responses actually compressed")
+    public final Long getCompressions() {
+        return compressions.sum();
+    }
+
+}
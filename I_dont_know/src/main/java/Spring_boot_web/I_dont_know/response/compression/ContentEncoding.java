@@ -0,0 +1,188 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content encodings supported for the responses.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public enum ContentEncoding {
+
+    /**
+     * Deflate encoding, which is the zlib format.
+     */
+    DEFLATE("deflate"),
+    /**
+     * Gzip encoding.
+     */
+    GZIP("gzip");
+
+    /**
+     * Encoding name, as used in the HTTP headers.
+     */
+    private final String name;
+
+    /**
+     * Builds an encoding with the received name.
+     *
+     * @param encodingName
+     *            encoding name
+     */
+    private ContentEncoding(final String encodingName) {
+        name = encodingName;
+    }
+
+    /**
+     * Returns the preferred encoding among those accepted by the client, according to the {@code Accept-Encoding}
+     * header. Gzip is preferred over deflate, and encodings with a zero quality are not accepted.
+     *
+     * @param acceptEncoding
+     *            {@code Accept-Encoding} header, may be {@code null}
+     * @return the preferred encoding, or nothing if no supported encoding is accepted
+     */
+    public static final Optional<ContentEncoding> negotiate(final String acceptEncoding) {
+        final Optional<ContentEncoding> encoding;
+        boolean                         gzip;
+        boolean                         deflate;
+
+        gzip = false;
+        deflate = false;
+        if (acceptEncoding != null) {
+            for (final String token : acceptEncoding.split(",")) {
+                final String[] parts;
+                final String   name;
+
+                parts = token.split(";");
+                name = parts[0].trim();
+                if (isAccepted(parts)) {
+                    gzip = gzip || GZIP.name.equalsIgnoreCase(name) || "*".equals(name);
+                    deflate = deflate || DEFLATE.name.equalsIgnoreCase(name);
+                }
+            }
+        }
+
+        if (gzip) {
+            encoding = Optional.of(GZIP);
+        } else if (deflate) {
+            encoding = Optional.of(DEFLATE);
+        } else {
+            encoding = Optional.empty();
+        }
+
+        return encoding;
+    }
+
+    /**
+     * Compresses the data.
+     *
+     * @param data
+     *            data to compress
+     * @param offset
+     *            start of the data to compress
+     * @param length
+     *            length of the data to compress
+     * @return the compressed data
+     * @throws IOException
+     *             if the data can't be compressed
+     */
+    public final byte[] compress(final byte[] data, final int offset, final int length) throws IOException {
+        final ByteArrayOutputStream compressed;
+
+        // Typical JSON compresses at least four times
+        compressed = new ByteArrayOutputStream(Math.max(length / 4, 64));
+        try (OutputStream output = wrap(compressed)) {
+            output.write(data, offset, length);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Returns the encoding name, as used in the HTTP headers.
+     *
+     * @return the encoding name
+     */
+    public final String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if the encoding is accepted, which is the case unless its quality is zero.
+     *
+     * @param parts
+     *            encoding name followed by its parameters
+     * @return {@code true} if the encoding is accepted, {@code false} otherwise
+     */
+    private static final boolean isAccepted(final String[] parts) {
+        boolean accepted;
+
+        accepted = true;
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter;
+
+            parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    accepted = Double.parseDouble(parameter.substring(2)) > 0;
+                } catch (final NumberFormatException e) {
+                    accepted = false;
+                }
+            }
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Wraps the stream into a compressing stream for this encoding.
+     *
+     * @param output
+     *            stream to wrap
+     * @return the compressing stream
+     * @throws IOException
+     *             if the stream can't be wrapped
+     */
+    private final OutputStream wrap(final OutputStream output) throws IOException {
+        final OutputStream wrapped;
+
+        if (GZIP.equals(this)) {
+            wrapped = new GZIPOutputStream(output);
+        } else {
+            wrapped = new DeflaterOutputStream(output);
+        }
+
+        return wrapped;
+    }
+
+}
@@ -0,0 +1,190 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.compression;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the compressed bytes for the most recently served responses, so identical bodies are not compressed again.
+ * <p>
+ * Each entry stores the original body too, and is only returned if the new body is identical. This way the cache
+ * never needs to be invalidated, as changed data just misses it. The least recently used entries are removed once
+ * there are too many, or they take too much memory.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class PrecompressedCache {
+
+    /**
+     * Cached response.
+     */
+    @Data
+    private static final class CachedBody {
+
+        /**
+         * Compressed body.
+         */
+        @NonNull
+        private final byte[] compressed;
+
+        /**
+         * Original body.
+         */
+        @NonNull
+        private final byte[] original;
+
+        /**
+         * Returns the memory taken by the entry.
+         *
+         * @return the bytes taken by the entry
+         */
+        public final long getBytes() {
+            return (long) compressed.length + original.length;
+        }
+
+    }
+
+    /**
+     * Memory taken by the cached bodies.
+     */
+    private long                          bytes   = 0;
+
+    /**
+     * Cached bodies, in access order.
+     */
+    private final Map<String, CachedBody> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Maximum memory to take, in bytes.
+     */
+    private final Long                    maxBytes;
+
+    /**
+     * Maximum number of cached bodies.
+     */
+    private final Integer                 maxEntries;
+
+    /**
+     * Builds a cache with the received limits.
+     *
+     * @param entriesLimit
+     *            maximum number of cached bodies
+     * @param bytesLimit
+     *            maximum memory to take, in bytes
+     */
+    public PrecompressedCache(@NonNull final Integer entriesLimit, @NonNull final Long bytesLimit) {
+        super();
+
+        maxEntries = entriesLimit;
+        maxBytes = bytesLimit;
+    }
+
+    /**
+     * Returns the compressed body cached for the key, if it was compressed from the same body.
+     *
+     * @param key
+     *            cache key
+     * @param body
+     *            buffer with the body to compress
+     * @param length
+     *            length of the body in the buffer
+     * @return the compressed body, or nothing if it is not cached
+     */
+    public final synchronized Optional<byte[]> get(final String key, final byte[] body, final int length) {
+        final CachedBody       cached;
+        final Optional<byte[]> result;
+
+        cached = entries.get(key);
+        if ((cached != null) && (isSame(cached.getOriginal(), body, length))) {
+            result = Optional.of(cached.getCompressed());
+        } else {
+            result = Optional.empty();
+        }
+
+        return result;
+    }
+
+    /**
+     * Caches the compressed body. Bodies taking more than the maximum memory are ignored.
+     *
+     * @param key
+     *            cache key
+     * @param original
+     *            original body
+     * @param compressed
+     *            compressed body
+     */
+    public final synchronized void put(final String key, final byte[] original, final byte[] compressed) {
+        final CachedBody           cached;
+        final CachedBody           replaced;
+        final Iterator<CachedBody> eldest;
+
+        cached = new CachedBody(compressed, original);
+        if (cached.getBytes() <= maxBytes) {
+            replaced = entries.put(key, cached);
+            bytes += cached.getBytes();
+            if (replaced != null) {
+                bytes -= replaced.getBytes();
+            }
+
+            // Removes the least recently used bodies
+            eldest = entries.values()
+                .iterator();
+            while ((entries.size() > maxEntries) || (bytes > maxBytes)) {
+                bytes -= eldest.next()
+                    .getBytes();
+                eldest.remove();
+            }
+        } else {
+            log.trace("Body for {} is too big to cache", key);
+        }
+    }
+
+    /**
+     * Checks if the cached body is the same as the body in the buffer.
+     *
+     * @param cached
+     *            cached body
+     * @param body
+     *            buffer with the body
+     * @param length
+     *            length of the body in the buffer
+     * @return {@code true} if both bodies are the same, {@code false} otherwise
+     */
+    private final boolean isSame(final byte[] cached, final byte[] body, final int length) {
+        return Arrays.equals(cached, 0, cached.length, body, 0, length);
+    }
+
+}
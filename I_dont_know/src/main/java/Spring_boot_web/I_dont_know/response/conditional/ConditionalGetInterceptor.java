@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.conditional;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersion;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersionTracker;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers conditional requests to the endpoints annotated with {@link Versioned}, before they reach the handler.
+ * <p>
+ * The weak {@code ETag} and the {@code Last-Modified} value are taken from the version of the entity type read by the
+ * endpoint. If the request matches them, it is answered with {@code 304 Not Modified}, so neither the database nor the
+ * serialization are touched.
+ * <p>
+ * The same version is shared by all the formats the endpoint can write, such as JSON, Smile and CBOR, so the response
+ * varies on {@code Accept}. Otherwise a cache could answer a request for one format with the body stored for another.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Slf4j
+public final class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /**
+     * Entity type for each handler method. Handlers which are not versioned get {@code Void}.
+     */
+    private final Map<Method, Class<?>> types = new ConcurrentHashMap<>();
+
+    /**
+     * Tracker for the entity versions.
+     */
+    private final EntityVersionTracker  versionTracker;
+
+    /**
+     * Builds an interceptor taking the versions from the received tracker.
+     *
+     * @param tracker
+     *            tracker for the entity versions
+     */
+    public ConditionalGetInterceptor(@NonNull final EntityVersionTracker tracker) {
+        super();
+
+        versionTracker = tracker;
+    }
+
+    @Override
+    public final boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+            final Object handler) throws Exception {
+        final Class<?>      type;
+        final EntityVersion version;
+        final boolean       notModified;
+
+        if ((handler instanceof HandlerMethod) && (isReading(request))) {
+            type = types.computeIfAbsent(((HandlerMethod) handler).getMethod(), this::getType);
+            if (Void.class.equals(type)) {
+                notModified = false;
+            } else {
+                version = versionTracker.getVersion(type);
+                // The version doesn't tell apart the formats
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                // Sets the headers, and the status if not modified
+                notModified = new ServletWebRequest(request, response).checkNotModified(
+                    "W/\"" + version.getVersion() + "\"", version.getLastModified()
+                        .toEpochMilli());
+            }
+        } else {
+            notModified = false;
+        }
+
+        if (notModified) {
+            log.trace("Request to {} not modified", request.getRequestURI());
+        }
+
+        return !notModified;
+    }
+
+    /**
+     * Returns the entity type read by the handler method.
+     *
+     * @param method
+     *            handler method
+     * @return the entity type, or {@code Void} if the handler is not versioned
+     */
+    private final Class<?> getType(final Method method) {
+        final Versioned versioned;
+        final Class<?>  type;
+
+        versioned = method.getAnnotation(Versioned.class);
+        if (versioned == null) {
+            type = Void.class;
+        } else {
+            type = versioned.value();
+        }
+
+        return type;
+    }
+
+    /**
+     * Checks if the request only reads data, which is the only case where the conditional headers apply.
+     *
+     * @param request
+     *            request to check
+     * @return {@code true} if the request reads data, {@code false} otherwise
+     */
+    private final boolean isReading(final HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+}
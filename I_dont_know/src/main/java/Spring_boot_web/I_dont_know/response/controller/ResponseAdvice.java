@@ -24,19 +24,29 @@
 
 package Spring_boot_web.I_dont_know.response.controller;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
-import Spring_boot_web.I_dont_know.response.model.DefaultPaginatedResponse;
+import Spring_boot_web.I_dont_know.pagination.size.PageLoadTracker;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
 import Spring_boot_web.I_dont_know.response.model.DefaultResponse;
+import Spring_boot_web.I_dont_know.response.model.PageIterableResponse;
 import Spring_boot_web.I_dont_know.response.model.PaginatedResponse;
 import Spring_boot_web.I_dont_know.response.model.Response;
 
@@ -46,7 +56,14 @@ import lombok.extern.slf4j.Slf4j;
  * Advice to wrap all the responses into the response object.
  * <p>
  * Unless the response is already an instance of {@link Response}, or the Spring {@link ResponseEntity}, it will be
- * wrapped into a {@code Response}. Paginated data will be wrapped into a {@link PaginatedResponse}.
+ * wrapped into a {@code Response}. Paginated data will be wrapped into a {@link PaginatedResponse}, which is a view
+ * over the page written straight from it, without copying the page data.
+ * <p>
+ * The wrapping is decided once for each handler method, from its declared return type. Handlers already returning a
+ * response are not advised at all, and only handlers declaring a generic type, such as {@code Object}, check each
+ * response.
+ * <p>
+ * Handlers annotated with {@link ResponseCacheControl} get the declared {@code Cache-Control} header.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
@@ -55,6 +72,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ResponseAdvice implements ResponseBodyAdvice<Object> {
 
+    /**
+     * {@code Cache-Control} value for each handler method. Empty for handlers without a cache policy.
+     */
+    private final Map<Method, String>           cacheControls = new ConcurrentHashMap<>();
+
+    /**
+     * Wrapping for each handler method.
+     */
+    private final Map<Method, ResponseWrapping> wrappings     = new ConcurrentHashMap<>();
+
     /**
      * Default constructor.
      */
@@ -66,24 +93,43 @@ public class ResponseAdvice implements ResponseBodyAdvice<Object> {
     public Object beforeBodyWrite(final Object body, final MethodParameter returnType,
             final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
             final ServerHttpRequest request, final ServerHttpResponse response) {
-        final Object result;
+        final ResponseWrapping wrapping;
+        final String           cacheControl;
+        final Object           result;
 
-        log.trace("Received {} as response body", body);
-        if (body instanceof ResponseEntity<?>) {
-            // Avoid wrapping responses
-            result = body;
-        } else if (body instanceof Response) {
+        if (log.isTraceEnabled()) {
+            log.trace("Received {} as response body", body);
+        }
+
+        wrapping = getWrapping(returnType);
+        if (wrapping == ResponseWrapping.NONE) {
             // Avoid wrapping responses
             result = body;
-        } else if (body instanceof Page<?>) {
-            result = toPaginatedResponse((Page<?>) body);
-        } else if (body instanceof PageIterable<?>) {
-            result = toPaginatedResponse((PageIterable<?>) body);
         } else if (body == null) {
             log.debug("Received null as response body");
             result = new DefaultResponse<>();
-        } else {
+        } else if (wrapping == ResponseWrapping.PAGE) {
+            result = toPaginatedResponse(Paginations.fromSpring((Page<?>) body));
+        } else if (wrapping == ResponseWrapping.SLICE) {
+            result = toPaginatedResponse(Paginations.fromSpring((Slice<?>) body));
+        } else if (wrapping == ResponseWrapping.PAGE_ITERABLE) {
+            result = toPaginatedResponse((PageIterable<?>) body);
+        } else if (wrapping == ResponseWrapping.PLAIN) {
             result = new DefaultResponse<>(body);
+        } else {
+            result = wrap(body);
+        }
+
+        if ((result instanceof PaginatedResponse<?>) && (request instanceof ServletServerHttpRequest)) {
+            // Lets the page load filter know the size of the page
+            ((ServletServerHttpRequest) request).getServletRequest()
+                .setAttribute(PageLoadTracker.ROWS_ATTRIBUTE, ((PaginatedResponse<?>) result).getElementsInPage());
+        }
+
+        cacheControl = getCacheControl(returnType);
+        if (!cacheControl.isEmpty()) {
+            response.getHeaders()
+                .setCacheControl(cacheControl);
         }
 
         return result;
@@ -92,51 +138,127 @@ public class ResponseAdvice implements ResponseBodyAdvice<Object> {
     @Override
     public boolean supports(final MethodParameter returnType,
             final Class<? extends HttpMessageConverter<?>> converterType) {
-        return true;
+        // Responses are never wrapped again, but may still need the cache policy
+        return (getWrapping(returnType) != ResponseWrapping.NONE) || (!getCacheControl(returnType).isEmpty());
     }
 
     /**
-     * Wraps the page into a paginated response.
+     * Returns the {@code Cache-Control} value declared for the handler method, computing it the first time the method
+     * is received.
      *
-     * @param page
-     *            page to wrap
-     * @return paginated response
+     * @param returnType
+     *            handler method return type
+     * @return the {@code Cache-Control} value, or an empty string if the handler doesn't declare one
      */
-    private final PaginatedResponse<?> toPaginatedResponse(final Page<?> page) {
-        final DefaultPaginatedResponse<?> paginatedResponse;
-
-        paginatedResponse = new DefaultPaginatedResponse<>(page.getContent());
-        paginatedResponse.setElementsInPage(page.getNumberOfElements());
-        paginatedResponse.setTotalElements(page.getTotalElements());
-        paginatedResponse.setTotalPages(page.getTotalPages());
-        paginatedResponse.setPageNumber(page.getNumber());
-        paginatedResponse.setSize(page.getSize());
-        paginatedResponse.setFirst(page.isFirst());
-        paginatedResponse.setLast(page.isLast());
-
-        return paginatedResponse;
+    private final String getCacheControl(final MethodParameter returnType) {
+        final Method method;
+        final String cacheControl;
+
+        method = returnType.getMethod();
+        if (method == null) {
+            cacheControl = "";
+        } else {
+            cacheControl = cacheControls.computeIfAbsent(method,
+                m -> toCacheControl(m.getAnnotation(ResponseCacheControl.class)));
+        }
+
+        return cacheControl;
     }
 
     /**
-     * Wraps the page iterable into a paginated response.
+     * Returns the wrapping for the handler method, computing it the first time the method is received.
+     *
+     * @param returnType
+     *            handler method return type
+     * @return the wrapping for the handler
+     */
+    private final ResponseWrapping getWrapping(final MethodParameter returnType) {
+        final Method           method;
+        final ResponseWrapping wrapping;
+
+        method = returnType.getMethod();
+        if (method == null) {
+            wrapping = ResponseWrapping.of(returnType.getParameterType());
+        } else {
+            wrapping = wrappings.computeIfAbsent(method, m -> ResponseWrapping.of(returnType.getParameterType()));
+        }
+
+        return wrapping;
+    }
+
+    /**
+     * Builds the {@code Cache-Control} value for the policy.
+     *
+     * @param policy
+     *            cache policy, may be {@code null}
+     * @return the {@code Cache-Control} value, or an empty string if there is no policy
+     */
+    private final String toCacheControl(final ResponseCacheControl policy) {
+        final Collection<String> directives;
+
+        directives = new ArrayList<>();
+        if (policy != null) {
+            if (policy.maxAge() >= 0) {
+                directives.add("max-age=" + policy.maxAge());
+            }
+            if (policy.noCache()) {
+                directives.add("no-cache");
+            }
+            if (policy.noStore()) {
+                directives.add("no-store");
+            }
+            if (policy.mustRevalidate()) {
+                directives.add("must-revalidate");
+            }
+            if (policy.cachePrivate()) {
+                directives.add("private");
+            }
+            if (policy.cachePublic()) {
+                directives.add("public");
+            }
+        }
+
+        return String.join(", ", directives);
+    }
+
+    /**
+     * Wraps the page into a paginated response. The response is a view over the page, so nothing is copied.
      *
      * @param page
      *            page to wrap
      * @return paginated response
      */
     private final PaginatedResponse<?> toPaginatedResponse(final PageIterable<?> page) {
-        final DefaultPaginatedResponse<?> paginatedResponse;
-
-        paginatedResponse = new DefaultPaginatedResponse<>(page.getContent());
-        paginatedResponse.setElementsInPage(page.getElementsInPage());
-        paginatedResponse.setTotalElements(page.getTotalElements());
-        paginatedResponse.setTotalPages(page.getTotalPages());
-        paginatedResponse.setPageNumber(page.getPageNumber());
-        paginatedResponse.setSize(page.getSize());
-        paginatedResponse.setFirst(page.isFirst());
-        paginatedResponse.setLast(page.isLast());
-
-        return paginatedResponse;
+        return new PageIterableResponse<>(page);
+    }
+
+    /**
+     * Wraps the body, checking its actual type. Used when the declared type can't tell how to wrap it.
+     *
+     * @param body
+     *            body to wrap
+     * @return the wrapped body
+     */
+    private final Object wrap(final Object body) {
+        final Object result;
+
+        if (body instanceof ResponseEntity<?>) {
+            // Avoid wrapping responses
+            result = body;
+        } else if (body instanceof Response) {
+            // Avoid wrapping responses
+            result = body;
+        } else if (body instanceof Page<?>) {
+            result = toPaginatedResponse(Paginations.fromSpring((Page<?>) body));
+        } else if (body instanceof Slice<?>) {
+            result = toPaginatedResponse(Paginations.fromSpring((Slice<?>) body));
+        } else if (body instanceof PageIterable<?>) {
+            result = toPaginatedResponse((PageIterable<?>) body);
+        } else {
+            result = new DefaultResponse<>(body);
+        }
+
+        return result;
     }
 
 }
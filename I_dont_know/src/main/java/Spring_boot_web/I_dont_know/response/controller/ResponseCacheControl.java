@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@code Cache-Control} policy for the responses of an endpoint. {@link ResponseAdvice} adds the header
+ * to the response.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ResponseCacheControl {
+
+    /**
+     * Flags the response as private, so it can't be stored by shared caches.
+     *
+     * @return {@code true} to add {@code private}
+     */
+    public boolean cachePrivate() default false;
+
+    /**
+     * Flags the response as public, so it can be stored by shared caches.
+     *
+     * @return {@code true} to add {@code public}
+     */
+    public boolean cachePublic() default false;
+
+    /**
+     * Maximum time the response is fresh, in seconds. Negative values don't set it.
+     *
+     * @return the maximum age in seconds
+     */
+    public long maxAge() default -1;
+
+    /**
+     * Requires caches to revalidate stale responses.
+     *
+     * @return {@code true} to add {@code must-revalidate}
+     */
+    public boolean mustRevalidate() default false;
+
+    /**
+     * Requires caches to revalidate the response before each use.
+     *
+     * @return {@code true} to add {@code no-cache}
+     */
+    public boolean noCache() default false;
+
+    /**
+     * Forbids storing the response.
+     *
+     * @return {@code true} to add {@code no-store}
+     */
+    public boolean noStore() default false;
+
+}
@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpEntity;
+
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.response.model.Response;
+
+/**
+ * How the response of a handler is wrapped, decided from the return type declared by the handler.
+ * <p>
+ * Handlers should declare the most specific type they return, as only {@link #DYNAMIC} checks each response.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public enum ResponseWrapping {
+
+    /**
+     * The declared type may hold anything, so the wrapping is decided from each response.
+     */
+    DYNAMIC,
+    /**
+     * The handler already returns a response, which is not wrapped.
+     */
+    NONE,
+    /**
+     * The handler returns a Spring page.
+     */
+    PAGE,
+    /**
+     * The handler returns a page iterable.
+     */
+    PAGE_ITERABLE,
+    /**
+     * The handler returns plain data, which can't be paginated.
+     */
+    PLAIN,
+    /**
+     * The handler returns a Spring slice.
+     */
+    SLICE;
+
+    /**
+     * Returns the wrapping for the received declared return type.
+     *
+     * @param type
+     *            declared return type
+     * @return the wrapping for the type
+     */
+    public static final ResponseWrapping of(final Class<?> type) {
+        final ResponseWrapping wrapping;
+
+        if (Response.class.isAssignableFrom(type) || HttpEntity.class.isAssignableFrom(type)) {
+            wrapping = NONE;
+        } else if (Page.class.isAssignableFrom(type)) {
+            wrapping = PAGE;
+        } else if (Slice.class.isAssignableFrom(type)) {
+            wrapping = SLICE;
+        } else if (PageIterable.class.isAssignableFrom(type)) {
+            wrapping = PAGE_ITERABLE;
+        } else if (type.isAssignableFrom(Slice.class) || type.isAssignableFrom(PageIterable.class)
+                || type.isAssignableFrom(Response.class)) {
+            // Supertype of the paginated data, such as Object or Iterable
+            wrapping = DYNAMIC;
+        } else {
+            wrapping = PLAIN;
+        }
+
+        return wrapping;
+    }
+
+}
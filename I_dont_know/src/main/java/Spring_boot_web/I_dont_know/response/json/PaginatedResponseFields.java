@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Field names of the paginated response envelope. These are encoded once, and then copied as they are into each
+ * response, instead of quoting and escaping the names again for every page.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class PaginatedResponseFields {
+
+    /**
+     * Approximate totals flag.
+     */
+    public static final SerializableString APPROXIMATE      = new SerializedString("approximate");
+
+    /**
+     * Page content.
+     */
+    public static final SerializableString CONTENT          = new SerializedString("content");
+
+    /**
+     * Number of elements in the page.
+     */
+    public static final SerializableString ELEMENTS_IN_PAGE = new SerializedString("elementsInPage");
+
+    /**
+     * First page flag.
+     */
+    public static final SerializableString FIRST            = new SerializedString("first");
+
+    /**
+     * Next page flag.
+     */
+    public static final SerializableString HAS_NEXT         = new SerializedString("hasNext");
+
+    /**
+     * Last page flag.
+     */
+    public static final SerializableString LAST             = new SerializedString("last");
+
+    /**
+     * Cursor to the next page.
+     */
+    public static final SerializableString NEXT_CURSOR      = new SerializedString("nextCursor");
+
+    /**
+     * Page number.
+     */
+    public static final SerializableString PAGE_NUMBER      = new SerializedString("pageNumber");
+
+    /**
+     * Cursor to the previous page.
+     */
+    public static final SerializableString PREVIOUS_CURSOR  = new SerializedString("previousCursor");
+
+    /**
+     * Page size.
+     */
+    public static final SerializableString SIZE             = new SerializedString("size");
+
+    /**
+     * Total number of elements.
+     */
+    public static final SerializableString TOTAL_ELEMENTS   = new SerializedString("totalElements");
+
+    /**
+     * Total number of pages.
+     */
+    public static final SerializableString TOTAL_PAGES      = new SerializedString("totalPages");
+
+    private PaginatedResponseFields() {
+        super();
+    }
+
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import Spring_boot_web.I_dont_know.response.model.PaginatedResponse;
+
+/**
+ * Writes the paginated response envelope field by field, straight from the response getters. This avoids the bean
+ * introspection Jackson would apply otherwise, and allows the response to be a view over the page.
+ * <p>
+ * The content is written first, followed by the page data, in the same order used by the streamed responses. The
+ * field names are precomputed, see {@link PaginatedResponseFields}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@SuppressWarnings("rawtypes")
+public final class PaginatedResponseSerializer extends StdSerializer<PaginatedResponse> {
+
+    private static final long serialVersionUID = 2381964427302468934L;
+
+    /**
+     * Default constructor.
+     */
+    public PaginatedResponseSerializer() {
+        super(PaginatedResponse.class);
+    }
+
+    @Override
+    public final void serialize(final PaginatedResponse value, final JsonGenerator gen,
+            final SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(PaginatedResponseFields.CONTENT);
+        provider.defaultSerializeValue(value.getContent(), gen);
+        gen.writeFieldName(PaginatedResponseFields.APPROXIMATE);
+        gen.writeBoolean(value.getApproximate());
+        gen.writeFieldName(PaginatedResponseFields.ELEMENTS_IN_PAGE);
+        gen.writeNumber(value.getElementsInPage());
+        gen.writeFieldName(PaginatedResponseFields.FIRST);
+        gen.writeBoolean(value.getFirst());
+        gen.writeFieldName(PaginatedResponseFields.HAS_NEXT);
+        gen.writeBoolean(value.getHasNext());
+        gen.writeFieldName(PaginatedResponseFields.LAST);
+        gen.writeBoolean(value.getLast());
+        gen.writeFieldName(PaginatedResponseFields.NEXT_CURSOR);
+        gen.writeString(value.getNextCursor());
+        gen.writeFieldName(PaginatedResponseFields.PAGE_NUMBER);
+        gen.writeNumber(value.getPageNumber());
+        gen.writeFieldName(PaginatedResponseFields.PREVIOUS_CURSOR);
+        gen.writeString(value.getPreviousCursor());
+        gen.writeFieldName(PaginatedResponseFields.SIZE);
+        gen.writeNumber(value.getSize());
+        gen.writeFieldName(PaginatedResponseFields.TOTAL_ELEMENTS);
+        gen.writeNumber(value.getTotalElements());
+        gen.writeFieldName(PaginatedResponseFields.TOTAL_PAGES);
+        gen.writeNumber(value.getTotalPages());
+        gen.writeEndObject();
+    }
+
+}
@@ -38,6 +38,11 @@ import lombok.NonNull;
 @Data
 public final class DefaultPaginatedResponse<T> implements PaginatedResponse<T> {
 
+    /**
+     * Flags the totals as approximate.
+     */
+    private Boolean approximate    = false;
+
     /**
      * Response content.
      */
@@ -54,16 +59,31 @@ public final class DefaultPaginatedResponse<T> implements PaginatedResponse<T> {
      */
     private Boolean first          = false;
 
+    /**
+     * Flags there is a page after this one.
+     */
+    private Boolean hasNext        = false;
+
     /**
      * Flags this is as the last page.
      */
     private Boolean last           = false;
 
+    /**
+     * Cursor pointing to the next page.
+     */
+    private String  nextCursor     = "";
+
     /**
      * Number of this page.
      */
     private Integer pageNumber     = -1;
 
+    /**
+     * Cursor pointing to the previous page.
+     */
+    private String  previousCursor = "";
+
     /**
      * Size of this page.
      */
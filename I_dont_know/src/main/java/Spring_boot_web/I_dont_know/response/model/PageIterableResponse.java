@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.response.json.PaginatedResponseSerializer;
+
+import lombok.NonNull;
+
+/**
+ * Paginated response view over a page. The page data is read from the page when requested, instead of being copied,
+ * and is written by {@link PaginatedResponseSerializer}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            type of the page elements
+ */
+@JsonSerialize(using = PaginatedResponseSerializer.class)
+public final class PageIterableResponse<T> implements PaginatedResponse<Iterable<T>> {
+
+    /**
+     * Wrapped page.
+     */
+    private final PageIterable<T> page;
+
+    /**
+     * Builds a response view over the page.
+     *
+     * @param pg
+     *            page to wrap
+     */
+    public PageIterableResponse(@NonNull final PageIterable<T> pg) {
+        super();
+
+        page = pg;
+    }
+
+    @Override
+    public final Boolean getApproximate() {
+        return page.isApproximate();
+    }
+
+    @Override
+    public final Iterable<T> getContent() {
+        return page.getContent();
+    }
+
+    @Override
+    public final Integer getElementsInPage() {
+        return page.getElementsInPage();
+    }
+
+    @Override
+    public final Boolean getFirst() {
+        return page.isFirst();
+    }
+
+    @Override
+    public final Boolean getHasNext() {
+        return page.hasNext();
+    }
+
+    @Override
+    public final Boolean getLast() {
+        return page.isLast();
+    }
+
+    @Override
+    public final String getNextCursor() {
+        return page.getNextCursor();
+    }
+
+    @Override
+    public final Integer getPageNumber() {
+        return page.getPageNumber();
+    }
+
+    @Override
+    public final String getPreviousCursor() {
+        return page.getPreviousCursor();
+    }
+
+    @Override
+    public final Integer getSize() {
+        return page.getSize();
+    }
+
+    @Override
+    public final Long getTotalElements() {
+        return page.getTotalElements();
+    }
+
+    @Override
+    public final Integer getTotalPages() {
+        return page.getTotalPages();
+    }
+
+}
@@ -34,6 +34,20 @@ package Spring_boot_web.I_dont_know.response.model;
  */
 public interface PaginatedResponse<T> extends Response<T> {
 
+    /**
+     * Flags if the totals are approximate, as they were estimated from the database statistics instead of counted.
+     *
+     * @return {@code true} if the totals are approximate, {@code false} otherwise
+     */
+    public Boolean getApproximate();
+
+    /**
+     * Flags if there is a page after this one. This is known even when the elements were not counted.
+     *
+     * @return {@code true} if there is a next page, {@code false} otherwise
+     */
+    public Boolean getHasNext();
+
     /**
      * Number of elements in the page.
      *
@@ -55,6 +69,13 @@ public interface PaginatedResponse<T> extends Response<T> {
      */
     public Boolean getLast();
 
+    /**
+     * Cursor pointing to the next page. Only set when using keyset pagination, and there is a next page.
+     *
+     * @return the cursor for the next page, or an empty string if there is none
+     */
+    public String getNextCursor();
+
     /**
      * Number of this page.
      *
@@ -62,6 +83,13 @@ public interface PaginatedResponse<T> extends Response<T> {
      */
     public Integer getPageNumber();
 
+    /**
+     * Cursor pointing to the previous page. Only set when using keyset pagination, and there is a previous page.
+     *
+     * @return the cursor for the previous page, or an empty string if there is none
+     */
+    public String getPreviousCursor();
+
     /**
      * Size of this page.
      *
@@ -70,14 +98,14 @@ public interface PaginatedResponse<T> extends Response<T> {
     public Integer getSize();
 
     /**
-     * Total number of elements among all the pages.
+     * Total number of elements among all the pages. If the elements were not counted this is negative.
      *
      * @return the total number of elements
      */
     public Long getTotalElements();
 
     /**
-     * Total number of pages.
+     * Total number of pages. If the elements were not counted this is negative.
      *
      * @return the total number of pages
      */
@@ -0,0 +1,118 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.response.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import lombok.NonNull;
+
+/**
+ * Writes the elements as newline delimited JSON, one element per line and with no envelope. Each element is written
+ * as soon as it is received, so memory use doesn't depend on the number of elements.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            type of the elements
+ */
+public final class NdJsonStreamingResponseBody<T> implements StreamingResponseBody {
+
+    /**
+     * Source of the elements.
+     */
+    private final StreamSource<T> source;
+
+    /**
+     * Writer for the elements.
+     */
+    private final ObjectWriter    writer;
+
+    /**
+     * Builds a response body writing the elements from the source.
+     *
+     * @param objectMapper
+     *            mapper to write the elements
+     * @param type
+     *            type of the elements, so the writer resolves their serializer once
+     * @param streamSource
+     *            source of the elements
+     */
+    public NdJsonStreamingResponseBody(@NonNull final ObjectMapper objectMapper, @NonNull final Class<T> type,
+            @NonNull final StreamSource<T> streamSource) {
+        this(objectMapper.writerFor(type), streamSource);
+    }
+
+    /**
+     * Builds a response body writing the elements from the source with a prebuilt writer, which should be built for
+     * the element type.
+     *
+     * @param objectWriter
+     *            writer for the elements
+     * @param streamSource
+     *            source of the elements
+     */
+    public NdJsonStreamingResponseBody(@NonNull final ObjectWriter objectWriter,
+            @NonNull final StreamSource<T> streamSource) {
+        super();
+
+        writer = objectWriter;
+        source = streamSource;
+    }
+
+    @Override
+    public final void writeTo(final OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = writer.getFactory()
+            .createGenerator(outputStream, JsonEncoding.UTF8)) {
+            // The servlet container closes the stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Each root value goes into its own line
+            generator.setRootValueSeparator(null);
+            // The sequence writer keeps the element serializers between elements, and doesn't close the generator
+            try (SequenceWriter elements = writer.writeValues(generator)) {
+                source.forEach(element -> {
+                    try {
+                        elements.write(element);
+                        generator.writeRaw('\n');
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.test.domain.benchmark.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import Spring_boot_web.I_dont_know.Application;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+
+/**
+ * Latency of reading a page sorted by name at increasing offsets, comparing a plain {@code LIMIT/OFFSET} against the
+ * deferred join.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=OffsetStrategyBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OffsetStrategyBenchmark {
+
+    private static final Integer           PAGE_SIZE = 20;
+
+    private static final Integer           ROWS      = 200_000;
+
+    private ConfigurableApplicationContext context;
+
+    @Param({ "0", "1000", "10000", "50000", "100000", "190000" })
+    private Integer                        offset;
+
+    private Pageable                       pageable;
+
+    private ExampleEntityRepository        repository;
+
+    @Param({ "limitOffset", "deferredJoin" })
+    private String                         strategy;
+
+    public OffsetStrategyBenchmark() {
+        super();
+    }
+
+    @Benchmark
+    public Slice<PersistentExampleEntity> findAllByOffset() {
+        return repository.findAllByOffset(pageable);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final JdbcTemplate   jdbcTemplate;
+        final List<Object[]> names;
+        final Long           threshold;
+
+        // The threshold picks the strategy for all the offsets
+        if ("deferredJoin".equals(strategy)) {
+            threshold = 0L;
+        } else {
+            threshold = Long.MAX_VALUE;
+        }
+        context = new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE)
+            .properties("pagination.offset.deferred-join-threshold=" + threshold)
+            .run();
+        repository = context.getBean(ExampleEntityRepository.class);
+
+        names = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            names.add(new Object[] { String.format("benchmark_%07d", i) });
+        }
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        // The ids are not generated by the table
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO example_entities (id, name) VALUES (NEXT VALUE FOR example_entities_seq, ?)", names);
+        jdbcTemplate.execute("ANALYZE");
+
+        pageable = PageRequest.of(offset / PAGE_SIZE, PAGE_SIZE, Sort.by("name"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+}
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.domain.benchmark.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Spring_boot_web.I_dont_know.Application;
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+
+/**
+ * Throughput of inserting entities through the JDBC batches of the bulk creation, against inserting them one row at a
+ * time.
+ * <p>
+ * Each invocation is rolled back, so the table doesn't grow between them.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=BulkInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private List<DefaultExampleEntity>     entities;
+
+    private EntityManager                  entityManager;
+
+    private ExampleEntityRepository        repository;
+
+    private ExampleEntityService           service;
+
+    @Param({ "1000", "10000" })
+    private Integer                        size;
+
+    private TransactionTemplate            transaction;
+
+    public BulkInsertBenchmark() {
+        super();
+    }
+
+    @Benchmark
+    public List<? extends ExampleEntity> batched() {
+        return transaction.execute(status -> {
+            status.setRollbackOnly();
+            return service.createAll(entities);
+        });
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DefaultExampleEntity entity;
+
+        context = new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE)
+            .run();
+        entityManager = context.getBean(EntityManager.class);
+        repository = context.getBean(ExampleEntityRepository.class);
+        service = context.getBean(ExampleEntityService.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entity = new DefaultExampleEntity();
+            entity.setName(String.format("benchmark_%07d", i));
+            entities.add(entity);
+        }
+    }
+
+    @Benchmark
+    public Integer singleRows() {
+        return transaction.execute(status -> {
+            PersistentExampleEntity entity;
+
+            status.setRollbackOnly();
+            for (final ExampleEntity source : entities) {
+                entity = new PersistentExampleEntity();
+                entity.setId(null);
+                entity.setName(source.getName());
+                // Each row is sent on its own, as it was with identity ids
+                repository.saveAndFlush(entity);
+                // Same as the batches, so the persistence context doesn't grow
+                entityManager.clear();
+            }
+            return entities.size();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.test.domain.integration.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.context.TestPropertySource;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
+
+@IntegrationTest
+@TestPropertySource(properties = "pagination.offset.deferred-join-threshold=0")
+@DisplayName("Offset entity repository with deferred joins")
+public class ITOffsetExampleEntityRepository {
+
+    @Autowired
+    private ExampleEntityRepository repository;
+
+    public ITOffsetExampleEntityRepository() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Returns an empty slice after the last page")
+    public void testFindAllByOffset_AfterLast_Empty() {
+        final Pageable                       pageable;
+        final Slice<PersistentExampleEntity> result;
+
+        pageable = PageRequest.of(5, 10);
+
+        result = repository.findAllByOffset(pageable);
+
+        Assertions.assertTrue(result.getContent()
+            .isEmpty());
+        Assertions.assertFalse(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Returns the last page without a next page")
+    public void testFindAllByOffset_LastPage_NoNext() {
+        final Pageable                       pageable;
+        final Slice<PersistentExampleEntity> result;
+
+        pageable = PageRequest.of(2, 10, Sort.by("name"));
+
+        result = repository.findAllByOffset(pageable);
+
+        Assertions.assertEquals(10, result.getNumberOfElements());
+        Assertions.assertFalse(result.hasNext());
+        Assertions.assertEquals("entity_21", result.getContent()
+            .get(0)
+            .getName());
+    }
+
+    @Test
+    @DisplayName("Returns the same rows as a plain offset query")
+    public void testFindAllByOffset_SameAsPlain() {
+        final Pageable      pageable;
+        final List<Integer> expected;
+        final List<Integer> result;
+
+        pageable = PageRequest.of(1, 10, Sort.by(Direction.DESC, "name"));
+
+        expected = repository.findAll(pageable)
+            .stream()
+            .map(PersistentExampleEntity::getId)
+            .collect(Collectors.toList());
+        result = repository.findAllByOffset(pageable)
+            .stream()
+            .map(PersistentExampleEntity::getId)
+            .collect(Collectors.toList());
+
+        Assertions.assertEquals(expected, result);
+        Assertions.assertEquals(10, result.size());
+    }
+
+    @Test
+    @DisplayName("Reads only the first page when unpaged")
+    public void testFindAllByOffset_Unpaged_FirstPage() {
+        final Slice<PersistentExampleEntity> result;
+
+        result = repository.findAllByOffset(Pageable.unpaged());
+
+        Assertions.assertEquals(Pagination.DEFAULT_SIZE, result.getNumberOfElements());
+        Assertions.assertTrue(result.hasNext());
+    }
+
+}
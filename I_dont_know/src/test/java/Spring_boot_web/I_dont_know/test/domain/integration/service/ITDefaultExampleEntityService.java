@@ -24,25 +24,38 @@
 
 package Spring_boot_web.I_dont_know.test.domain.integration.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.commons.collections4.IterableUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
 import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ProjectedExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
 import Spring_boot_web.I_dont_know.domain.service.DefaultExampleEntityService;
 import Spring_boot_web.I_dont_know.pagination.model.DisabledPagination;
 import Spring_boot_web.I_dont_know.pagination.model.DisabledSort;
 import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
 import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
 
 @IntegrationTest
 @DisplayName("Default entity service")
 public class ITDefaultExampleEntityService {
 
+    @Autowired
+    private ExampleEntityRepository     repository;
+
     @Autowired
     private DefaultExampleEntityService service;
 
@@ -50,6 +63,45 @@ public class ITDefaultExampleEntityService {
         super();
     }
 
+    @Test
+    @DisplayName("Creates all the entities, over several batches")
+    public void testCreateAll_Batches() {
+        final List<DefaultExampleEntity> entities;
+        DefaultExampleEntity             entity;
+
+        entities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            entity = new DefaultExampleEntity();
+            entity.setName("created_" + i);
+            entities.add(entity);
+        }
+
+        service.createAll(entities);
+
+        Assertions.assertEquals(150L, repository.count());
+    }
+
+    @Test
+    @DisplayName("Assigns new ids to the created entities")
+    public void testCreateAll_Ids() {
+        final DefaultExampleEntity                    entity;
+        final List<? extends PersistentExampleEntity> result;
+
+        entity = new DefaultExampleEntity();
+        entity.setId(1);
+        entity.setName("created");
+
+        result = service.createAll(Arrays.asList(entity));
+
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertTrue(result.get(0)
+            .getId() > 30);
+        Assertions.assertEquals("created", repository.findById(result.get(0)
+            .getId())
+            .get()
+            .getName());
+    }
+
     @Test
     @DisplayName("Returns all the entities")
     public void testGetAllEntities() {
@@ -65,4 +117,215 @@ public class ITDefaultExampleEntityService {
         Assertions.assertEquals(30, IterableUtils.size(result));
     }
 
+    @Test
+    @DisplayName("Returns a page without totals when the count is disabled")
+    public void testGetAll_NotCounted() {
+        final Pagination                            pagination;
+        final Sort                                  sort;
+        final PageIterable<? extends ExampleEntity> result;
+
+        pagination = Pagination.of(0, 10, false);
+        sort = Sort.asc("name");
+
+        result = service.getAll(pagination, sort);
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertTrue(result.hasNext());
+        Assertions.assertEquals(-1L, result.getTotalElements());
+        Assertions.assertEquals(-1, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("Returns the last page without totals when the count is disabled")
+    public void testGetAll_NotCounted_LastPage() {
+        final Pagination                            pagination;
+        final Sort                                  sort;
+        final PageIterable<? extends ExampleEntity> result;
+
+        pagination = Pagination.of(2, 10, false);
+        sort = Sort.asc("name");
+
+        result = service.getAll(pagination, sort);
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertFalse(result.hasNext());
+        Assertions.assertTrue(result.isLast());
+    }
+
+    @Test
+    @DisplayName("The cached count is refreshed after inserting an entity")
+    public void testGetAll_CachedCount_Insert() {
+        final Pagination                            pagination;
+        final PersistentExampleEntity               entity;
+        final PageIterable<? extends ExampleEntity> result;
+
+        pagination = Pagination.of(0, 10);
+
+        // Caches the count
+        service.getAll(pagination, Sort.disabled());
+
+        entity = new PersistentExampleEntity();
+        entity.setId(null);
+        entity.setName("entity_31");
+        repository.saveAndFlush(entity);
+
+        result = service.getAll(pagination, Sort.disabled());
+
+        Assertions.assertEquals(31L, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Returns the totals from the cached count")
+    public void testGetAll_CachedCount_Totals() {
+        final Pagination                            pagination;
+        final PageIterable<? extends ExampleEntity> result;
+
+        pagination = Pagination.of(1, 10);
+
+        // Caches the count
+        service.getAll(pagination, Sort.disabled());
+
+        result = service.getAll(pagination, Sort.disabled());
+
+        Assertions.assertEquals(30L, result.getTotalElements());
+        Assertions.assertEquals(3, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("Returns the first keyset page")
+    public void testGetAll_Keyset_FirstPage() {
+        final Pagination                            pagination;
+        final Sort                                  sort;
+        final PageIterable<? extends ExampleEntity> result;
+
+        pagination = Pagination.cursor("", 10);
+        sort = Sort.asc("name");
+
+        result = service.getAll(pagination, sort);
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertEquals("entity_01", IterableUtils.first(result)
+            .getName());
+        Assertions.assertTrue(result.isFirst());
+        Assertions.assertFalse(result.isLast());
+        Assertions.assertEquals("", result.getPreviousCursor());
+    }
+
+    @Test
+    @DisplayName("Returns the next keyset page when seeking from a cursor")
+    public void testGetAll_Keyset_NextPage() {
+        final Sort                                  sort;
+        final PageIterable<? extends ExampleEntity> first;
+        final PageIterable<? extends ExampleEntity> result;
+
+        sort = Sort.asc("name");
+
+        first = service.getAll(Pagination.cursor("", 10), sort);
+        result = service.getAll(Pagination.cursor(first.getNextCursor(), 10), sort);
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertEquals("entity_11", IterableUtils.first(result)
+            .getName());
+        Assertions.assertFalse(result.isFirst());
+    }
+
+    @Test
+    @DisplayName("Returns the previous keyset page when seeking back from a cursor")
+    public void testGetAll_Keyset_PreviousPage() {
+        final Sort                                  sort;
+        final PageIterable<? extends ExampleEntity> first;
+        final PageIterable<? extends ExampleEntity> second;
+        final PageIterable<? extends ExampleEntity> result;
+
+        sort = Sort.desc("name");
+
+        first = service.getAll(Pagination.cursor("", 10), sort);
+        second = service.getAll(Pagination.cursor(first.getNextCursor(), 10), sort);
+        result = service.getAll(Pagination.cursor(second.getPreviousCursor(), 10), sort);
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertEquals("entity_30", IterableUtils.first(result)
+            .getName());
+        Assertions.assertTrue(result.isFirst());
+    }
+
+    @Test
+    @DisplayName("Returns only the requested fields when reading a keyset page")
+    public void testGetAllProjected_Keyset_Fields() {
+        final PageQuery                             query;
+        final PageIterable<? extends ExampleEntity> result;
+        final ProjectedExampleEntity                entity;
+
+        query = PageQuery.of(Pagination.cursor("", 10), Sort.asc("name"));
+
+        result = service.getAllProjected(query, Fieldset.of(Arrays.asList("name")));
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        entity = (ProjectedExampleEntity) IterableUtils.first(result);
+        Assertions.assertEquals("entity_01", entity.getName());
+        Assertions.assertEquals(Arrays.asList("name"), new ArrayList<>(entity.getProjection()
+            .keySet()));
+    }
+
+    @Test
+    @DisplayName("Returns the next projected keyset page when seeking from a cursor")
+    public void testGetAllProjected_Keyset_NextPage() {
+        final Sort                                  sort;
+        final Fieldset                              fieldset;
+        final PageIterable<? extends ExampleEntity> first;
+        final PageIterable<? extends ExampleEntity> result;
+
+        sort = Sort.asc("name");
+        fieldset = Fieldset.of(Arrays.asList("name"));
+
+        first = service.getAllProjected(PageQuery.of(Pagination.cursor("", 10), sort), fieldset);
+        result = service.getAllProjected(PageQuery.of(Pagination.cursor(first.getNextCursor(), 10), sort),
+            fieldset);
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertEquals("entity_11", IterableUtils.first(result)
+            .getName());
+    }
+
+    @Test
+    @DisplayName("Returns only the requested fields when reading an offset page")
+    public void testGetAllProjected_Offset_Fields() {
+        final PageQuery                             query;
+        final PageIterable<? extends ExampleEntity> result;
+        final ProjectedExampleEntity                entity;
+
+        query = PageQuery.of(Pagination.of(1, 10), Sort.asc("name"));
+
+        result = service.getAllProjected(query, Fieldset.of(Arrays.asList("name")));
+
+        Assertions.assertEquals(10, IterableUtils.size(result));
+        Assertions.assertEquals(30L, result.getTotalElements());
+        entity = (ProjectedExampleEntity) IterableUtils.first(result);
+        Assertions.assertEquals("entity_11", entity.getName());
+        Assertions.assertNull(entity.getId());
+    }
+
+    @Test
+    @DisplayName("Streams all the entities")
+    public void testStreamAll() {
+        final List<ExampleEntity> result;
+
+        result = new ArrayList<>();
+        service.streamAll(Sort.disabled(), result::add);
+
+        Assertions.assertEquals(30, result.size());
+    }
+
+    @Test
+    @DisplayName("Streams all the entities in the requested order")
+    public void testStreamAll_Sorted() {
+        final List<ExampleEntity> result;
+
+        result = new ArrayList<>();
+        service.streamAll(Sort.desc("name"), result::add);
+
+        Assertions.assertEquals("entity_30", result.get(0)
+            .getName());
+    }
+
 }
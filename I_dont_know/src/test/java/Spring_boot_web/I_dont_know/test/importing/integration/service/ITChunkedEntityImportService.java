@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.importing.integration.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.importing.model.ImportReport;
+import Spring_boot_web.I_dont_know.importing.reader.CsvEntityRowReader;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReader;
+import Spring_boot_web.I_dont_know.importing.service.ChunkedEntityImportService;
+import Spring_boot_web.I_dont_know.importing.service.EntityImportService;
+import Spring_boot_web.I_dont_know.importing.service.EntityNameValidator;
+import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
+
+@IntegrationTest
+@DisplayName("Chunked entity import service")
+public class ITChunkedEntityImportService {
+
+    @Autowired
+    private EntityNameValidator     nameValidator;
+
+    @Autowired
+    private ExampleEntityRepository repository;
+
+    @Autowired
+    private ExampleEntityService    service;
+
+    public ITChunkedEntityImportService() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Creates the entities over several chunks")
+    public void testImportAll_Chunks() throws IOException {
+        final ImportReport report;
+
+        report = importAll("name\nimported_1\nimported_2\nimported_3\nimported_4\nimported_5\n");
+
+        Assertions.assertEquals(5L, report.getRead());
+        Assertions.assertEquals(5L, report.getCreated());
+        Assertions.assertEquals(0L, report.getRejected());
+        Assertions.assertTrue(report.getComplete());
+        Assertions.assertEquals(35L, repository.count());
+    }
+
+    @Test
+    @DisplayName("Rejects the invalid rows, and creates the rest")
+    public void testImportAll_Invalid() throws IOException {
+        final ImportReport report;
+
+        // Existing, repeated and missing names
+        report = importAll("name\nentity_1\nimported_1\nimported_1\n\"\"\nimported_2\n");
+
+        Assertions.assertEquals(5L, report.getRead());
+        Assertions.assertEquals(2L, report.getCreated());
+        Assertions.assertEquals(3L, report.getRejected());
+        Assertions.assertEquals(3, report.getErrors()
+            .size());
+        Assertions.assertEquals(32L, repository.count());
+    }
+
+    @Test
+    @DisplayName("Counts all the rejected rows, but lists only the maximum number of errors")
+    public void testImportAll_MaxErrors() throws IOException {
+        final ImportReport report;
+
+        report = importAll("name\nentity_1\nentity_2\nentity_3\nentity_4\n");
+
+        Assertions.assertEquals(4L, report.getRejected());
+        Assertions.assertEquals(3, report.getErrors()
+            .size());
+    }
+
+    private final ImportReport importAll(final String csv) throws IOException {
+        final EntityImportService importService;
+        final ImportReport        report;
+
+        // Small chunks, so the file is split
+        importService = new ChunkedEntityImportService(service, nameValidator, 2, 3);
+        try (EntityRowReader reader = new CsvEntityRowReader(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), new CsvMapper())) {
+            report = importService.importAll(reader);
+        }
+
+        return report;
+    }
+
+}
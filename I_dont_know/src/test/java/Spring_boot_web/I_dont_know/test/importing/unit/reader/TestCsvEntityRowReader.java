@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.importing.unit.reader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import Spring_boot_web.I_dont_know.importing.model.ImportRow;
+import Spring_boot_web.I_dont_know.importing.reader.CsvEntityRowReader;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReader;
+
+@DisplayName("CSV entity row reader")
+public final class TestCsvEntityRowReader {
+
+    public TestCsvEntityRowReader() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Reads the entities in each row")
+    public final void testNext() throws IOException {
+        final List<ImportRow> rows;
+
+        rows = readAll("name\nentity_a\nentity_b\n");
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertTrue(rows.get(0)
+            .getParsed());
+        Assertions.assertEquals("entity_a", rows.get(0)
+            .getEntity()
+            .getName());
+        Assertions.assertEquals("entity_b", rows.get(1)
+            .getEntity()
+            .getName());
+    }
+
+    @Test
+    @DisplayName("Rejects rows which can't be mapped, and goes on with the next ones")
+    public final void testNext_InvalidRow() throws IOException {
+        final List<ImportRow> rows;
+
+        rows = readAll("id,name\nabc,entity_a\n1,entity_b\n");
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertFalse(rows.get(0)
+            .getParsed());
+        Assertions.assertFalse(rows.get(0)
+            .getError()
+            .isEmpty());
+        Assertions.assertEquals("entity_b", rows.get(1)
+            .getEntity()
+            .getName());
+    }
+
+    @Test
+    @DisplayName("Ignores unknown columns")
+    public final void testNext_UnknownColumn() throws IOException {
+        final List<ImportRow> rows;
+
+        rows = readAll("name,color\nentity_a,red\n");
+
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals("entity_a", rows.get(0)
+            .getEntity()
+            .getName());
+    }
+
+    private final List<ImportRow> readAll(final String csv) throws IOException {
+        final List<ImportRow> rows;
+        Optional<ImportRow>   row;
+
+        rows = new ArrayList<>();
+        try (EntityRowReader reader = new CsvEntityRowReader(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), new CsvMapper())) {
+            row = reader.next();
+            while (row.isPresent()) {
+                rows.add(row.get());
+                row = reader.next();
+            }
+        }
+
+        return rows;
+    }
+
+}
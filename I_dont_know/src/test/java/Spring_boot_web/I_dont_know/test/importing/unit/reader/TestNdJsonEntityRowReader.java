@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.importing.unit.reader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Spring_boot_web.I_dont_know.importing.model.ImportRow;
+import Spring_boot_web.I_dont_know.importing.reader.EntityRowReader;
+import Spring_boot_web.I_dont_know.importing.reader.NdJsonEntityRowReader;
+
+@DisplayName("NDJSON entity row reader")
+public final class TestNdJsonEntityRowReader {
+
+    public TestNdJsonEntityRowReader() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Reads the entity in each line")
+    public final void testNext() throws IOException {
+        final List<ImportRow> rows;
+
+        rows = readAll("{\"name\":\"entity_a\"}\n{\"name\":\"entity_b\"}\n");
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals("entity_a", rows.get(0)
+            .getEntity()
+            .getName());
+        Assertions.assertEquals(2L, rows.get(1)
+            .getLine());
+    }
+
+    @Test
+    @DisplayName("Skips blank lines")
+    public final void testNext_BlankLines() throws IOException {
+        final List<ImportRow> rows;
+
+        rows = readAll("\n{\"name\":\"entity_a\"}\n  \n{\"name\":\"entity_b\"}");
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(2L, rows.get(0)
+            .getLine());
+        Assertions.assertEquals(4L, rows.get(1)
+            .getLine());
+    }
+
+    @Test
+    @DisplayName("Rejects malformed lines, and goes on with the next ones")
+    public final void testNext_Malformed() throws IOException {
+        final List<ImportRow> rows;
+
+        rows = readAll("{\"name\":\n{\"name\":\"entity_b\"}\nnull\n");
+
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertFalse(rows.get(0)
+            .getParsed());
+        Assertions.assertEquals(1L, rows.get(0)
+            .getLine());
+        Assertions.assertEquals("entity_b", rows.get(1)
+            .getEntity()
+            .getName());
+        Assertions.assertFalse(rows.get(2)
+            .getParsed());
+    }
+
+    private final List<ImportRow> readAll(final String json) throws IOException {
+        final List<ImportRow> rows;
+        Optional<ImportRow>   row;
+
+        rows = new ArrayList<>();
+        try (EntityRowReader reader = new NdJsonEntityRowReader(
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), new ObjectMapper())) {
+            row = reader.next();
+            while (row.isPresent()) {
+                rows.add(row.get());
+                row = reader.next();
+            }
+        }
+
+        return rows;
+    }
+
+}
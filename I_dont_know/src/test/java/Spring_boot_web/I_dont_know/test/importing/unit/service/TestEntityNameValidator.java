@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.importing.unit.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.importing.service.EntityNameValidator;
+
+@DisplayName("Entity name validator")
+public class TestEntityNameValidator {
+
+    public TestEntityNameValidator() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Rejects missing, too long, stored and repeated names")
+    public void testValidate_Invalid() {
+        final ExampleEntityRepository repository;
+        final EntityNameValidator     validator;
+        final List<String>            result;
+
+        repository = Mockito.mock(ExampleEntityRepository.class);
+        Mockito.when(repository.findNamesIn(ArgumentMatchers.any()))
+            .thenReturn(Arrays.asList("stored"));
+        validator = new EntityNameValidator(repository);
+
+        result = validator.validate(Arrays.asList(entity(" "), entity("a".repeat(51)), entity("stored"),
+            entity("name"), entity("name")));
+
+        Assertions.assertEquals(Arrays.asList("Missing name", "Name longer than 50 characters",
+            "Name already exists", "", "Name repeated"), result);
+    }
+
+    @Test
+    @DisplayName("Doesn't query the stored names when no entity has a name")
+    public void testValidate_NoNames_NotQueried() {
+        final ExampleEntityRepository repository;
+        final EntityNameValidator     validator;
+        final List<String>            result;
+
+        repository = Mockito.mock(ExampleEntityRepository.class);
+        validator = new EntityNameValidator(repository);
+
+        result = validator.validate(Arrays.asList(entity(null)));
+
+        Assertions.assertEquals(Arrays.asList("Missing name"), result);
+        Mockito.verify(repository, Mockito.never())
+            .findNamesIn(ArgumentMatchers.any());
+    }
+
+    private final ExampleEntity entity(final String name) {
+        final ExampleEntity entity;
+
+        entity = new DefaultExampleEntity();
+        entity.setName(name);
+
+        return entity;
+    }
+
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.test.pagination.benchmark.argument;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import Spring_boot_web.I_dont_know.pagination.argument.PaginationArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.argument.SortArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.argument.Sortable;
+import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.ImmutablePagination;
+import Spring_boot_web.I_dont_know.pagination.model.ImmutableSort;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+
+/**
+ * Cost of resolving the pagination and sort for a typical request, {@code page=0&size=20&sort=name,asc}, on a
+ * sortable handler.
+ * <p>
+ * The benchmark profile runs with the GC profiler, and {@code gc.alloc.rate.norm} shows the bytes allocated by each
+ * call. {@code newModel} builds the same pagination and sort from scratch, which is what each request allocated
+ * before they were interned.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ArgumentResolverBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentResolverBenchmark {
+
+    private PaginationArgumentResolver paginationResolver;
+
+    private MethodParameter            paginationParameter;
+
+    private NativeWebRequest           request;
+
+    private SortArgumentResolver       sortResolver;
+
+    private MethodParameter            sortParameter;
+
+    public ArgumentResolverBenchmark() {
+        super();
+    }
+
+    @Sortable({ "name" })
+    public void handler(final Pagination pagination, final Sort sort) {
+        // Only used to build the method parameters
+    }
+
+    @Benchmark
+    public Object newModel() {
+        return new Object[] { new ImmutablePagination(0, 20, true, false),
+                new ImmutableSort(Arrays.asList(Order.of("name", Direction.ASC), Order.of("id", Direction.ASC))) };
+    }
+
+    @Benchmark
+    public Pagination resolvePagination() throws Exception {
+        return paginationResolver.resolveArgument(paginationParameter, null, request, null);
+    }
+
+    @Benchmark
+    public Sort resolveSort() throws Exception {
+        return sortResolver.resolveArgument(sortParameter, null, request, null);
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        final MockHttpServletRequest servletRequest;
+
+        servletRequest = new MockHttpServletRequest();
+        servletRequest.setParameter("page", "0");
+        servletRequest.setParameter("size", "20");
+        servletRequest.setParameter("sort", "name,asc");
+        request = new ServletWebRequest(servletRequest);
+
+        paginationParameter = new MethodParameter(
+            ArgumentResolverBenchmark.class.getMethod("handler", Pagination.class, Sort.class), 0);
+        sortParameter = new MethodParameter(
+            ArgumentResolverBenchmark.class.getMethod("handler", Pagination.class, Sort.class), 1);
+
+        paginationResolver = new PaginationArgumentResolver();
+        sortResolver = new SortArgumentResolver();
+    }
+
+}
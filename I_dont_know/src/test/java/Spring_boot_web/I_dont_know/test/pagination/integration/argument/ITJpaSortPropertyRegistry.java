@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.integration.argument;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.argument.SortPropertyRegistry;
+import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
+
+@IntegrationTest
+@DisplayName("JPA sort property registry")
+public class ITJpaSortPropertyRegistry {
+
+    @Autowired
+    private SortPropertyRegistry registry;
+
+    public ITJpaSortPropertyRegistry() {
+        super();
+    }
+
+    @Test
+    @DisplayName("An entity attribute is sortable")
+    public void testIsSortable_Attribute_Sortable() {
+        Assertions.assertTrue(registry.isSortable(PersistentExampleEntity.class, "name"));
+        Assertions.assertTrue(registry.isSortable("name"));
+    }
+
+    @Test
+    @DisplayName("The id is sortable")
+    public void testIsSortable_Id_Sortable() {
+        Assertions.assertTrue(registry.isSortable(PersistentExampleEntity.class, "id"));
+    }
+
+    @Test
+    @DisplayName("An unknown property is not sortable")
+    public void testIsSortable_Unknown_NotSortable() {
+        Assertions.assertFalse(registry.isSortable(PersistentExampleEntity.class, "abc"));
+        Assertions.assertFalse(registry.isSortable("abc"));
+    }
+
+    @Test
+    @DisplayName("A property of an unknown entity is not sortable")
+    public void testIsSortable_UnknownEntity_NotSortable() {
+        Assertions.assertFalse(registry.isSortable(String.class, "name"));
+    }
+
+    @Test
+    @DisplayName("An interface implemented by an entity is registered")
+    public void testIsRegistered_Interface_Registered() {
+        Assertions.assertTrue(registry.isRegistered(ExampleEntity.class));
+    }
+
+    @Test
+    @DisplayName("A type not related to any entity is not registered")
+    public void testIsRegistered_Unknown_NotRegistered() {
+        Assertions.assertFalse(registry.isRegistered(String.class));
+    }
+
+    @Test
+    @DisplayName("The attributes of an entity are sortable through the interface it implements")
+    public void testIsSortable_Interface_Sortable() {
+        Assertions.assertTrue(registry.isSortable(ExampleEntity.class, "name"));
+        Assertions.assertFalse(registry.isSortable(ExampleEntity.class, "abc"));
+    }
+
+}
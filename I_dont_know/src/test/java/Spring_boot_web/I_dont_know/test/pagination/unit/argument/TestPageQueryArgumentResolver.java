@@ -0,0 +1,198 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.argument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import Spring_boot_web.I_dont_know.pagination.argument.PageQueryArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+
+@DisplayName("Page query argument resolver")
+public class TestPageQueryArgumentResolver {
+
+    private final HandlerMethodArgumentResolver resolver = new PageQueryArgumentResolver();
+
+    public TestPageQueryArgumentResolver() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Builds the query again for deep pages")
+    public void testResolve_DeepPage_NotCached() throws Exception {
+        final Map<String, String[]> parameters;
+        final PageQuery             first;
+        final PageQuery             second;
+
+        parameters = new LinkedHashMap<>();
+        parameters.put("page", new String[] { "500" });
+        parameters.put("size", new String[] { "10" });
+
+        first = resolve(parameters);
+        second = resolve(parameters);
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Returns the same query when receiving the first keyset page again")
+    public void testResolve_FirstCursor_SameInstance() throws Exception {
+        final Map<String, String[]> parameters;
+        final PageQuery             first;
+        final PageQuery             second;
+
+        parameters = new LinkedHashMap<>();
+        parameters.put("cursor", new String[] { "" });
+        parameters.put("size", new String[] { "10" });
+        parameters.put("sort", new String[] { "name,asc" });
+
+        first = resolve(parameters);
+        second = resolve(parameters);
+
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Returns the same query when receiving the same parameters again")
+    public void testResolve_Repeated_SameInstance() throws Exception {
+        final Map<String, String[]> parameters;
+        final PageQuery             first;
+        final PageQuery             second;
+
+        parameters = new LinkedHashMap<>();
+        parameters.put("page", new String[] { "1" });
+        parameters.put("size", new String[] { "10" });
+        parameters.put("sort", new String[] { "name,desc" });
+
+        first = resolve(parameters);
+        second = resolve(parameters);
+
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Returns the pageable for the property and direction parameters")
+    public void testResolve_PropertyDirection_Values() throws Exception {
+        final Map<String, String[]> parameters;
+        final PageQuery             query;
+
+        parameters = new LinkedHashMap<>();
+        parameters.put("property", new String[] { "name" });
+        parameters.put("direction", new String[] { "desc" });
+
+        query = resolve(parameters);
+
+        Assertions.assertEquals(Direction.DESC, query.getSort()
+            .getDirection());
+        Assertions.assertEquals(org.springframework.data.domain.Sort.Direction.DESC, query.getPageable()
+            .getSort()
+            .getOrderFor("name")
+            .getDirection());
+    }
+
+    @Test
+    @DisplayName("Returns the query already resolved for the request")
+    public void testResolve_Stored_SameInstance() throws Exception {
+        final MethodParameter  parameter;
+        final NativeWebRequest webRequest;
+        final PageQuery        stored;
+        final PageQuery        query;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+
+        stored = PageQuery.of(Pagination.of(3, 10), Sort.disabled());
+        Mockito.when(webRequest.getAttribute(PageQueryArgumentResolver.QUERY_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST))
+            .thenReturn(stored);
+
+        query = (PageQuery) resolver.resolveArgument(parameter, null, webRequest, null);
+
+        Assertions.assertSame(stored, query);
+        Mockito.verify(webRequest, Mockito.never())
+            .getParameterMap();
+    }
+
+    @Test
+    @DisplayName("Returns the pageable for the received parameters")
+    public void testResolve_Values() throws Exception {
+        final Map<String, String[]> parameters;
+        final PageQuery             query;
+        final Pageable              pageable;
+
+        parameters = new LinkedHashMap<>();
+        parameters.put("page", new String[] { "2" });
+        parameters.put("size", new String[] { "10" });
+        parameters.put("sort", new String[] { "name,desc" });
+        parameters.put("other", new String[] { "value" });
+
+        query = resolve(parameters);
+        pageable = query.getPageable();
+
+        Assertions.assertEquals(2, query.getPagination()
+            .getPage());
+        Assertions.assertEquals(Direction.DESC, query.getSort()
+            .getDirection());
+        Assertions.assertEquals(20, pageable.getOffset());
+        Assertions.assertEquals(10, pageable.getPageSize());
+        Assertions.assertEquals(org.springframework.data.domain.Sort.Direction.DESC, pageable.getSort()
+            .getOrderFor("name")
+            .getDirection());
+    }
+
+    private final PageQuery resolve(final Map<String, String[]> parameters) throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterMap())
+            .thenReturn(parameters);
+
+        return (PageQuery) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+    }
+
+}
@@ -35,6 +35,7 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import Spring_boot_web.I_dont_know.pagination.argument.PaginationArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.count.EstimatedCount;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
 
 @DisplayName("Pagination argument resolver")
@@ -46,6 +47,107 @@ public class TestPaginationArgumentResolver {
         super();
     }
 
+    @Test
+    @DisplayName("The pagination is not counted when the count is disabled")
+    public void testResolve_CountDisabled_NotCounted() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("page"))
+            .thenReturn("1");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10");
+        Mockito.when(webRequest.getParameter("count"))
+            .thenReturn("false");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertTrue(pagination.getPaged());
+        Assertions.assertFalse(pagination.getCounted());
+    }
+
+    @Test
+    @DisplayName("The pagination is counted by default")
+    public void testResolve_FullPagination_Counted() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("page"))
+            .thenReturn("1");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertTrue(pagination.getCounted());
+    }
+
+    @Test
+    @DisplayName("The pagination uses keyset when receiving a cursor")
+    public void testResolve_Cursor_Keyset() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("cursor"))
+            .thenReturn("abc");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertTrue(pagination.getPaged());
+        Assertions.assertTrue(pagination.getKeyset());
+    }
+
+    @Test
+    @DisplayName("Returns keyset pagination when receiving a cursor")
+    public void testResolve_Cursor_Values() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("cursor"))
+            .thenReturn("abc");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals("abc", pagination.getCursor());
+        Assertions.assertEquals(10, pagination.getSize());
+    }
+
     @Test
     @DisplayName("The pagination can be disabled")
     public void testResolve_Disabled_NotPaged() throws Exception {
@@ -72,6 +174,81 @@ public class TestPaginationArgumentResolver {
         Assertions.assertFalse(pagination.getPaged());
     }
 
+    @Test
+    @DisplayName("The pagination is estimated when the handler allows it")
+    public void testResolve_EstimatedCount_Estimated() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(parameter.hasMethodAnnotation(EstimatedCount.class))
+            .thenReturn(true);
+        Mockito.when(webRequest.getParameter("page"))
+            .thenReturn("1");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertTrue(pagination.getCounted());
+        Assertions.assertTrue(pagination.getEstimated());
+    }
+
+    @Test
+    @DisplayName("The default pagination is estimated when the handler allows it")
+    public void testResolve_EstimatedCount_NoParameters_Estimated() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(parameter.hasMethodAnnotation(EstimatedCount.class))
+            .thenReturn(true);
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(0, pagination.getPage());
+        Assertions.assertEquals(Pagination.DEFAULT_SIZE, pagination.getSize());
+        Assertions.assertTrue(pagination.getEstimated());
+    }
+
+    @Test
+    @DisplayName("The pagination is not estimated by default")
+    public void testResolve_FullPagination_NotEstimated() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("page"))
+            .thenReturn("1");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertFalse(pagination.getEstimated());
+    }
+
     @Test
     @DisplayName("The pagination is paged when receiving all values")
     public void testResolve_FullPagination_Paged() throws Exception {
@@ -146,8 +323,8 @@ public class TestPaginationArgumentResolver {
     }
 
     @Test
-    @DisplayName("Returns pagination when receiving a negative page")
-    public void testResolve_NegativePage_Values() throws Exception {
+    @DisplayName("Returns the first page when receiving a negative page")
+    public void testResolve_NegativePage_FirstPage() throws Exception {
         final MethodParameter       parameter;
         final ModelAndViewContainer mavContainer;
         final NativeWebRequest      webRequest;
@@ -166,7 +343,7 @@ public class TestPaginationArgumentResolver {
 
         pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
 
-        Assertions.assertEquals(-1, pagination.getPage());
+        Assertions.assertEquals(0, pagination.getPage());
         Assertions.assertEquals(1, pagination.getSize());
     }
 
@@ -347,6 +524,54 @@ public class TestPaginationArgumentResolver {
         Assertions.assertTrue(pagination.getPaged());
     }
 
+    @Test
+    @DisplayName("Returns the maximum size when receiving a size above it")
+    public void testResolve_SizeAboveMax_MaxSize() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("page"))
+            .thenReturn("1");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10000000");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(Pagination.MAX_SIZE, pagination.getSize());
+    }
+
+    @Test
+    @DisplayName("Returns the maximum size when receiving a keyset size above it")
+    public void testResolve_SizeAboveMax_Cursor_MaxSize() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Pagination            pagination;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("cursor"))
+            .thenReturn("");
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("10000000");
+
+        pagination = (Pagination) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(Pagination.MAX_SIZE, pagination.getSize());
+    }
+
     @Test
     @DisplayName("Returns pagination with default size when receiving a size value of zero")
     public void testResolve_ZeroSize_DefaultValues() throws Exception {
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.Mockito;
 import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -46,6 +47,30 @@ public class TestPaginationArgumentResolverError {
         super();
     }
 
+    @Test
+    @DisplayName("Throws an exception when the page offset is out of range")
+    public void testResolve_OffsetOverflow_Exception() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Executable            executable;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameter("page"))
+            .thenReturn(String.valueOf(Integer.MAX_VALUE));
+        Mockito.when(webRequest.getParameter("size"))
+            .thenReturn("100");
+
+        executable = () -> resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertThrows(ServletRequestBindingException.class, executable);
+    }
+
     @Test
     @DisplayName("Throws an exception when receiving a text for page")
     public void testResolve_StringPage_Exception() throws Exception {
@@ -35,7 +35,9 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import Spring_boot_web.I_dont_know.pagination.argument.SortArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.argument.Sortable;
 import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
 
 @DisplayName("Sort argument resolver")
@@ -279,6 +281,56 @@ public class TestSortArgumentResolver {
         Assertions.assertEquals(Direction.ASC, sort.getDirection());
     }
 
+    @Test
+    @DisplayName("Returns all the orders when receiving multiple sorts")
+    public void testResolve_MultipleSort_Values() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sort                  sort;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterValues("sort"))
+            .thenReturn(new String[] { "name,desc", "id,asc" });
+
+        sort = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(2, sort.getOrders()
+            .size());
+        Assertions.assertEquals(Order.of("name", Direction.DESC), sort.getOrders()
+            .get(0));
+        Assertions.assertEquals(Order.of("id", Direction.ASC), sort.getOrders()
+            .get(1));
+    }
+
+    @Test
+    @DisplayName("Returns the default direction when a sort has no direction")
+    public void testResolve_MultipleSort_NoDirection_DefaultDirection() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sort                  sort;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterValues("sort"))
+            .thenReturn(new String[] { "name" });
+
+        sort = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals("name", sort.getProperty());
+        Assertions.assertEquals(Direction.ASC, sort.getDirection());
+    }
+
     @Test
     @DisplayName("Returns the default direction when no direction is received")
     public void testResolve_NoDirection_DefaultDirection() throws Exception {
@@ -343,4 +395,166 @@ public class TestSortArgumentResolver {
         Assertions.assertFalse(sort.getSorted());
     }
 
+    @Test
+    @DisplayName("Returns the same sort when receiving the same sort parameter again")
+    public void testResolve_SameSort_SameInstance() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sort                  first;
+        final Sort                  second;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(parameter.getMethod())
+            .thenReturn(Object.class.getMethod("toString"));
+
+        Mockito.when(webRequest.getParameterValues("sort"))
+            .thenReturn(new String[] { "name,desc" });
+
+        first = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        second = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(Order.of("name", Direction.DESC), second.getOrders()
+            .get(0));
+    }
+
+    @Test
+    @DisplayName("Returns the same sort when receiving the same property and direction again")
+    public void testResolve_SameProperty_SameInstance() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sort                  first;
+        final Sort                  second;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(parameter.getMethod())
+            .thenReturn(Object.class.getMethod("toString"));
+
+        Mockito.when(webRequest.getParameter("property"))
+            .thenReturn("name");
+        Mockito.when(webRequest.getParameter("direction"))
+            .thenReturn("desc");
+
+        first = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        second = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(Order.of("name", Direction.DESC), second.getOrders()
+            .get(0));
+    }
+
+    @Test
+    @DisplayName("Keeps the directions apart when caching the same property")
+    public void testResolve_SameProperty_OtherDirection_Kept() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sort                  sort;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(parameter.getMethod())
+            .thenReturn(Object.class.getMethod("hashCode"));
+
+        Mockito.when(webRequest.getParameter("property"))
+            .thenReturn("name");
+        Mockito.when(webRequest.getParameter("direction"))
+            .thenReturn("desc");
+
+        resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Mockito.when(webRequest.getParameter("direction"))
+            .thenReturn("asc");
+
+        sort = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(Direction.ASC, sort.getDirection());
+    }
+
+    @Test
+    @DisplayName("Appends the tie-breaker to sortable endpoints, in the last direction")
+    public void testResolve_Sortable_TieBreakerAppended() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sortable              sortable;
+        final Sort                  sort;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        sortable = Mockito.mock(Sortable.class);
+
+        Mockito.when(sortable.value())
+            .thenReturn(new String[] { "name" });
+        Mockito.when(sortable.tieBreaker())
+            .thenReturn("id");
+        Mockito.when(parameter.getMethodAnnotation(Sortable.class))
+            .thenReturn(sortable);
+
+        Mockito.when(webRequest.getParameterValues("sort"))
+            .thenReturn(new String[] { "name,desc" });
+
+        sort = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(2, sort.getOrders()
+            .size());
+        Assertions.assertEquals(Order.of("id", Direction.DESC), sort.getOrders()
+            .get(1));
+    }
+
+    @Test
+    @DisplayName("Does not append the tie-breaker when already sorting by it")
+    public void testResolve_Sortable_TieBreakerIncluded_NotDuplicated() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Sortable              sortable;
+        final Sort                  sort;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        sortable = Mockito.mock(Sortable.class);
+
+        Mockito.when(sortable.value())
+            .thenReturn(new String[] { "name" });
+        Mockito.when(sortable.tieBreaker())
+            .thenReturn("id");
+        Mockito.when(parameter.getMethodAnnotation(Sortable.class))
+            .thenReturn(sortable);
+
+        Mockito.when(webRequest.getParameterValues("sort"))
+            .thenReturn(new String[] { "id,asc", "name,desc" });
+
+        sort = (Sort) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertEquals(2, sort.getOrders()
+            .size());
+        Assertions.assertEquals(Order.of("id", Direction.ASC), sort.getOrders()
+            .get(0));
+    }
+
 }
@@ -0,0 +1,228 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.argument;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.method.HandlerMethod;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.argument.SortPropertyRegistry;
+import Spring_boot_web.I_dont_know.pagination.argument.SortValidationInterceptor;
+import Spring_boot_web.I_dont_know.pagination.argument.Sortable;
+
+@DisplayName("Sort validation interceptor")
+public class TestSortValidationInterceptor {
+
+    public static final class Handlers {
+
+        public final List<? extends ExampleEntity> entities() {
+            return Collections.emptyList();
+        }
+
+        public final ResponseEntity<Iterable<ExampleEntity>> entityResponse() {
+            return ResponseEntity.ok(Collections.emptyList());
+        }
+
+        public final void notSortable() {}
+
+        @Sortable({ "name" })
+        public final void sortable() {}
+
+    }
+
+    private final SortValidationInterceptor interceptor;
+
+    private final SortPropertyRegistry      registry;
+
+    public TestSortValidationInterceptor() {
+        super();
+
+        registry = Mockito.mock(SortPropertyRegistry.class);
+        Mockito.when(registry.isSortable(Mockito.anyString()))
+            .thenReturn(false);
+        Mockito.when(registry.isSortable("name"))
+            .thenReturn(true);
+        Mockito.when(registry.isSortable("description"))
+            .thenReturn(true);
+        Mockito.when(registry.isRegistered(ExampleEntity.class))
+            .thenReturn(true);
+        Mockito.when(registry.isSortable(ExampleEntity.class, "name"))
+            .thenReturn(true);
+
+        interceptor = new SortValidationInterceptor(registry);
+    }
+
+    @Test
+    @DisplayName("Rejects properties not declared as sortable")
+    public void testPreHandle_Sortable_NotDeclared_Rejected() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("sort", "name,asc", "description,desc");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("sortable"));
+
+        Assertions.assertFalse(result);
+        Assertions.assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Accepts the declared properties and the tie-breaker")
+    public void testPreHandle_Sortable_TieBreaker_Accepted() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("sort", "name,asc", "id,desc");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("sortable"));
+
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Accepts requests with sorting disabled")
+    public void testPreHandle_SortDisabled_Accepted() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("sorted", "false");
+        request.addParameter("property", "abc");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("notSortable"));
+
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Accepts properties in the registry")
+    public void testPreHandle_Registered_Accepted() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("property", "name");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("notSortable"));
+
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Rejects properties not in the registry with a bad request")
+    public void testPreHandle_Unknown_Rejected() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("property", "abc");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("notSortable"));
+
+        Assertions.assertFalse(result);
+        Assertions.assertEquals(400, response.getStatus());
+        Assertions.assertEquals("{\"content\":\"Invalid sort property\"}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Accepts the properties of the entity returned by the handler")
+    public void testPreHandle_EntityType_Accepted() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("property", "name");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("entities"));
+
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Rejects properties which belong to another entity than the one returned by the handler")
+    public void testPreHandle_EntityType_OtherEntity_Rejected() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("property", "description");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("entities"));
+
+        Assertions.assertFalse(result);
+        Assertions.assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Takes the entity from the body of a response entity")
+    public void testPreHandle_ResponseEntity_OtherEntity_Rejected() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest();
+        request.addParameter("property", "description");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("entityResponse"));
+
+        Assertions.assertFalse(result);
+    }
+
+    private final HandlerMethod getHandler(final String name) throws NoSuchMethodException {
+        final Method method;
+
+        method = Handlers.class.getMethod(name);
+
+        return new HandlerMethod(new Handlers(), method);
+    }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.count;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.count.CountCache;
+import Spring_boot_web.I_dont_know.pagination.count.InMemoryCountCache;
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteOperation;
+
+@DisplayName("In-memory count cache")
+public class TestInMemoryCountCache {
+
+    public TestInMemoryCountCache() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Returns the cached count")
+    public void testGet_Cached() {
+        final InMemoryCountCache cache;
+        final Optional<Long>     result;
+
+        cache = new InMemoryCountCache(Duration.ofMinutes(1));
+        cache.put(PersistentExampleEntity.class, CountCache.UNFILTERED, 10L);
+
+        result = cache.get(PersistentExampleEntity.class, CountCache.UNFILTERED);
+
+        Assertions.assertEquals(Optional.of(10L), result);
+    }
+
+    @Test
+    @DisplayName("Returns nothing for expired counts")
+    public void testGet_Expired_Empty() {
+        final InMemoryCountCache cache;
+        final Optional<Long>     result;
+
+        cache = new InMemoryCountCache(Duration.ZERO);
+        cache.put(PersistentExampleEntity.class, CountCache.UNFILTERED, 10L);
+
+        result = cache.get(PersistentExampleEntity.class, CountCache.UNFILTERED);
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Returns nothing for other filters")
+    public void testGet_OtherFilter_Empty() {
+        final InMemoryCountCache cache;
+        final Optional<Long>     result;
+
+        cache = new InMemoryCountCache(Duration.ofMinutes(1));
+        cache.put(PersistentExampleEntity.class, CountCache.UNFILTERED, 10L);
+
+        result = cache.get(PersistentExampleEntity.class, "name=abc");
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Inserting an entity invalidates the count")
+    public void testOnEntityWrite_Insert_Invalidated() {
+        final InMemoryCountCache cache;
+        final Optional<Long>     result;
+
+        cache = new InMemoryCountCache(Duration.ofMinutes(1));
+        cache.put(PersistentExampleEntity.class, CountCache.UNFILTERED, 10L);
+
+        cache.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.INSERT));
+
+        result = cache.get(PersistentExampleEntity.class, CountCache.UNFILTERED);
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Updating an entity keeps the count")
+    public void testOnEntityWrite_Update_Kept() {
+        final InMemoryCountCache cache;
+        final Optional<Long>     result;
+
+        cache = new InMemoryCountCache(Duration.ofMinutes(1));
+        cache.put(PersistentExampleEntity.class, CountCache.UNFILTERED, 10L);
+
+        cache.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.UPDATE));
+
+        result = cache.get(PersistentExampleEntity.class, CountCache.UNFILTERED);
+
+        Assertions.assertEquals(Optional.of(10L), result);
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.model;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+
+@DisplayName("Interned pagination and sort")
+public class TestInternedModel {
+
+    public TestInternedModel() {
+        super();
+    }
+
+    @Test
+    @DisplayName("The first keyset page is interned")
+    public void testCursor_First_SameInstance() {
+        Assertions.assertSame(Pagination.cursor("", 20), Pagination.cursor(""));
+    }
+
+    @Test
+    @DisplayName("A common page is interned")
+    public void testOf_CommonPage_SameInstance() {
+        Assertions.assertSame(Pagination.of(0, 20), Pagination.of(0, 20, true, false));
+        Assertions.assertSame(Pagination.first(), Pagination.of(0));
+    }
+
+    @Test
+    @DisplayName("The flags are kept apart when interning")
+    public void testOf_Flags_Values() {
+        final Pagination pagination;
+
+        pagination = Pagination.of(1, 10, false, true);
+
+        Assertions.assertEquals(1, pagination.getPage());
+        Assertions.assertEquals(10, pagination.getSize());
+        Assertions.assertFalse(pagination.getCounted());
+        Assertions.assertTrue(pagination.getEstimated());
+        Assertions.assertNotSame(Pagination.of(1, 10, true, true), pagination);
+    }
+
+    @Test
+    @DisplayName("A deep page is built with the received values")
+    public void testOf_DeepPage_Values() {
+        final Pagination pagination;
+
+        pagination = Pagination.of(1000, 500);
+
+        Assertions.assertEquals(1000, pagination.getPage());
+        Assertions.assertEquals(500, pagination.getSize());
+        Assertions.assertEquals(pagination, Pagination.of(1000, 500));
+    }
+
+    @Test
+    @DisplayName("A single key sort is interned by direction")
+    public void testSort_SameInstance() {
+        Assertions.assertSame(Sort.asc("name"), Sort.of("name", Direction.ASC));
+        Assertions.assertSame(Sort.desc("name"), Sort.of("name", Direction.DESC));
+        Assertions.assertEquals(Direction.DESC, Sort.desc("name")
+            .getDirection());
+    }
+
+    @Test
+    @DisplayName("A sort with several keys is interned")
+    public void testSort_MultipleKeys_SameInstance() {
+        final Sort first;
+        final Sort second;
+
+        first = Sort.of(Arrays.asList(Order.of("name", Direction.ASC), Order.of("id", Direction.ASC)));
+        second = Sort.of(Arrays.asList(Order.of("name", Direction.ASC), Order.of("id", Direction.ASC)));
+
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("A sort with a single key received as a list is the interned single key sort")
+    public void testSort_SingleKeyList_SameInstance() {
+        Assertions.assertSame(Sort.desc("name"), Sort.of(Arrays.asList(Order.of("name", Direction.DESC))));
+    }
+
+}
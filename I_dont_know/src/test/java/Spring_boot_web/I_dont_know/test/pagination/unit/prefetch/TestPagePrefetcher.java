@@ -0,0 +1,217 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.prefetch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.model.DefaultPageIterable;
+import Spring_boot_web.I_dont_know.pagination.model.DisabledSort;
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.prefetch.PagePrefetcher;
+import Spring_boot_web.I_dont_know.pagination.prefetch.PrefetchStatistics;
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteOperation;
+
+@DisplayName("Page prefetcher")
+public class TestPagePrefetcher {
+
+    public TestPagePrefetcher() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Expired prefetched pages are read again and counted as wasted")
+    public void testGetPage_Expired_Wasted() {
+        final PrefetchStatistics     statistics;
+        final PagePrefetcher<Object> prefetcher;
+        final Collection<Pagination> loaded;
+        final Sort                   sort;
+
+        statistics = new PrefetchStatistics();
+        prefetcher = new PagePrefetcher<>(PersistentExampleEntity.class, Executors.newSingleThreadExecutor(), 10,
+            Duration.ZERO, statistics);
+        loaded = new ArrayList<>();
+        sort = DisabledSort.INSTANCE;
+
+        prefetcher.getPage(Pagination.of(0), sort, (p, s) -> load(loaded, p, true));
+        prefetcher.getPage(Pagination.of(1), sort, (p, s) -> load(loaded, p, true));
+
+        Assertions.assertEquals(0L, statistics.getHits());
+        Assertions.assertEquals(2L, statistics.getMisses());
+        Assertions.assertEquals(1L, statistics.getWasted());
+    }
+
+    @Test
+    @DisplayName("The next page is served from the prefetched ones")
+    public void testGetPage_Next_Hit() {
+        final PrefetchStatistics     statistics;
+        final PagePrefetcher<Object> prefetcher;
+        final Collection<Pagination> loaded;
+        final Sort                   sort;
+        final PageIterable<Object>   page;
+
+        statistics = new PrefetchStatistics();
+        prefetcher = new PagePrefetcher<>(PersistentExampleEntity.class, Executors.newSingleThreadExecutor(), 10,
+            Duration.ofMinutes(1), statistics);
+        loaded = new ArrayList<>();
+        sort = DisabledSort.INSTANCE;
+
+        prefetcher.getPage(Pagination.of(0), sort, (p, s) -> load(loaded, p, true));
+        page = prefetcher.getPage(Pagination.of(1), sort, (p, s) -> {
+            throw new IllegalStateException("Page should be prefetched");
+        });
+
+        Assertions.assertEquals(1, page.getPageNumber());
+        Assertions.assertEquals(1L, statistics.getHits());
+        Assertions.assertEquals(1L, statistics.getMisses());
+        Assertions.assertEquals(0L, statistics.getWasted());
+    }
+
+    @Test
+    @DisplayName("The next keyset page is prefetched from the next cursor")
+    public void testGetPage_NextCursor_Hit() {
+        final PrefetchStatistics     statistics;
+        final PagePrefetcher<Object> prefetcher;
+        final Collection<Pagination> loaded;
+        final Sort                   sort;
+
+        statistics = new PrefetchStatistics();
+        prefetcher = new PagePrefetcher<>(PersistentExampleEntity.class, Executors.newSingleThreadExecutor(), 10,
+            Duration.ofMinutes(1), statistics);
+        loaded = new ArrayList<>();
+        sort = DisabledSort.INSTANCE;
+
+        prefetcher.getPage(Pagination.cursor("", 10), sort, (p, s) -> load(loaded, p, true));
+        prefetcher.getPage(Pagination.cursor("next", 10), sort, (p, s) -> load(loaded, p, true));
+
+        Assertions.assertEquals(1L, statistics.getHits());
+        Assertions.assertEquals(1L, statistics.getMisses());
+    }
+
+    @Test
+    @DisplayName("Nothing is prefetched after the last page")
+    public void testGetPage_NoNext_Miss() {
+        final PrefetchStatistics     statistics;
+        final PagePrefetcher<Object> prefetcher;
+        final Collection<Pagination> loaded;
+        final Sort                   sort;
+
+        statistics = new PrefetchStatistics();
+        prefetcher = new PagePrefetcher<>(PersistentExampleEntity.class, Executors.newSingleThreadExecutor(), 10,
+            Duration.ofMinutes(1), statistics);
+        loaded = new ArrayList<>();
+        sort = DisabledSort.INSTANCE;
+
+        prefetcher.getPage(Pagination.of(0), sort, (p, s) -> load(loaded, p, false));
+        prefetcher.getPage(Pagination.of(1), sort, (p, s) -> load(loaded, p, false));
+
+        Assertions.assertEquals(0L, statistics.getHits());
+        Assertions.assertEquals(2L, statistics.getMisses());
+        Assertions.assertEquals(2, loaded.size());
+    }
+
+    @Test
+    @DisplayName("Writing an entity discards the prefetched pages")
+    public void testOnEntityWrite_Wasted() {
+        final PrefetchStatistics     statistics;
+        final PagePrefetcher<Object> prefetcher;
+        final Collection<Pagination> loaded;
+        final Sort                   sort;
+
+        statistics = new PrefetchStatistics();
+        prefetcher = new PagePrefetcher<>(PersistentExampleEntity.class, Executors.newSingleThreadExecutor(), 10,
+            Duration.ofMinutes(1), statistics);
+        loaded = new ArrayList<>();
+        sort = DisabledSort.INSTANCE;
+
+        prefetcher.getPage(Pagination.of(0), sort, (p, s) -> load(loaded, p, true));
+        prefetcher.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.UPDATE));
+        prefetcher.getPage(Pagination.of(1), sort, (p, s) -> load(loaded, p, false));
+
+        Assertions.assertEquals(0L, statistics.getHits());
+        Assertions.assertEquals(2L, statistics.getMisses());
+        Assertions.assertEquals(1L, statistics.getWasted());
+    }
+
+    @Test
+    @DisplayName("Pages prefetched inside the writing transaction are discarded when it completes")
+    public void testOnEntityWrite_Transaction_WastedOnCompletion() {
+        final PrefetchStatistics     statistics;
+        final PagePrefetcher<Object> prefetcher;
+        final Collection<Pagination> loaded;
+        final Sort                   sort;
+
+        statistics = new PrefetchStatistics();
+        prefetcher = new PagePrefetcher<>(PersistentExampleEntity.class, Executors.newSingleThreadExecutor(), 10,
+            Duration.ofMinutes(1), statistics);
+        loaded = new ArrayList<>();
+        sort = DisabledSort.INSTANCE;
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            prefetcher.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.INSERT));
+            prefetcher.getPage(Pagination.of(0), sort, (p, s) -> load(loaded, p, true));
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(t -> t.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        prefetcher.getPage(Pagination.of(1), sort, (p, s) -> load(loaded, p, false));
+
+        Assertions.assertEquals(0L, statistics.getHits());
+        Assertions.assertEquals(2L, statistics.getMisses());
+        Assertions.assertEquals(1L, statistics.getWasted());
+    }
+
+    private final PageIterable<Object> load(final Collection<Pagination> loaded, final Pagination pagination,
+            final Boolean hasNext) {
+        final DefaultPageIterable<Object> page;
+
+        synchronized (loaded) {
+            loaded.add(pagination);
+        }
+
+        page = new DefaultPageIterable<>();
+        page.setPageNumber(pagination.getPage());
+        page.setHasNext(hasNext);
+        page.setNextCursor("next");
+
+        return page;
+    }
+
+}
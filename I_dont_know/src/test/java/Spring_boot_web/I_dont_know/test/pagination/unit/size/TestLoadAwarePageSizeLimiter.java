@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.size;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.pagination.size.LoadAwarePageSizeLimiter;
+import Spring_boot_web.I_dont_know.pagination.size.PageLoadTracker;
+import Spring_boot_web.I_dont_know.pagination.size.PageSizeLimiter;
+import Spring_boot_web.I_dont_know.pagination.size.PageSizeLimits;
+
+@DisplayName("Load aware page size limiter")
+public class TestLoadAwarePageSizeLimiter {
+
+    private final Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    public TestLoadAwarePageSizeLimiter() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Sizes above the maximum are reduced to it")
+    public void testLimit_AboveMax_Max() {
+        final PageSizeLimiter limiter;
+
+        limiter = new LoadAwarePageSizeLimiter(getLimits(false), new PageLoadTracker(), () -> 0d, clock);
+
+        Assertions.assertEquals(100, limiter.limit(10000000));
+    }
+
+    @Test
+    @DisplayName("Sizes are reduced to fit the byte budget")
+    public void testLimit_ByteBudget_Reduced() {
+        final PageSizeLimits  limits;
+        final PageLoadTracker tracker;
+        final PageSizeLimiter limiter;
+
+        limits = getLimits(false);
+        limits.setMaxBytes(1000L);
+        tracker = new PageLoadTracker();
+        tracker.recordPage(10, 500);
+
+        limiter = new LoadAwarePageSizeLimiter(limits, tracker, () -> 0d, clock);
+
+        Assertions.assertEquals(20, limiter.limit(50));
+    }
+
+    @Test
+    @DisplayName("Sizes are reduced when the latency is too high")
+    public void testLimit_HighLatency_Reduced() {
+        final PageLoadTracker tracker;
+        final PageSizeLimiter limiter;
+
+        tracker = new PageLoadTracker();
+        tracker.recordLatency(1000);
+
+        limiter = new LoadAwarePageSizeLimiter(getLimits(true), tracker, () -> 0d, clock);
+
+        Assertions.assertEquals(50, limiter.limit(100));
+    }
+
+    @Test
+    @DisplayName("Sizes are reduced when the connection pool is saturated")
+    public void testLimit_HighSaturation_Reduced() {
+        final PageSizeLimiter limiter;
+
+        limiter = new LoadAwarePageSizeLimiter(getLimits(true), new PageLoadTracker(), () -> 1d, clock);
+
+        Assertions.assertEquals(50, limiter.limit(100));
+    }
+
+    @Test
+    @DisplayName("Sizes are not reduced below the minimum")
+    public void testLimit_HighSaturation_Repeated_Min() {
+        final PageSizeLimits  limits;
+        final PageSizeLimiter limiter;
+
+        limits = getLimits(true);
+        limits.setEvaluationInterval(Duration.ZERO);
+
+        limiter = new LoadAwarePageSizeLimiter(limits, new PageLoadTracker(), () -> 1d, clock);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(100);
+        }
+
+        Assertions.assertEquals(10, limiter.limit(100));
+    }
+
+    @Test
+    @DisplayName("Sizes are not reduced under low load")
+    public void testLimit_LowLoad_NotReduced() {
+        final PageLoadTracker tracker;
+        final PageSizeLimiter limiter;
+
+        tracker = new PageLoadTracker();
+        tracker.recordLatency(10);
+
+        limiter = new LoadAwarePageSizeLimiter(getLimits(true), tracker, () -> 0.1, clock);
+
+        Assertions.assertEquals(100, limiter.limit(100));
+    }
+
+    @Test
+    @DisplayName("Sizes below the maximum are kept")
+    public void testLimit_UnderMax_Kept() {
+        final PageSizeLimiter limiter;
+
+        limiter = new LoadAwarePageSizeLimiter(getLimits(false), new PageLoadTracker(), () -> 0d, clock);
+
+        Assertions.assertEquals(10, limiter.limit(10));
+    }
+
+    private final PageSizeLimits getLimits(final Boolean adaptive) {
+        final PageSizeLimits limits;
+
+        limits = new PageSizeLimits();
+        limits.setAdaptive(adaptive);
+        limits.setMaxSize(100);
+        limits.setMinSize(10);
+        limits.setLatencyThreshold(Duration.ofMillis(500));
+        limits.setSaturationThreshold(0.8);
+
+        return limits;
+    }
+
+}
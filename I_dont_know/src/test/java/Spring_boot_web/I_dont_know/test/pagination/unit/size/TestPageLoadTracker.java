@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.size;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.pagination.size.PageLoadTracker;
+
+@DisplayName("Page load tracker")
+public class TestPageLoadTracker {
+
+    public TestPageLoadTracker() {
+        super();
+    }
+
+    @Test
+    @DisplayName("The average row size is zero before recording pages")
+    public void testGetAverageRowBytes_Empty_Zero() {
+        Assertions.assertEquals(0d, new PageLoadTracker().getAverageRowBytes());
+    }
+
+    @Test
+    @DisplayName("The average row size is taken from the first page")
+    public void testGetAverageRowBytes_FirstPage() {
+        final PageLoadTracker tracker;
+
+        tracker = new PageLoadTracker();
+        tracker.recordPage(10, 1000);
+
+        Assertions.assertEquals(100d, tracker.getAverageRowBytes());
+    }
+
+    @Test
+    @DisplayName("The latency percentile is zero before recording requests")
+    public void testGetLatencyPercentile_Empty_Zero() {
+        Assertions.assertEquals(0, new PageLoadTracker().getLatencyPercentile(0.99));
+    }
+
+    @Test
+    @DisplayName("Returns the median latency")
+    public void testGetLatencyPercentile_Median() {
+        final PageLoadTracker tracker;
+
+        tracker = new PageLoadTracker();
+        for (int i = 1; i <= 100; i++) {
+            tracker.recordLatency(i);
+        }
+
+        Assertions.assertEquals(50, tracker.getLatencyPercentile(0.5));
+    }
+
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.utils;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.model.Cursor;
+import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.utils.Cursors;
+import Spring_boot_web.I_dont_know.pagination.utils.InvalidCursorException;
+
+@DisplayName("Cursor utils")
+public class TestCursors {
+
+    public TestCursors() {
+        super();
+    }
+
+    @Test
+    @DisplayName("An empty token points to the first page")
+    public void testDecode_Empty_First() {
+        final Cursor cursor;
+
+        cursor = Cursors.decode("", Sort.asc("name"));
+
+        Assertions.assertTrue(cursor.getFirst());
+        Assertions.assertTrue(cursor.getForward());
+        Assertions.assertEquals("name", cursor.getProperty());
+    }
+
+    @Test
+    @DisplayName("Throws an exception when receiving an invalid token")
+    public void testDecode_Invalid_Exception() {
+        final Executable executable;
+
+        executable = () -> Cursors.decode("abc", Sort.asc("name"));
+
+        Assertions.assertThrows(InvalidCursorException.class, executable);
+    }
+
+    @Test
+    @DisplayName("Throws an exception when the token was created for another sort")
+    public void testDecode_OtherSort_Exception() {
+        final String     token;
+        final Executable executable;
+
+        token = Cursors.encode(Cursor.of("name", Direction.ASC, "entity_01", 1, true));
+
+        executable = () -> Cursors.decode(token, Sort.desc("name"));
+
+        Assertions.assertThrows(InvalidCursorException.class, executable);
+    }
+
+    @Test
+    @DisplayName("Decoding an encoded cursor returns the same values")
+    public void testEncode_Decode_Values() {
+        final String token;
+        final Cursor cursor;
+
+        token = Cursors.encode(Cursor.of("name", Direction.DESC, "entity_01", 1, false));
+
+        cursor = Cursors.decode(token, Sort.desc("name"));
+
+        Assertions.assertFalse(cursor.getFirst());
+        Assertions.assertFalse(cursor.getForward());
+        Assertions.assertEquals("name", cursor.getProperty());
+        Assertions.assertEquals(Direction.DESC, cursor.getDirection());
+        Assertions.assertEquals("entity_01", cursor.getValue());
+        Assertions.assertEquals(1, cursor.getId());
+    }
+
+    @Test
+    @DisplayName("A cursor created from a row points to that row")
+    public void testFrom_Values() {
+        final DefaultExampleEntity entity;
+        final Cursor               cursor;
+
+        entity = new DefaultExampleEntity();
+        entity.setId(5);
+        entity.setName("entity_05");
+
+        cursor = Cursors.decode(Cursors.from(entity, Sort.asc("name"), true), Sort.asc("name"));
+
+        Assertions.assertEquals("entity_05", cursor.getValue());
+        Assertions.assertEquals(5, cursor.getId());
+        Assertions.assertTrue(cursor.getForward());
+    }
+
+    @Test
+    @DisplayName("Without sort, keyset pagination is sorted by id")
+    public void testToKeysetSort_Disabled_Id() {
+        final Sort sort;
+
+        sort = Cursors.toKeysetSort(Sort.disabled());
+
+        Assertions.assertEquals("id", sort.getProperty());
+        Assertions.assertEquals(Direction.ASC, sort.getDirection());
+    }
+
+    @Test
+    @DisplayName("Keyset pagination rejects sorting by several keys")
+    public void testToKeysetSort_MultipleKeys_Exception() {
+        final Sort       sort;
+        final Executable executable;
+
+        sort = Sort.of(Arrays.asList(Order.of("name", Direction.ASC), Order.of("description", Direction.ASC),
+            Order.of("id", Direction.ASC)));
+
+        executable = () -> Cursors.toKeysetSort(sort);
+
+        Assertions.assertThrows(InvalidCursorException.class, executable);
+    }
+
+    @Test
+    @DisplayName("Keyset pagination rejects an id tie-breaker in the opposite direction")
+    public void testToKeysetSort_TieBreakerOtherDirection_Exception() {
+        final Sort       sort;
+        final Executable executable;
+
+        sort = Sort.of(Arrays.asList(Order.of("name", Direction.ASC), Order.of("id", Direction.DESC)));
+
+        executable = () -> Cursors.toKeysetSort(sort);
+
+        Assertions.assertThrows(InvalidCursorException.class, executable);
+    }
+
+    @Test
+    @DisplayName("Keyset pagination accepts a single key followed by the id tie-breaker")
+    public void testToKeysetSort_TieBreaker_FirstKey() {
+        final Sort sort;
+
+        sort = Cursors.toKeysetSort(
+            Sort.of(Arrays.asList(Order.of("name", Direction.DESC), Order.of("id", Direction.DESC))));
+
+        Assertions.assertEquals("name", sort.getProperty());
+        Assertions.assertEquals(Direction.DESC, sort.getDirection());
+    }
+
+}
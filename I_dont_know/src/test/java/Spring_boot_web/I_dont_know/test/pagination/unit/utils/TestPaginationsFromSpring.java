@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.pagination.unit.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+
+@DisplayName("Pagination utils - Spring model to pagination")
+public class TestPaginationsFromSpring {
+
+    public TestPaginationsFromSpring() {
+        super();
+    }
+
+    @Test
+    @DisplayName("An estimation is flagged as approximate")
+    public void testFromSpring_Estimated_Approximate() {
+        final Slice<String>        slice;
+        final PageIterable<String> result;
+
+        slice = new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2), true);
+
+        result = Paginations.fromSpring(slice, 100L, true);
+
+        Assertions.assertTrue(result.isApproximate());
+        Assertions.assertEquals(100, result.getTotalElements());
+        Assertions.assertEquals(50, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("An estimation under the elements read before the last page is corrected")
+    public void testFromSpring_Estimated_LastPageUnderestimated() {
+        final Slice<String>        slice;
+        final PageIterable<String> result;
+
+        slice = new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(2, 2), false);
+
+        result = Paginations.fromSpring(slice, 1L, true);
+
+        Assertions.assertEquals(6, result.getTotalElements());
+        Assertions.assertEquals(3, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("An estimation under the elements read is corrected")
+    public void testFromSpring_Estimated_Underestimated() {
+        final Slice<String>        slice;
+        final PageIterable<String> result;
+
+        slice = new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(2, 2), true);
+
+        result = Paginations.fromSpring(slice, 1L, true);
+
+        Assertions.assertEquals(7, result.getTotalElements());
+        Assertions.assertEquals(4, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("A known count is not flagged as approximate")
+    public void testFromSpring_KnownCount_NotApproximate() {
+        final List<String>         content;
+        final Slice<String>        slice;
+        final PageIterable<String> result;
+
+        content = Arrays.asList("a", "b");
+        slice = new SliceImpl<>(content, PageRequest.of(0, 2), true);
+
+        result = Paginations.fromSpring(slice, 4L);
+
+        Assertions.assertFalse(result.isApproximate());
+        Assertions.assertEquals(4, result.getTotalElements());
+        Assertions.assertEquals(2, result.getTotalPages());
+    }
+
+}
@@ -24,12 +24,16 @@
 
 package Spring_boot_web.I_dont_know.test.pagination.unit.utils;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Pageable;
 
 import Spring_boot_web.I_dont_know.pagination.model.Direction;
+import Spring_boot_web.I_dont_know.pagination.model.Order;
 import Spring_boot_web.I_dont_know.pagination.model.Pagination;
 import Spring_boot_web.I_dont_know.pagination.model.Sort;
 import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
@@ -374,4 +378,30 @@ public class TestPaginationsToSpring {
             .isSorted());
     }
 
+    @Test
+    @DisplayName("Applies all the orders, in the same order, for a multiple sort")
+    public void testSort_MultipleOrders_SortValues() {
+        final Pagination                                       pagination;
+        final Sort                                             sort;
+        final Pageable                                         result;
+        final List<org.springframework.data.domain.Sort.Order> orders;
+
+        pagination = Pagination.of(0, 10);
+        sort = Sort.of(Arrays.asList(Order.of("name", Direction.DESC), Order.of("id", Direction.ASC)));
+
+        result = Paginations.toSpring(pagination, sort);
+
+        orders = result.getSort()
+            .toList();
+        Assertions.assertEquals(2, orders.size());
+        Assertions.assertEquals("name", orders.get(0)
+            .getProperty());
+        Assertions.assertEquals(org.springframework.data.domain.Sort.Direction.DESC, orders.get(0)
+            .getDirection());
+        Assertions.assertEquals("id", orders.get(1)
+            .getProperty());
+        Assertions.assertEquals(org.springframework.data.domain.Sort.Direction.ASC, orders.get(1)
+            .getDirection());
+    }
+
 }
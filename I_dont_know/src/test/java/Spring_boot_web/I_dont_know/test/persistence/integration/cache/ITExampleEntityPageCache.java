@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.persistence.integration.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.domain.service.DefaultExampleEntityService;
+import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.persistence.cache.CaffeineCacheStatistics;
+import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
+
+@IntegrationTest
+@DisplayName("Example entity page cache")
+public class ITExampleEntityPageCache {
+
+    @Autowired
+    private CaffeineCacheStatistics cacheStatistics;
+
+    @Autowired
+    private ExampleEntityRepository repository;
+
+    @Autowired
+    private ExampleEntityService    service;
+
+    public ITExampleEntityPageCache() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Reading a page again returns the cached page")
+    public void testGetAll_Repeated_Cached() {
+        final Pagination                            pagination;
+        final PageIterable<? extends ExampleEntity> first;
+        final PageIterable<? extends ExampleEntity> result;
+        final Long                                  hits;
+
+        pagination = Pagination.of(0, 10);
+
+        first = service.getAll(pagination, Sort.disabled());
+
+        hits = cacheStatistics.getHits(DefaultExampleEntityService.PAGE_CACHE);
+        result = service.getAll(pagination, Sort.disabled());
+
+        Assertions.assertSame(first, result);
+        Assertions.assertEquals(hits + 1, cacheStatistics.getHits(DefaultExampleEntityService.PAGE_CACHE));
+    }
+
+    @Test
+    @DisplayName("Reading a page after writing an entity reads it again")
+    public void testGetAll_Write_NotCached() {
+        final Pagination                            pagination;
+        final PersistentExampleEntity               entity;
+        final PageIterable<? extends ExampleEntity> first;
+        final PageIterable<? extends ExampleEntity> result;
+
+        pagination = Pagination.of(0, 10);
+
+        first = service.getAll(pagination, Sort.disabled());
+
+        entity = new PersistentExampleEntity();
+        entity.setId(null);
+        entity.setName("entity_31");
+        repository.saveAndFlush(entity);
+
+        result = service.getAll(pagination, Sort.disabled());
+
+        Assertions.assertNotSame(first, result);
+        Assertions.assertEquals(31L, result.getTotalElements());
+    }
+
+}
@@ -0,0 +1,163 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.persistence.integration.cache;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
+
+@IntegrationTest
+@DisplayName("Second level cache")
+public class ITSecondLevelCache {
+
+    @Autowired
+    private EntityManager           entityManager;
+
+    @Autowired
+    private EntityManagerFactory    entityManagerFactory;
+
+    @Autowired
+    private ExampleEntityRepository repository;
+
+    private Statistics              statistics;
+
+    public ITSecondLevelCache() {
+        super();
+    }
+
+    @BeforeEach
+    public void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    @DisplayName("Reading an entity again issues no SQL")
+    public void testFindById_Repeated_NoStatements() {
+        final Long statements;
+
+        repository.findById(1);
+        // Otherwise the entity is taken from the persistence context
+        entityManager.clear();
+
+        statements = statistics.getPrepareStatementCount();
+        repository.findById(1);
+
+        Assertions.assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Reading a deep offset page again issues no SQL")
+    public void testFindAllByOffset_DeepPage_Repeated_NoStatements() {
+        final Pageable pageable;
+        final Long     statements;
+
+        // Read through a deferred join
+        pageable = PageRequest.of(200, 10, Sort.by("name"));
+
+        repository.findAllByOffset(pageable);
+        entityManager.clear();
+
+        statements = statistics.getPrepareStatementCount();
+        repository.findAllByOffset(pageable);
+
+        Assertions.assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Reading an offset page again issues no SQL")
+    public void testFindAllByOffset_Repeated_NoStatements() {
+        final Pageable pageable;
+        final Long     statements;
+        final Long     hits;
+
+        pageable = PageRequest.of(1, 10, Sort.by("name"));
+
+        repository.findAllByOffset(pageable);
+        entityManager.clear();
+
+        statements = statistics.getPrepareStatementCount();
+        hits = statistics.getQueryCacheHitCount();
+        repository.findAllByOffset(pageable);
+
+        Assertions.assertEquals(statements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(hits + 1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Reading a page after writing an entity queries the database again")
+    public void testFindAllByOffset_Write_Statements() {
+        final Pageable                pageable;
+        final PersistentExampleEntity entity;
+        final Long                    statements;
+
+        pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        repository.findAllByOffset(pageable);
+
+        entity = new PersistentExampleEntity();
+        entity.setId(null);
+        entity.setName("entity_31");
+        repository.saveAndFlush(entity);
+        entityManager.clear();
+
+        statements = statistics.getPrepareStatementCount();
+        repository.findAllByOffset(pageable);
+
+        Assertions.assertTrue(statistics.getPrepareStatementCount() > statements);
+    }
+
+    @Test
+    @DisplayName("Reading an offset page sorted by id again issues no SQL")
+    public void testFindAllByOffset_ById_Repeated_NoStatements() {
+        final Pageable pageable;
+        final Long     statements;
+
+        pageable = PageRequest.of(0, 10, Sort.by("id"));
+
+        repository.findAllByOffset(pageable);
+        entityManager.clear();
+
+        statements = statistics.getPrepareStatementCount();
+        repository.findAllByOffset(pageable);
+
+        Assertions.assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.persistence.integration.routing;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
+import Spring_boot_web.I_dont_know.persistence.routing.DataSourceRoutingStatistics;
+import Spring_boot_web.I_dont_know.test.config.annotation.IntegrationTest;
+
+@IntegrationTest
+// Otherwise the test transaction, which is not read-only, is joined
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = { "datasource.replica.url=jdbc:h2:mem:replica_routing;DB_CLOSE_DELAY=-1",
+        "datasource.replica.initialize=true", "datasource.replica.lag-query=SELECT 0" })
+@DisplayName("Read-only routing data source")
+public class ITReadOnlyRoutingDataSource {
+
+    @Autowired
+    private DataSource                  dataSource;
+
+    @Autowired
+    private ExampleEntityRepository     repository;
+
+    @Autowired
+    private DataSourceRoutingStatistics statistics;
+
+    @Autowired
+    private PlatformTransactionManager  transactionManager;
+
+    public ITReadOnlyRoutingDataSource() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Returns the lag read from the replica")
+    public void testGetReplicaLag() {
+        Assertions.assertEquals(0L, statistics.getReplicaLag());
+    }
+
+    @Test
+    @DisplayName("Read-only transactions are routed to the replica")
+    public void testReadOnly_Replica() {
+        final TransactionTemplate transaction;
+        final Long                connections;
+        final String              database;
+
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        connections = statistics.getReplicaConnections();
+        database = transaction.execute(status -> getDatabase());
+
+        Assertions.assertTrue("replica_routing".equalsIgnoreCase(database));
+        Assertions.assertTrue(statistics.getReplicaConnections() > connections);
+    }
+
+    @Test
+    @DisplayName("Read-only repository queries are routed to the replica")
+    public void testRepository_Replica() {
+        final Long connections;
+
+        connections = statistics.getReplicaConnections();
+        repository.count();
+
+        Assertions.assertTrue(statistics.getReplicaConnections() > connections);
+    }
+
+    @Test
+    @DisplayName("Transactions which are not read-only are routed to the primary")
+    public void testWrite_Primary() {
+        final TransactionTemplate transaction;
+        final Long                connections;
+        final String              database;
+
+        transaction = new TransactionTemplate(transactionManager);
+
+        connections = statistics.getPrimaryConnections();
+        database = transaction.execute(status -> getDatabase());
+
+        Assertions.assertFalse("replica_routing".equalsIgnoreCase(database));
+        Assertions.assertTrue(statistics.getPrimaryConnections() > connections);
+    }
+
+    private final String getDatabase() {
+        // Runs in the connection bound to the transaction
+        return new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class);
+    }
+
+}
@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.persistence.unit.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Spring_boot_web.I_dont_know.persistence.cache.CaffeineCacheStatistics;
+
+@DisplayName("Caffeine cache statistics")
+public class TestCaffeineCacheStatistics {
+
+    private CaffeineCacheManager    cacheManager;
+
+    private CaffeineCacheStatistics statistics;
+
+    public TestCaffeineCacheStatistics() {
+        super();
+    }
+
+    @BeforeEach
+    public void initialize() {
+        cacheManager = new CaffeineCacheManager();
+        // Evicts in the calling thread
+        cacheManager.registerCustomCache("cache", Caffeine.newBuilder()
+            .maximumSize(1)
+            .executor(Runnable::run)
+            .recordStats()
+            .build());
+
+        statistics = new CaffeineCacheStatistics(cacheManager);
+    }
+
+    @Test
+    @DisplayName("Counts the values evicted over the maximum size")
+    public void testGetEvictions() {
+        final Cache cache;
+
+        cache = cacheManager.getCache("cache");
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        ((CaffeineCache) cache).getNativeCache()
+            .cleanUp();
+
+        Assertions.assertEquals(1L, statistics.getEvictions("cache"));
+    }
+
+    @Test
+    @DisplayName("Counts the hits and misses")
+    public void testGetHits() {
+        final Cache cache;
+
+        cache = cacheManager.getCache("cache");
+        cache.get("key");
+        cache.put("key", "value");
+        cache.get("key");
+        cache.get("key");
+
+        Assertions.assertEquals(2L, statistics.getHits("cache"));
+        Assertions.assertEquals(1L, statistics.getMisses("cache"));
+        Assertions.assertEquals(2d / 3, statistics.getHitRatio("cache"), 0.001);
+    }
+
+    @Test
+    @DisplayName("Returns empty statistics for an unknown cache, without creating it")
+    public void testGetHits_Unknown() {
+        Assertions.assertEquals(0L, statistics.getHits("unknown"));
+        Assertions.assertFalse(cacheManager.getCacheNames()
+            .contains("unknown"));
+    }
+
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.persistence.unit.event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.persistence.event.WriteInvalidation;
+
+@DisplayName("Write invalidation")
+public class TestWriteInvalidation {
+
+    public TestWriteInvalidation() {
+        super();
+    }
+
+    @AfterEach
+    public final void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private final void complete() {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Test
+    @DisplayName("Outside a transaction each write runs the invalidation")
+    public void testInvalidate_NoTransaction_EachWrite() {
+        final AtomicInteger runs;
+        final Object        owner;
+
+        runs = new AtomicInteger();
+        owner = new Object();
+
+        WriteInvalidation.invalidate(owner, PersistentExampleEntity.class, runs::incrementAndGet);
+        WriteInvalidation.invalidate(owner, PersistentExampleEntity.class, runs::incrementAndGet);
+
+        Assertions.assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("Inside a transaction the invalidation runs on the first write and after completion")
+    public void testInvalidate_Transaction_Coalesced() {
+        final AtomicInteger runs;
+        final Object        owner;
+
+        runs = new AtomicInteger();
+        owner = new Object();
+
+        TransactionSynchronizationManager.initSynchronization();
+        for (int i = 0; i < 100; i++) {
+            WriteInvalidation.invalidate(owner, PersistentExampleEntity.class, runs::incrementAndGet);
+        }
+
+        Assertions.assertEquals(1, runs.get());
+        Assertions.assertEquals(1, TransactionSynchronizationManager.getSynchronizations()
+            .size());
+
+        complete();
+
+        Assertions.assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("Inside a transaction each owner is invalidated on its own")
+    public void testInvalidate_Transaction_OwnersApart() {
+        final AtomicInteger runs;
+
+        runs = new AtomicInteger();
+
+        TransactionSynchronizationManager.initSynchronization();
+        WriteInvalidation.invalidate(new Object(), PersistentExampleEntity.class, runs::incrementAndGet);
+        WriteInvalidation.invalidate(new Object(), PersistentExampleEntity.class, runs::incrementAndGet);
+
+        Assertions.assertEquals(2, runs.get());
+        Assertions.assertEquals(2, TransactionSynchronizationManager.getSynchronizations()
+            .size());
+    }
+
+    @Test
+    @DisplayName("Inside a transaction each entity type is invalidated on its own")
+    public void testInvalidate_Transaction_TypesApart() {
+        final AtomicInteger runs;
+        final Object        owner;
+
+        runs = new AtomicInteger();
+        owner = new Object();
+
+        TransactionSynchronizationManager.initSynchronization();
+        WriteInvalidation.invalidate(owner, PersistentExampleEntity.class, runs::incrementAndGet);
+        WriteInvalidation.invalidate(owner, String.class, runs::incrementAndGet);
+
+        Assertions.assertEquals(2, runs.get());
+    }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.persistence.unit.version;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteOperation;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersion;
+import Spring_boot_web.I_dont_know.persistence.version.InMemoryEntityVersionTracker;
+
+@DisplayName("In-memory entity version tracker")
+public class TestInMemoryEntityVersionTracker {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+
+    public TestInMemoryEntityVersionTracker() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Types not written start at the creation time")
+    public void testGetVersion_NotWritten_Initial() {
+        final InMemoryEntityVersionTracker tracker;
+        final EntityVersion                result;
+
+        tracker = new InMemoryEntityVersionTracker(clock);
+
+        result = tracker.getVersion(PersistentExampleEntity.class);
+
+        Assertions.assertEquals(1000L, result.getVersion());
+        Assertions.assertEquals(Instant.ofEpochMilli(1000), result.getLastModified());
+    }
+
+    @Test
+    @DisplayName("Updating an entity increases the version")
+    public void testOnEntityWrite_Update_Increased() {
+        final InMemoryEntityVersionTracker tracker;
+        final EntityVersion                result;
+
+        tracker = new InMemoryEntityVersionTracker(clock);
+
+        tracker.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.UPDATE));
+
+        result = tracker.getVersion(PersistentExampleEntity.class);
+
+        Assertions.assertEquals(1001L, result.getVersion());
+    }
+
+    @Test
+    @DisplayName("Each write increases the version")
+    public void testOnEntityWrite_Twice_IncreasedTwice() {
+        final InMemoryEntityVersionTracker tracker;
+        final EntityVersion                result;
+
+        tracker = new InMemoryEntityVersionTracker(clock);
+
+        tracker.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.INSERT));
+        tracker.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.DELETE));
+
+        result = tracker.getVersion(PersistentExampleEntity.class);
+
+        Assertions.assertEquals(1002L, result.getVersion());
+    }
+
+    @Test
+    @DisplayName("Writing an entity keeps the version of other types")
+    public void testOnEntityWrite_OtherType_Kept() {
+        final InMemoryEntityVersionTracker tracker;
+        final EntityVersion                result;
+
+        tracker = new InMemoryEntityVersionTracker(clock);
+
+        tracker.onEntityWrite(new EntityWriteEvent(String.class, WriteOperation.INSERT));
+
+        result = tracker.getVersion(PersistentExampleEntity.class);
+
+        Assertions.assertEquals(1000L, result.getVersion());
+    }
+
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.projection.unit.argument;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mockito;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import Spring_boot_web.I_dont_know.projection.argument.FieldsetArgumentResolver;
+import Spring_boot_web.I_dont_know.projection.argument.Projectable;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+
+@DisplayName("Fieldset argument resolver")
+public class TestFieldsetArgumentResolver {
+
+    private final HandlerMethodArgumentResolver resolver = new FieldsetArgumentResolver();
+
+    public TestFieldsetArgumentResolver() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Reads all the fields when the handler is not projectable")
+    public void testResolve_NotProjectable_All() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Fieldset              fieldset;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterValues("fields"))
+            .thenReturn(new String[] { "name" });
+
+        fieldset = (Fieldset) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertFalse(fieldset.getProjected());
+    }
+
+    @Test
+    @DisplayName("Reads all the fields when no field is received")
+    public void testResolve_NoFields_All() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Fieldset              fieldset;
+
+        parameter = getParameter();
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterValues("fields"))
+            .thenReturn(new String[] { " , " });
+
+        fieldset = (Fieldset) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertFalse(fieldset.getProjected());
+    }
+
+    @Test
+    @DisplayName("Throws an exception when requesting a field not declared as projectable")
+    public void testResolve_NotProjectableField_Exception() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Executable            executable;
+
+        parameter = getParameter();
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterValues("fields"))
+            .thenReturn(new String[] { "name,description" });
+
+        executable = () -> resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertThrows(ServletRequestBindingException.class, executable);
+    }
+
+    @Test
+    @DisplayName("Returns the fields in the order they were requested, without repeating them")
+    public void testResolve_RepeatedFields_Ordered() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Fieldset              fieldset;
+
+        parameter = getParameter();
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(webRequest.getParameterValues("fields"))
+            .thenReturn(new String[] { "name, id", "name" });
+
+        fieldset = (Fieldset) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertTrue(fieldset.getProjected());
+        Assertions.assertEquals(Arrays.asList("name", "id"), fieldset.getFields());
+    }
+
+    @Test
+    @DisplayName("Returns the same fieldset for the same parameter")
+    public void testResolve_Repeated_SameInstance() throws Exception {
+        final MethodParameter       parameter;
+        final ModelAndViewContainer mavContainer;
+        final NativeWebRequest      webRequest;
+        final WebDataBinderFactory  binderFactory;
+        final Fieldset              first;
+        final Fieldset              second;
+
+        parameter = getParameter();
+        mavContainer = Mockito.mock(ModelAndViewContainer.class);
+        webRequest = Mockito.mock(NativeWebRequest.class);
+        binderFactory = Mockito.mock(WebDataBinderFactory.class);
+
+        Mockito.when(parameter.getMethod())
+            .thenReturn(Object.class.getMethod("toString"));
+        Mockito.when(webRequest.getParameterValues("fields"))
+            .thenReturn(new String[] { "name" });
+
+        first = (Fieldset) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        second = (Fieldset) resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        Assertions.assertSame(first, second);
+    }
+
+    private final MethodParameter getParameter() {
+        final MethodParameter parameter;
+        final Projectable     projectable;
+
+        parameter = Mockito.mock(MethodParameter.class);
+        projectable = Mockito.mock(Projectable.class);
+
+        Mockito.when(projectable.value())
+            .thenReturn(new String[] { "id", "name" });
+        Mockito.when(parameter.getMethodAnnotation(Projectable.class))
+            .thenReturn(projectable);
+
+        return parameter;
+    }
+
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.benchmark.controller;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+import Spring_boot_web.I_dont_know.response.controller.ResponseAdvice;
+import Spring_boot_web.I_dont_know.response.model.DefaultResponse;
+import Spring_boot_web.I_dont_know.response.model.Response;
+
+/**
+ * Per response overhead of the response advice, calling it as the MVC infrastructure does, first asking if it
+ * supports the handler and then advising the body.
+ * <p>
+ * The {@code typed} benchmarks use handlers declaring the returned type, so the wrapping is taken from the cached
+ * decision. The {@code dynamic} benchmarks use handlers declaring {@code Object}, which check the type of each body.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResponseAdviceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseAdviceBenchmark {
+
+    private ResponseAdvice       advice;
+
+    private MethodParameter      dynamicType;
+
+    private String               entity;
+
+    private PageIterable<String> page;
+
+    private MethodParameter      pageType;
+
+    private MethodParameter      plainType;
+
+    private ServerHttpRequest    request;
+
+    private Response<String>     response;
+
+    private MethodParameter      responseType;
+
+    public ResponseAdviceBenchmark() {
+        super();
+    }
+
+    @Benchmark
+    public Object dynamicPage() {
+        return advise(dynamicType, page);
+    }
+
+    @Benchmark
+    public Object dynamicPlain() {
+        return advise(dynamicType, entity);
+    }
+
+    @Benchmark
+    public Object dynamicResponse() {
+        return advise(dynamicType, response);
+    }
+
+    public Object object() {
+        return null;
+    }
+
+    public PageIterable<String> page() {
+        return null;
+    }
+
+    public String plain() {
+        return null;
+    }
+
+    public Response<String> response() {
+        return null;
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        advice = new ResponseAdvice();
+
+        request = new ServletServerHttpRequest(new MockHttpServletRequest());
+
+        entity = "entity";
+        page = Paginations.fromSpring(new PageImpl<>(Arrays.asList("a", "b", "c"), PageRequest.of(0, 3), 10));
+        response = new DefaultResponse<>(entity);
+
+        dynamicType = new MethodParameter(ResponseAdviceBenchmark.class.getMethod("object"), -1);
+        pageType = new MethodParameter(ResponseAdviceBenchmark.class.getMethod("page"), -1);
+        plainType = new MethodParameter(ResponseAdviceBenchmark.class.getMethod("plain"), -1);
+        responseType = new MethodParameter(ResponseAdviceBenchmark.class.getMethod("response"), -1);
+    }
+
+    @Benchmark
+    public Object typedPage() {
+        return advise(pageType, page);
+    }
+
+    @Benchmark
+    public Object typedPlain() {
+        return advise(plainType, entity);
+    }
+
+    @Benchmark
+    public Object typedResponse() {
+        return advise(responseType, response);
+    }
+
+    private final Object advise(final MethodParameter returnType, final Object body) {
+        final Object result;
+
+        if (advice.supports(returnType, MappingJackson2HttpMessageConverter.class)) {
+            result = advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, request, null);
+        } else {
+            result = body;
+        }
+
+        return result;
+    }
+
+}
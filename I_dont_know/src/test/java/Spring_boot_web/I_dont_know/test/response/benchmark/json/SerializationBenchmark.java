@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.benchmark.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+import Spring_boot_web.I_dont_know.response.model.PageIterableResponse;
+
+/**
+ * Cost of writing a page of entities as JSON, with reflection based accessors, with the accessors generated by
+ * Blackbird, and with Blackbird and a writer prebuilt for the response type.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SerializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper                                  blackbirdMapper;
+
+    private ObjectMapper                                  mapper;
+
+    private PageIterableResponse<PersistentExampleEntity> page;
+
+    private ObjectWriter                                  pageWriter;
+
+    @Param({ "100", "1000" })
+    private int                                           size;
+
+    public SerializationBenchmark() {
+        super();
+    }
+
+    @Benchmark
+    public byte[] blackbird() throws JsonProcessingException {
+        return blackbirdMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] prebuiltWriter() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] reflection() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Setup
+    public void setUp() {
+        final List<PersistentExampleEntity> entities;
+
+        entities = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final PersistentExampleEntity entity;
+
+            entity = new PersistentExampleEntity();
+            entity.setId(i);
+            entity.setName("Entity name " + i);
+            entities.add(entity);
+        }
+        page = new PageIterableResponse<>(
+            Paginations.fromSpring(new PageImpl<>(entities, PageRequest.of(0, size), 100_000)));
+
+        mapper = new ObjectMapper();
+        blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+        pageWriter = blackbirdMapper.writerFor(PageIterableResponse.class);
+    }
+
+}
@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.benchmark.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Spring_boot_web.I_dont_know.Application;
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+import Spring_boot_web.I_dont_know.response.model.PageIterableResponse;
+
+/**
+ * Cost of encoding a page of entities, wrapped into the paginated response, as JSON, Smile and CBOR.
+ * <p>
+ * The mappers are the ones configured by the application, so the encoding matches what the endpoints write. The
+ * encoded size of the page is reported by JMH as the {@code bytes} secondary result of each benchmark.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=WireFormatBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long bytes;
+
+    }
+
+    private ObjectMapper                                  cborMapper;
+
+    private ConfigurableApplicationContext                context;
+
+    private ObjectMapper                                  jsonMapper;
+
+    private PageIterableResponse<PersistentExampleEntity> page;
+
+    @Param({ "20", "100" })
+    private int                                           size;
+
+    private ObjectMapper                                  smileMapper;
+
+    public WireFormatBenchmark() {
+        super();
+    }
+
+    @Benchmark
+    public byte[] cbor(final EncodedSize encodedSize) throws JsonProcessingException {
+        return encode(cborMapper, encodedSize);
+    }
+
+    @Benchmark
+    public byte[] json(final EncodedSize encodedSize) throws JsonProcessingException {
+        return encode(jsonMapper, encodedSize);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<PersistentExampleEntity> entities;
+
+        entities = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final PersistentExampleEntity entity;
+
+            entity = new PersistentExampleEntity();
+            entity.setId(i);
+            entity.setName("Entity name " + i);
+            entities.add(entity);
+        }
+        page = new PageIterableResponse<>(
+            Paginations.fromSpring(new PageImpl<>(entities, PageRequest.of(0, size), 10_000)));
+
+        context = new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE)
+            .run();
+        jsonMapper = context.getBean(ObjectMapper.class);
+        smileMapper = context.getBean("smileHttpMessageConverter", AbstractJackson2HttpMessageConverter.class)
+            .getObjectMapper();
+        cborMapper = context.getBean("cborHttpMessageConverter", AbstractJackson2HttpMessageConverter.class)
+            .getObjectMapper();
+    }
+
+    @Benchmark
+    public byte[] smile(final EncodedSize encodedSize) throws JsonProcessingException {
+        return encode(smileMapper, encodedSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private final byte[] encode(final ObjectMapper mapper, final EncodedSize encodedSize)
+            throws JsonProcessingException {
+        final byte[] encoded;
+
+        encoded = mapper.writeValueAsBytes(page);
+        // The page doesn't change, so this is the size of every encoding
+        encodedSize.bytes = encoded.length;
+
+        return encoded;
+    }
+
+}
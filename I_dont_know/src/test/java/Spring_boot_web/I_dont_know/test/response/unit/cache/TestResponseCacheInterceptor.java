@@ -0,0 +1,171 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.cache;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.pagination.argument.PageQueryArgumentResolver;
+import Spring_boot_web.I_dont_know.pagination.model.Pagination;
+import Spring_boot_web.I_dont_know.pagination.model.Sort;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersion;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersionTracker;
+import Spring_boot_web.I_dont_know.response.cache.CachedResponse;
+import Spring_boot_web.I_dont_know.response.cache.ResponseCacheInterceptor;
+import Spring_boot_web.I_dont_know.response.cache.ResponseKey;
+import Spring_boot_web.I_dont_know.response.cache.SerializedResponse;
+import Spring_boot_web.I_dont_know.response.cache.SerializedResponseCache;
+
+@DisplayName("Response cache interceptor")
+public class TestResponseCacheInterceptor {
+
+    public static final class Handlers {
+
+        @CachedResponse(PersistentExampleEntity.class)
+        public final void cached(final PageQuery query) {}
+
+        public final void notCached(final PageQuery query) {}
+
+    }
+
+    private final SerializedResponseCache  cache;
+
+    private final ResponseCacheInterceptor interceptor;
+
+    public TestResponseCacheInterceptor() {
+        super();
+
+        final EntityVersionTracker tracker;
+
+        tracker = Mockito.mock(EntityVersionTracker.class);
+        Mockito.when(tracker.getVersion(PersistentExampleEntity.class))
+            .thenReturn(new EntityVersion(Instant.now(), 5L));
+
+        cache = new SerializedResponseCache(1024L, Duration.ofMinutes(1));
+        interceptor = new ResponseCacheInterceptor(cache, new PageQueryArgumentResolver(), tracker);
+    }
+
+    @Test
+    @DisplayName("Writes the cached response without calling the handler")
+    public void testPreHandle_Cached_Written() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        cache.put(new ResponseKey("", "", PageQuery.of(Pagination.of(0, 10), Sort.disabled()),
+            PersistentExampleEntity.class, 5L),
+            new SerializedResponse("{}".getBytes(StandardCharsets.UTF_8), "no-cache", "application/json"));
+
+        request = request();
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("cached"));
+
+        Assertions.assertFalse(result);
+        Assertions.assertEquals("{}", response.getContentAsString());
+        Assertions.assertEquals("application/json", response.getContentType());
+        Assertions.assertEquals("no-cache", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    @DisplayName("Marks the request for caching when the response is not cached")
+    public void testPreHandle_NotCached_Marked() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = request();
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("cached"));
+
+        Assertions.assertTrue(result);
+        Assertions.assertNotNull(request.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Keeps the query used for the key for the handler")
+    public void testPreHandle_NotCached_QueryKept() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final ResponseKey             key;
+
+        request = request();
+        response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, getHandler("cached"));
+
+        key = (ResponseKey) request.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE);
+        Assertions.assertSame(key.getQuery(), request.getAttribute(PageQueryArgumentResolver.QUERY_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Ignores handlers which are not cached")
+    public void testPreHandle_NotAnnotated_Ignored() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = request();
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("notCached"));
+
+        Assertions.assertTrue(result);
+        Assertions.assertNull(request.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE));
+    }
+
+    private final HandlerMethod getHandler(final String name) throws NoSuchMethodException {
+        final Method method;
+
+        method = Handlers.class.getMethod(name, PageQuery.class);
+
+        return new HandlerMethod(new Handlers(), method);
+    }
+
+    private final MockHttpServletRequest request() {
+        final MockHttpServletRequest request;
+
+        request = new MockHttpServletRequest("GET", "/entity");
+        request.addParameter("page", "0");
+        request.addParameter("size", "10");
+        request.addParameter("sorted", "false");
+
+        return request;
+    }
+
+}
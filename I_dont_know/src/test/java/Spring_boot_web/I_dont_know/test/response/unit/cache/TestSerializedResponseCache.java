@@ -0,0 +1,135 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.persistence.event.EntityWriteEvent;
+import Spring_boot_web.I_dont_know.persistence.event.WriteOperation;
+import Spring_boot_web.I_dont_know.response.cache.ResponseKey;
+import Spring_boot_web.I_dont_know.response.cache.SerializedResponse;
+import Spring_boot_web.I_dont_know.response.cache.SerializedResponseCache;
+
+@DisplayName("Serialized response cache")
+public class TestSerializedResponseCache {
+
+    public TestSerializedResponseCache() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Returns the cached response")
+    public void testGet_Cached() {
+        final SerializedResponseCache      cache;
+        final SerializedResponse           response;
+        final Optional<SerializedResponse> result;
+
+        cache = new SerializedResponseCache(1024L, Duration.ofMinutes(1));
+        response = response(10);
+        cache.put(key("page=0"), response);
+
+        result = cache.get(key("page=0"));
+
+        Assertions.assertEquals(Optional.of(response), result);
+    }
+
+    @Test
+    @DisplayName("Returns nothing for expired responses")
+    public void testGet_Expired_Empty() {
+        final SerializedResponseCache      cache;
+        final Optional<SerializedResponse> result;
+
+        cache = new SerializedResponseCache(1024L, Duration.ZERO);
+        cache.put(key("page=0"), response(10));
+
+        result = cache.get(key("page=0"));
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Removes the least recently used responses when full")
+    public void testPut_Full_LeastRecentlyUsedRemoved() {
+        final SerializedResponseCache cache;
+
+        cache = new SerializedResponseCache(20L, Duration.ofMinutes(1));
+        cache.put(key("page=0"), response(10));
+        cache.put(key("page=1"), response(10));
+        cache.get(key("page=0"));
+        cache.put(key("page=2"), response(10));
+
+        Assertions.assertTrue(cache.get(key("page=0"))
+            .isPresent());
+        Assertions.assertFalse(cache.get(key("page=1"))
+            .isPresent());
+        Assertions.assertTrue(cache.get(key("page=2"))
+            .isPresent());
+    }
+
+    @Test
+    @DisplayName("Ignores responses bigger than the cache")
+    public void testPut_TooBig_Ignored() {
+        final SerializedResponseCache      cache;
+        final Optional<SerializedResponse> result;
+
+        cache = new SerializedResponseCache(5L, Duration.ofMinutes(1));
+        cache.put(key("page=0"), response(10));
+
+        result = cache.get(key("page=0"));
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Writing an entity discards the responses")
+    public void testOnEntityWrite_Discarded() {
+        final SerializedResponseCache      cache;
+        final Optional<SerializedResponse> result;
+
+        cache = new SerializedResponseCache(1024L, Duration.ofMinutes(1));
+        cache.put(key("page=0"), response(10));
+
+        cache.onEntityWrite(new EntityWriteEvent(PersistentExampleEntity.class, WriteOperation.UPDATE));
+
+        result = cache.get(key("page=0"));
+
+        Assertions.assertFalse(result.isPresent());
+    }
+
+    private final ResponseKey key(final String query) {
+        return new ResponseKey("", "", query, PersistentExampleEntity.class, 1L);
+    }
+
+    private final SerializedResponse response(final Integer size) {
+        return new SerializedResponse(new byte[size], "", "application/json");
+    }
+
+}
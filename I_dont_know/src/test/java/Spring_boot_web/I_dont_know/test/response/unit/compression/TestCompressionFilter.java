@@ -0,0 +1,189 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import Spring_boot_web.I_dont_know.response.compression.CompressionFilter;
+import Spring_boot_web.I_dont_know.response.compression.CompressionStatistics;
+import Spring_boot_web.I_dont_know.response.compression.PrecompressedCache;
+
+@DisplayName("Compression filter")
+public class TestCompressionFilter {
+
+    private static final class JsonServlet extends HttpServlet {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String      body;
+
+        private final String      contentType;
+
+        public JsonServlet(final String cntType, final String bdy) {
+            super();
+
+            contentType = cntType;
+            body = bdy;
+        }
+
+        @Override
+        protected final void service(final HttpServletRequest req, final HttpServletResponse resp)
+                throws IOException {
+            resp.setContentType(contentType);
+            resp.getOutputStream()
+                .write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+    }
+
+    private final String                body;
+
+    private final CompressionFilter     filter;
+
+    private final CompressionStatistics statistics;
+
+    public TestCompressionFilter() {
+        super();
+
+        body = "{\"content\":\"" + "a".repeat(200) + "\"}";
+        statistics = new CompressionStatistics();
+        filter = new CompressionFilter(100, new PrecompressedCache(10, 1024L * 1024), statistics);
+    }
+
+    @Test
+    @DisplayName("Compresses JSON bodies when gzip is accepted")
+    public void testDoFilter_Gzip_Compressed() throws Exception {
+        final MockHttpServletResponse response;
+
+        response = filter(request("gzip, deflate"), "application/json", body);
+
+        Assertions.assertEquals("gzip", response.getHeader("Content-Encoding"));
+        Assertions.assertEquals(body, decompress(response.getContentAsByteArray()));
+        Assertions.assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+    }
+
+    @Test
+    @DisplayName("Reuses the compressed bytes for the same body")
+    public void testDoFilter_Repeated_Cached() throws Exception {
+        final MockHttpServletResponse response;
+
+        filter(request("gzip"), "application/json", body);
+        response = filter(request("gzip"), "application/json", body);
+
+        Assertions.assertEquals(body, decompress(response.getContentAsByteArray()));
+        Assertions.assertEquals(1, statistics.getCompressions());
+        Assertions.assertEquals(1, statistics.getCacheHits());
+    }
+
+    @Test
+    @DisplayName("Compresses again when the body changes")
+    public void testDoFilter_Changed_Compressed() throws Exception {
+        final MockHttpServletResponse response;
+        final String                  changed;
+
+        changed = body.replace('a', 'b');
+
+        filter(request("gzip"), "application/json", body);
+        response = filter(request("gzip"), "application/json", changed);
+
+        Assertions.assertEquals(changed, decompress(response.getContentAsByteArray()));
+        Assertions.assertEquals(2, statistics.getCompressions());
+        Assertions.assertEquals(0, statistics.getCacheHits());
+    }
+
+    @Test
+    @DisplayName("Doesn't compress when no encoding is accepted")
+    public void testDoFilter_NotAccepted_Plain() throws Exception {
+        final MockHttpServletResponse response;
+
+        response = filter(request("identity"), "application/json", body);
+
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Doesn't compress bodies under the minimum size")
+    public void testDoFilter_Small_Plain() throws Exception {
+        final MockHttpServletResponse response;
+
+        response = filter(request("gzip"), "application/json", "{}");
+
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Doesn't compress bodies which are not JSON")
+    public void testDoFilter_NotJson_Plain() throws Exception {
+        final MockHttpServletResponse response;
+
+        response = filter(request("gzip"), "image/png", body);
+
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertEquals(body, response.getContentAsString());
+    }
+
+    private final String decompress(final byte[] compressed) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private final MockHttpServletResponse filter(final MockHttpServletRequest request, final String contentType,
+            final String content) throws Exception {
+        final MockHttpServletResponse response;
+
+        response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new JsonServlet(contentType, content)));
+
+        return response;
+    }
+
+    private final MockHttpServletRequest request(final String acceptEncoding) {
+        final MockHttpServletRequest request;
+
+        request = new MockHttpServletRequest("GET", "/entity");
+        request.setQueryString("page=0&size=20");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+
+        return request;
+    }
+
+}
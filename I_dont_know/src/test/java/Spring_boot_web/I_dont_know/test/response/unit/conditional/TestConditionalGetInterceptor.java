@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.conditional;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import Spring_boot_web.I_dont_know.domain.model.PersistentExampleEntity;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersion;
+import Spring_boot_web.I_dont_know.persistence.version.EntityVersionTracker;
+import Spring_boot_web.I_dont_know.response.conditional.ConditionalGetInterceptor;
+import Spring_boot_web.I_dont_know.response.conditional.Versioned;
+
+@DisplayName("Conditional GET interceptor")
+public class TestConditionalGetInterceptor {
+
+    public static final class Handlers {
+
+        public final void notVersioned() {}
+
+        @Versioned(PersistentExampleEntity.class)
+        public final void versioned() {}
+
+    }
+
+    private final ConditionalGetInterceptor interceptor;
+
+    public TestConditionalGetInterceptor() {
+        super();
+
+        final EntityVersionTracker tracker;
+
+        tracker = Mockito.mock(EntityVersionTracker.class);
+        Mockito.when(tracker.getVersion(PersistentExampleEntity.class))
+            .thenReturn(new EntityVersion(Instant.ofEpochSecond(1000), 5L));
+
+        interceptor = new ConditionalGetInterceptor(tracker);
+    }
+
+    @Test
+    @DisplayName("Answers not modified when the ETag matches")
+    public void testPreHandle_MatchingETag_NotModified() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest("GET", "/entity");
+        request.addHeader("If-None-Match", "W/\"5\"");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("versioned"));
+
+        Assertions.assertFalse(result);
+        Assertions.assertEquals(304, response.getStatus());
+        Assertions.assertEquals("Accept", response.getHeader("Vary"));
+    }
+
+    @Test
+    @DisplayName("Continues when the ETag doesn't match")
+    public void testPreHandle_OldETag_Continues() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest("GET", "/entity");
+        request.addHeader("If-None-Match", "W/\"4\"");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("versioned"));
+
+        Assertions.assertTrue(result);
+        Assertions.assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Adds the ETag and Last-Modified headers")
+    public void testPreHandle_Headers() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+
+        request = new MockHttpServletRequest("GET", "/entity");
+        response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, getHandler("versioned"));
+
+        Assertions.assertEquals("W/\"5\"", response.getHeader("ETag"));
+        Assertions.assertEquals(1000000L, response.getDateHeader("Last-Modified"));
+        Assertions.assertEquals("Accept", response.getHeader("Vary"));
+    }
+
+    @Test
+    @DisplayName("Ignores handlers which are not versioned")
+    public void testPreHandle_NotVersioned_Continues() throws Exception {
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final boolean                 result;
+
+        request = new MockHttpServletRequest("GET", "/entity");
+        request.addHeader("If-None-Match", "W/\"5\"");
+        response = new MockHttpServletResponse();
+
+        result = interceptor.preHandle(request, response, getHandler("notVersioned"));
+
+        Assertions.assertTrue(result);
+        Assertions.assertNull(response.getHeader("ETag"));
+        Assertions.assertNull(response.getHeader("Vary"));
+    }
+
+    private final HandlerMethod getHandler(final String name) throws NoSuchMethodException {
+        final Method method;
+
+        method = Handlers.class.getMethod(name);
+
+        return new HandlerMethod(new Handlers(), method);
+    }
+
+}
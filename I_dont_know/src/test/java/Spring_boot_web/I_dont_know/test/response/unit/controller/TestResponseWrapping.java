@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.controller;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import Spring_boot_web.I_dont_know.domain.controller.ExampleEntityController;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
+import Spring_boot_web.I_dont_know.projection.model.Fieldset;
+import Spring_boot_web.I_dont_know.response.controller.ResponseWrapping;
+
+@DisplayName("Response wrapping")
+public class TestResponseWrapping {
+
+    public TestResponseWrapping() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Generic iterables are checked for each response")
+    public void testOf_Iterable_Dynamic() {
+        Assertions.assertEquals(ResponseWrapping.DYNAMIC, ResponseWrapping.of(Iterable.class));
+    }
+
+    @Test
+    @DisplayName("The entity list handler is wrapped as a page iterable")
+    public void testOf_Read_PageIterable() throws Exception {
+        final ResponseWrapping result;
+
+        result = ResponseWrapping.of(ExampleEntityController.class.getMethod("read", PageQuery.class)
+            .getReturnType());
+
+        Assertions.assertEquals(ResponseWrapping.PAGE_ITERABLE, result);
+    }
+
+    @Test
+    @DisplayName("The projected entity list handler is wrapped as a page iterable")
+    public void testOf_ReadProjected_PageIterable() throws Exception {
+        final ResponseWrapping result;
+
+        result = ResponseWrapping.of(ExampleEntityController.class
+            .getMethod("readProjected", PageQuery.class, Fieldset.class)
+            .getReturnType());
+
+        Assertions.assertEquals(ResponseWrapping.PAGE_ITERABLE, result);
+    }
+
+}
@@ -0,0 +1,163 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.json;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import Spring_boot_web.I_dont_know.pagination.utils.Paginations;
+import Spring_boot_web.I_dont_know.response.model.PageIterableResponse;
+
+@DisplayName("Paginated response serializer")
+public class TestPaginatedResponseSerializer {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public TestPaginatedResponseSerializer() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Writes the page content")
+    public void testSerialize_Content() throws Exception {
+        final PageIterableResponse<String> response;
+        final JsonNode                     result;
+
+        response = new PageIterableResponse<>(
+            Paginations.fromSpring(new PageImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2), 4)));
+
+        result = mapper.readTree(mapper.writeValueAsString(response));
+
+        Assertions.assertEquals(2, result.get("content")
+            .size());
+        Assertions.assertEquals("a", result.get("content")
+            .get(0)
+            .asText());
+    }
+
+    @Test
+    @DisplayName("Writes the page data")
+    public void testSerialize_PageData() throws Exception {
+        final PageIterableResponse<String> response;
+        final JsonNode                     result;
+
+        response = new PageIterableResponse<>(
+            Paginations.fromSpring(new PageImpl<>(Arrays.asList("a", "b"), PageRequest.of(1, 2), 6)));
+
+        result = mapper.readTree(mapper.writeValueAsString(response));
+
+        Assertions.assertEquals(2, result.get("elementsInPage")
+            .asInt());
+        Assertions.assertEquals(1, result.get("pageNumber")
+            .asInt());
+        Assertions.assertEquals(2, result.get("size")
+            .asInt());
+        Assertions.assertEquals(6, result.get("totalElements")
+            .asLong());
+        Assertions.assertEquals(3, result.get("totalPages")
+            .asInt());
+        Assertions.assertFalse(result.get("first")
+            .asBoolean());
+        Assertions.assertFalse(result.get("last")
+            .asBoolean());
+        Assertions.assertTrue(result.get("hasNext")
+            .asBoolean());
+        Assertions.assertFalse(result.get("approximate")
+            .asBoolean());
+        Assertions.assertEquals("", result.get("nextCursor")
+            .asText());
+        Assertions.assertEquals("", result.get("previousCursor")
+            .asText());
+    }
+
+    @Test
+    @DisplayName("Writes unknown totals for slices")
+    public void testSerialize_Slice_UnknownTotals() throws Exception {
+        final PageIterableResponse<String> response;
+        final JsonNode                     result;
+
+        response = new PageIterableResponse<>(
+            Paginations.fromSpring(new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2), true)));
+
+        result = mapper.readTree(mapper.writeValueAsString(response));
+
+        Assertions.assertEquals(-1, result.get("totalElements")
+            .asLong());
+        Assertions.assertEquals(-1, result.get("totalPages")
+            .asInt());
+    }
+
+    @Test
+    @DisplayName("Writes the page as CBOR")
+    public void testSerialize_Cbor() throws Exception {
+        final ObjectMapper                 cborMapper;
+        final PageIterableResponse<String> response;
+        final JsonNode                     result;
+
+        cborMapper = new CBORMapper();
+        response = new PageIterableResponse<>(
+            Paginations.fromSpring(new PageImpl<>(Arrays.asList("a", "b"), PageRequest.of(1, 2), 6)));
+
+        result = cborMapper.readTree(cborMapper.writeValueAsBytes(response));
+
+        Assertions.assertEquals("a", result.get("content")
+            .get(0)
+            .asText());
+        Assertions.assertEquals(6, result.get("totalElements")
+            .asLong());
+    }
+
+    @Test
+    @DisplayName("Writes the page as Smile")
+    public void testSerialize_Smile() throws Exception {
+        final ObjectMapper                 smileMapper;
+        final PageIterableResponse<String> response;
+        final JsonNode                     result;
+
+        smileMapper = new SmileMapper();
+        response = new PageIterableResponse<>(
+            Paginations.fromSpring(new PageImpl<>(Arrays.asList("a", "b"), PageRequest.of(1, 2), 6)));
+
+        result = smileMapper.readTree(smileMapper.writeValueAsBytes(response));
+
+        Assertions.assertEquals("a", result.get("content")
+            .get(0)
+            .asText());
+        Assertions.assertEquals(6, result.get("totalElements")
+            .asLong());
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Spring_boot_web.I_dont_know.response.stream.JsonStreamingResponseBody;
+
+@DisplayName("JSON streaming response body")
+public class TestJsonStreamingResponseBody {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public TestJsonStreamingResponseBody() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Writes all the elements as content")
+    public void testWriteTo_Content() throws Exception {
+        final ByteArrayOutputStream output;
+        final JsonNode              result;
+
+        output = new ByteArrayOutputStream();
+
+        new JsonStreamingResponseBody<String>(mapper, String.class, c -> Arrays.asList("a", "b", "c")
+            .forEach(c)).writeTo(output);
+
+        result = mapper.readTree(output.toString(StandardCharsets.UTF_8.name()));
+
+        Assertions.assertEquals(3, result.get("content")
+            .size());
+        Assertions.assertEquals("a", result.get("content")
+            .get(0)
+            .asText());
+    }
+
+    @Test
+    @DisplayName("Writes an empty content when there are no elements")
+    public void testWriteTo_Empty() throws Exception {
+        final ByteArrayOutputStream output;
+        final JsonNode              result;
+
+        output = new ByteArrayOutputStream();
+
+        new JsonStreamingResponseBody<String>(mapper, String.class, c -> Collections.<String> emptyList()
+            .forEach(c)).writeTo(output);
+
+        result = mapper.readTree(output.toString(StandardCharsets.UTF_8.name()));
+
+        Assertions.assertEquals(0, result.get("content")
+            .size());
+        Assertions.assertEquals(0, result.get("totalElements")
+            .asLong());
+    }
+
+    @Test
+    @DisplayName("Writes the page data for a single page")
+    public void testWriteTo_PageData() throws Exception {
+        final ByteArrayOutputStream output;
+        final JsonNode              result;
+
+        output = new ByteArrayOutputStream();
+
+        new JsonStreamingResponseBody<String>(mapper, String.class, c -> Arrays.asList("a", "b", "c")
+            .forEach(c)).writeTo(output);
+
+        result = mapper.readTree(output.toString(StandardCharsets.UTF_8.name()));
+
+        Assertions.assertEquals(3, result.get("elementsInPage")
+            .asInt());
+        Assertions.assertEquals(3, result.get("totalElements")
+            .asLong());
+        Assertions.assertEquals(1, result.get("totalPages")
+            .asInt());
+        Assertions.assertTrue(result.get("first")
+            .asBoolean());
+        Assertions.assertTrue(result.get("last")
+            .asBoolean());
+    }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package Spring_boot_web.I_dont_know.test.response.unit.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Spring_boot_web.I_dont_know.response.stream.NdJsonStreamingResponseBody;
+
+@DisplayName("NDJSON streaming response body")
+public class TestNdJsonStreamingResponseBody {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public TestNdJsonStreamingResponseBody() {
+        super();
+    }
+
+    @Test
+    @DisplayName("Writes each element in its own line")
+    public void testWriteTo_Lines() throws Exception {
+        final ByteArrayOutputStream output;
+        final String                result;
+
+        output = new ByteArrayOutputStream();
+
+        new NdJsonStreamingResponseBody<String>(mapper, String.class, c -> Arrays.asList("a", "b", "c")
+            .forEach(c)).writeTo(output);
+
+        result = output.toString(StandardCharsets.UTF_8.name());
+
+        Assertions.assertEquals("\"a\"\n\"b\"\n\"c\"\n", result);
+    }
+
+}
@@ -44,11 +44,15 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import Spring_boot_web.I_dont_know.domain.controller.ExampleEntityController;
 import Spring_boot_web.I_dont_know.domain.model.DefaultExampleEntity;
 import Spring_boot_web.I_dont_know.domain.model.ExampleEntity;
+import Spring_boot_web.I_dont_know.domain.repository.ExampleEntityRepository;
 import Spring_boot_web.I_dont_know.domain.service.ExampleEntityService;
+import Spring_boot_web.I_dont_know.importing.service.EntityNameValidator;
+import Spring_boot_web.I_dont_know.pagination.argument.PageQueryArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.argument.PaginationArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.argument.SortArgumentResolver;
 import Spring_boot_web.I_dont_know.pagination.model.DefaultPageIterable;
 import Spring_boot_web.I_dont_know.pagination.model.PageIterable;
+import Spring_boot_web.I_dont_know.pagination.query.PageQuery;
 import Spring_boot_web.I_dont_know.response.controller.ResponseAdvice;
 import Spring_boot_web.I_dont_know.test.config.UrlConfig;
 
@@ -66,7 +70,7 @@ public final class TestExampleEntityController {
         mockMvc = MockMvcBuilders.standaloneSetup(getController())
             .setControllerAdvice(ResponseAdvice.class)
             .setCustomArgumentResolvers(new PaginationArgumentResolver(),
-                new SortArgumentResolver())
+                new SortArgumentResolver(), new PageQueryArgumentResolver())
             .alwaysExpect(MockMvcResultMatchers.status()
                 .isOk())
             .alwaysExpect(MockMvcResultMatchers.content()
@@ -115,8 +119,11 @@ public final class TestExampleEntityController {
             .when(
                 service.getAll(ArgumentMatchers.any(), ArgumentMatchers.any()))
             .thenReturn((PageIterable) pageIterable);
+        Mockito.when(service.getAll(ArgumentMatchers.any(PageQuery.class)))
+            .thenReturn((PageIterable) pageIterable);
 
-        return new ExampleEntityController(service);
+        return new ExampleEntityController(service,
+            new EntityNameValidator(Mockito.mock(ExampleEntityRepository.class)), 1000);
     }
 
     /**